@@ -0,0 +1,68 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.AnonymousIdAllocator;
+import org.spdx.library.model.v2.Checksum;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.storage.IModelStore.IdType;
+
+/**
+ * Anonymous ID generation from several threads directly from the model store compared to the
+ * per-thread blocks of the {@link AnonymousIdAllocator}
+ *
+ * @author Gary O'Neall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+public class AnonymousIdBenchmark {
+
+	static final String SHA1 = "0123456789abcdef0123456789abcdef01234567";
+
+	InMemoryModelStore modelStore;
+	SpdxDocument document;
+
+	@Setup
+	public void setUp() throws InvalidSPDXAnalysisException {
+		SyntheticDocument synthetic = new SyntheticDocument(0);
+		modelStore = synthetic.getModelStore();
+		document = synthetic.getDocument();
+	}
+
+	@Benchmark
+	public String storeNextId() throws InvalidSPDXAnalysisException {
+		return modelStore.getNextId(IdType.Anonymous);
+	}
+
+	@Benchmark
+	public String allocatorNextId() throws InvalidSPDXAnalysisException {
+		return AnonymousIdAllocator.nextId(modelStore);
+	}
+
+	@Benchmark
+	public Checksum createChecksum() throws InvalidSPDXAnalysisException {
+		return document.createChecksum(ChecksumAlgorithm.SHA1, SHA1);
+	}
+}
@@ -0,0 +1,118 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.PropertyDescriptor;
+import org.spdx.storage.compatv2.CachingModelStoreWrapper;
+import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
+
+/**
+ * Document URI / ID translation in the {@link CompatibleModelStoreWrapper}
+ * 
+ * <code>baseStoreGetValue</code> reads the same property directly from the wrapped store and is the
+ * baseline for the overloads taking a document URI and ID.  <code>cachingWrapperGetValue</code> reads
+ * it through a {@link CachingModelStoreWrapper}.  Each invocation uses the next file of the document, cycling
+ * through all of its files, so the benchmarks include the effect of the document size on the caches.
+ * 
+ * @author Gary O'Neall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CompatibleModelStoreWrapperBenchmark {
+	
+	@Param({"1000", "10000", "100000", "1000000"})
+	int fileCount;
+	
+	IModelStore baseStore;
+	CompatibleModelStoreWrapper wrapper;
+	CachingModelStoreWrapper cachingWrapper;
+	String[] fileIds;
+	String[] fileObjectUris;
+	int nextFile = 0;
+	
+	@Setup
+	public void setUp() throws InvalidSPDXAnalysisException {
+		SyntheticDocument document = new SyntheticDocument(fileCount);
+		baseStore = document.getModelStore();
+		wrapper = new CompatibleModelStoreWrapper(baseStore);
+		cachingWrapper = new CachingModelStoreWrapper(baseStore);
+		List<SpdxFile> files = document.getFiles();
+		fileIds = new String[files.size()];
+		fileObjectUris = new String[files.size()];
+		for (int i = 0; i < fileIds.length; i++) {
+			fileIds[i] = files.get(i).getId();
+			fileObjectUris[i] = files.get(i).getObjectUri();
+		}
+	}
+	
+	/**
+	 * @return index of the next file to use
+	 */
+	private int nextFile() {
+		int retval = nextFile++;
+		if (nextFile >= fileIds.length) {
+			nextFile = 0;
+		}
+		return retval;
+	}
+	
+	@Benchmark
+	public String documentUriIdToUri() {
+		return CompatibleModelStoreWrapper.documentUriIdToUri(SyntheticDocument.DOCUMENT_URI, fileIds[nextFile()], baseStore);
+	}
+	
+	@Benchmark
+	public String objectUriToId() throws InvalidSPDXAnalysisException {
+		return CompatibleModelStoreWrapper.objectUriToId(baseStore, fileObjectUris[nextFile()], SyntheticDocument.DOCUMENT_URI);
+	}
+	
+	@Benchmark
+	public PropertyDescriptor propNameToPropDescriptor() {
+		return CompatibleModelStoreWrapper.propNameToPropDescriptor(SpdxConstantsCompatV2.PROP_FILE_NAME.getName());
+	}
+	
+	@Benchmark
+	public Optional<Object> getValueByPropertyName() throws InvalidSPDXAnalysisException {
+		return wrapper.getValue(SyntheticDocument.DOCUMENT_URI, fileIds[nextFile()], SpdxConstantsCompatV2.PROP_FILE_NAME.getName());
+	}
+	
+	@Benchmark
+	public Optional<Object> getValueByPropertyDescriptor() throws InvalidSPDXAnalysisException {
+		return wrapper.getValue(SyntheticDocument.DOCUMENT_URI, fileIds[nextFile()], SpdxConstantsCompatV2.PROP_FILE_NAME);
+	}
+	
+	@Benchmark
+	public Optional<Object> baseStoreGetValue() throws InvalidSPDXAnalysisException {
+		return baseStore.getValue(fileObjectUris[nextFile()], SpdxConstantsCompatV2.PROP_FILE_NAME);
+	}
+	
+	@Benchmark
+	public Optional<Object> cachingWrapperGetValue() throws InvalidSPDXAnalysisException {
+		return cachingWrapper.getValue(fileObjectUris[nextFile()], SpdxConstantsCompatV2.PROP_FILE_NAME);
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.ChecksumValue;
+import org.spdx.library.model.v2.SpdxDocumentIndex;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+
+/**
+ * Lookup of a file by SHA1 using the document index compared to a scan of the package files
+ *
+ * @author Gary O'Neall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DocumentIndexBenchmark {
+
+	@Param({"1000", "10000", "100000", "1000000"})
+	int fileCount;
+
+	SyntheticDocument document;
+	SpdxDocumentIndex index;
+	String sha1;
+	ChecksumValue sha1Value;
+
+	@Setup
+	public void setUp() throws InvalidSPDXAnalysisException {
+		document = new SyntheticDocument(fileCount);
+		index = SpdxDocumentIndex.build(document.getDocument());
+		sha1 = String.format("%040x", fileCount / 2);
+		sha1Value = ChecksumValue.fromHex(sha1);
+	}
+
+	@TearDown
+	public void tearDown() {
+		index.close();
+	}
+
+	@Benchmark
+	public Set<String> indexLookup() {
+		return index.getIdsByChecksum(ChecksumAlgorithm.SHA1, sha1Value);
+	}
+
+	@Benchmark
+	public String scanLookup() throws InvalidSPDXAnalysisException {
+		for (SpdxFile file:document.getPackage().getFiles()) {
+			if (sha1.equals(file.getSha1())) {
+				return file.getId();
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,79 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.SpdxFile;
+
+/**
+ * Verification of a complete synthetic document
+ * 
+ * @author Gary O'Neall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DocumentVerifyBenchmark {
+	
+	@Param({"1000", "10000", "100000", "1000000"})
+	int fileCount;
+	
+	SpdxDocument document;
+	SpdxFile changedFile;
+	int changeCount = 0;
+	ForkJoinPool pool;
+	
+	@Setup
+	public void setUp() throws InvalidSPDXAnalysisException {
+		SyntheticDocument synthetic = new SyntheticDocument(fileCount);
+		document = synthetic.getDocument();
+		changedFile = synthetic.getFiles().get(0);
+		pool = new ForkJoinPool();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+	
+	@Benchmark
+	public List<String> verify() {
+		return document.verify();
+	}
+	
+	@Benchmark
+	public List<String> verifyParallel() {
+		return document.verifyParallel(pool);
+	}
+	
+	/**
+	 * Re-verification after changing a single file
+	 */
+	@Benchmark
+	public List<String> verifyIncremental() throws InvalidSPDXAnalysisException {
+		changedFile.setComment("Changed " + changeCount++);
+		return document.verifyIncremental();
+	}
+}
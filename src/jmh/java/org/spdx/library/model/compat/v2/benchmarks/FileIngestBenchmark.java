@@ -0,0 +1,93 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.ChecksumValue;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.library.model.v2.SpdxFileIngester;
+import org.spdx.library.model.v2.SpdxFileIngester.FileDescriptor;
+import org.spdx.library.model.v2.SpdxPackage;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.enumerations.FileType;
+import org.spdx.library.model.v2.license.AnyLicenseInfo;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.storage.IModelStore.IdType;
+
+/**
+ * Adding files to an empty package with the file builder compared to the streaming file ingester
+ *
+ * @author Gary O'Neall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FileIngestBenchmark {
+
+	@Param({"10000", "100000", "1000000"})
+	int fileCount;
+
+	SyntheticDocument document;
+
+	@Setup(Level.Invocation)
+	public void setUp() throws InvalidSPDXAnalysisException {
+		document = new SyntheticDocument(0);
+	}
+
+	private static ChecksumValue sha1(int i) {
+		return ChecksumValue.fromBytes(ByteBuffer.allocate(20).putInt(16, i).array());
+	}
+
+	@Benchmark
+	public SpdxPackage builder() throws InvalidSPDXAnalysisException {
+		SpdxDocument doc = document.getDocument();
+		SpdxPackage spdxPackage = document.getPackage();
+		AnyLicenseInfo noAssertion = new SpdxNoAssertionLicense(document.getModelStore(), doc.getDocumentUri());
+		for (int i = 0; i < fileCount; i++) {
+			SpdxFile file = doc.createSpdxFile(document.getModelStore().getNextId(IdType.SpdxId), "./src/file" + i + ".c",
+						noAssertion, Arrays.asList(noAssertion), "NOASSERTION", doc.createChecksum(ChecksumAlgorithm.SHA1, sha1(i)))
+					.setFileTypes(Arrays.asList(FileType.SOURCE))
+					.build();
+			spdxPackage.addFile(file);
+		}
+		return spdxPackage;
+	}
+
+	@Benchmark
+	public long ingest() throws InvalidSPDXAnalysisException {
+		return new SpdxFileIngester(document.getPackage())
+				.ingest(IntStream.range(0, fileCount).mapToObj(i ->
+					new FileDescriptor("./src/file" + i + ".c", sha1(i)).addFileType(FileType.SOURCE)));
+	}
+
+	@Benchmark
+	public long ingestAssumeUnique() throws InvalidSPDXAnalysisException {
+		return new SpdxFileIngester(document.getPackage())
+				.setAssumeUnique(true)
+				.ingest(IntStream.range(0, fileCount).mapToObj(i ->
+					new FileDescriptor("./src/file" + i + ".c", sha1(i)).addFileType(FileType.SOURCE)));
+	}
+}
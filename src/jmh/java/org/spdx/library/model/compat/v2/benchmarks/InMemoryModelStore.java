@@ -0,0 +1,264 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.SpdxIdNotFoundException;
+import org.spdx.core.TypedValue;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * Thread safe in-memory model store used by the benchmarks
+ * 
+ * Unlike the mock store used in the unit tests, collection membership checks are constant time
+ * so that the cost of building large synthetic documents does not dominate the benchmark setup.
+ * 
+ * @author Gary O'Neall
+ */
+public class InMemoryModelStore implements IModelStore {
+	
+	static final String ANON_PREFIX = "__anon__";
+	
+	/**
+	 * Collection of property values which keeps insertion order and supports constant time contains
+	 */
+	static class ValueCollection {
+		List<Object> values = new ArrayList<>();
+		Map<Object, Integer> counts = new HashMap<>();
+		
+		synchronized boolean add(Object value) {
+			values.add(value);
+			counts.merge(value, 1, Integer::sum);
+			return true;
+		}
+		
+		synchronized boolean remove(Object value) {
+			if (!values.remove(value)) {
+				return false;
+			}
+			counts.computeIfPresent(value, (key, count) -> count > 1 ? count - 1 : null);
+			return true;
+		}
+		
+		synchronized boolean contains(Object value) {
+			return counts.containsKey(value);
+		}
+		
+		synchronized int size() {
+			return values.size();
+		}
+		
+		synchronized void clear() {
+			values.clear();
+			counts.clear();
+		}
+		
+		synchronized Iterator<Object> iterator() {
+			return Collections.unmodifiableList(new ArrayList<>(values)).iterator();
+		}
+	}
+	
+	private final Map<String, TypedValue> typedValues = new ConcurrentHashMap<>();
+	private final Map<String, Map<PropertyDescriptor, Object>> values = new ConcurrentHashMap<>();
+	private final AtomicLong nextId = new AtomicLong();
+	private final ReadWriteLock transactionLock = new ReentrantReadWriteLock();
+	
+	private Map<PropertyDescriptor, Object> getProperties(String objectUri) throws InvalidSPDXAnalysisException {
+		Map<PropertyDescriptor, Object> retval = values.get(objectUri);
+		if (Objects.isNull(retval)) {
+			throw new SpdxIdNotFoundException(objectUri + " not found");
+		}
+		return retval;
+	}
+	
+	private ValueCollection getCollection(String objectUri, PropertyDescriptor propertyDescriptor, boolean create) throws InvalidSPDXAnalysisException {
+		Map<PropertyDescriptor, Object> properties = getProperties(objectUri);
+		Object value = create ? properties.computeIfAbsent(propertyDescriptor, key -> new ValueCollection()) :
+				properties.get(propertyDescriptor);
+		if (Objects.isNull(value)) {
+			return null;
+		}
+		if (!(value instanceof ValueCollection)) {
+			throw new InvalidSPDXAnalysisException("Property "+propertyDescriptor+" is not a collection");
+		}
+		return (ValueCollection)value;
+	}
+
+	@Override
+	public void close() throws Exception {
+		// Nothing to close
+	}
+
+	@Override
+	public boolean exists(String objectUri) {
+		return typedValues.containsKey(objectUri);
+	}
+
+	@Override
+	public void create(TypedValue typedValue) throws InvalidSPDXAnalysisException {
+		typedValues.put(typedValue.getObjectUri(), typedValue);
+		values.putIfAbsent(typedValue.getObjectUri(), new ConcurrentHashMap<>());
+	}
+
+	@Override
+	public List<PropertyDescriptor> getPropertyValueDescriptors(String objectUri) throws InvalidSPDXAnalysisException {
+		return new ArrayList<>(getProperties(objectUri).keySet());
+	}
+
+	@Override
+	public void setValue(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		getProperties(objectUri).put(propertyDescriptor, value);
+	}
+
+	@Override
+	public Optional<Object> getValue(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return Optional.ofNullable(getProperties(objectUri).get(propertyDescriptor));
+	}
+
+	@Override
+	public String getNextId(IdType idType) throws InvalidSPDXAnalysisException {
+		switch (idType) {
+			case Anonymous: return ANON_PREFIX + nextId.getAndIncrement();
+			case LicenseRef: return SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM + nextId.getAndIncrement();
+			case DocumentRef: return SpdxConstantsCompatV2.EXTERNAL_DOC_REF_PRENUM + nextId.getAndIncrement();
+			case SpdxId: return SpdxConstantsCompatV2.SPDX_ELEMENT_REF_PRENUM + nextId.getAndIncrement();
+			default: throw new InvalidSPDXAnalysisException("Unsupported ID type for next ID: "+idType.toString());
+		}
+	}
+
+	@Override
+	public void removeProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		getProperties(objectUri).remove(propertyDescriptor);
+	}
+
+	@Override
+	public Stream<TypedValue> getAllItems(String nameSpace, String typeFilter) throws InvalidSPDXAnalysisException {
+		return typedValues.values().stream()
+				.filter(tv -> (Objects.isNull(typeFilter) || typeFilter.equals(tv.getType())) &&
+						(Objects.isNull(nameSpace) || tv.getObjectUri().startsWith(nameSpace)))
+				.collect(Collectors.toList()).stream();
+	}
+
+	@Override
+	public IModelStoreLock enterCriticalSection(boolean readLockRequested) throws InvalidSPDXAnalysisException {
+		if (readLockRequested) {
+			transactionLock.readLock().lock();
+			return () -> transactionLock.readLock().unlock();
+		} else {
+			transactionLock.writeLock().lock();
+			return () -> transactionLock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void leaveCriticalSection(IModelStoreLock lock) {
+		lock.unlock();
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		ValueCollection collection = getCollection(objectUri, propertyDescriptor, false);
+		return Objects.nonNull(collection) && collection.remove(value);
+	}
+
+	@Override
+	public int collectionSize(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		ValueCollection collection = getCollection(objectUri, propertyDescriptor, false);
+		return Objects.isNull(collection) ? 0 : collection.size();
+	}
+
+	@Override
+	public boolean collectionContains(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		ValueCollection collection = getCollection(objectUri, propertyDescriptor, false);
+		return Objects.nonNull(collection) && collection.contains(value);
+	}
+
+	@Override
+	public void clearValueCollection(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		ValueCollection collection = getCollection(objectUri, propertyDescriptor, false);
+		if (Objects.nonNull(collection)) {
+			collection.clear();
+		}
+	}
+
+	@Override
+	public boolean addValueToCollection(String objectUri, PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		return getCollection(objectUri, propertyDescriptor, true).add(value);
+	}
+
+	@Override
+	public Iterator<Object> listValues(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		ValueCollection collection = getCollection(objectUri, propertyDescriptor, false);
+		return Objects.isNull(collection) ? Collections.emptyIterator() : collection.iterator();
+	}
+
+	@Override
+	public boolean isCollectionMembersAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor, Class<?> clazz) throws InvalidSPDXAnalysisException {
+		return true;
+	}
+
+	@Override
+	public boolean isPropertyValueAssignableTo(String objectUri, PropertyDescriptor propertyDescriptor, Class<?> clazz, String specVersion) throws InvalidSPDXAnalysisException {
+		return true;
+	}
+
+	@Override
+	public boolean isCollectionProperty(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		return getProperties(objectUri).get(propertyDescriptor) instanceof ValueCollection;
+	}
+
+	@Override
+	public IdType getIdType(String objectUri) {
+		if (isAnon(objectUri)) {
+			return IdType.Anonymous;
+		} else if (objectUri.contains(SpdxConstantsCompatV2.NON_STD_LICENSE_ID_PRENUM)) {
+			return IdType.LicenseRef;
+		} else if (objectUri.contains(SpdxConstantsCompatV2.EXTERNAL_DOC_REF_PRENUM)) {
+			return IdType.DocumentRef;
+		} else if (objectUri.contains(SpdxConstantsCompatV2.SPDX_ELEMENT_REF_PRENUM)) {
+			return IdType.SpdxId;
+		} else {
+			return IdType.Unkown;
+		}
+	}
+
+	@Override
+	public Optional<String> getCaseSensisitiveId(String nameSpace, String caseInsensisitiveId) {
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<TypedValue> getTypedValue(String objectUri) throws InvalidSPDXAnalysisException {
+		return Optional.ofNullable(typedValues.get(objectUri));
+	}
+
+	@Override
+	public void delete(String objectUri) throws InvalidSPDXAnalysisException {
+		typedValues.remove(objectUri);
+		values.remove(objectUri);
+	}
+
+	@Override
+	public boolean isAnon(String objectUri) {
+		return objectUri.startsWith(ANON_PREFIX);
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.license.AnyLicenseInfo;
+import org.spdx.library.model.v2.license.ConjunctiveLicenseSet;
+import org.spdx.library.model.v2.license.ExtractedLicenseInfo;
+import org.spdx.storage.IModelStore.IdType;
+
+/**
+ * Hashing and comparison of conjunctive license sets
+ * 
+ * The two sets compared contain the same members, one of them split into a nested conjunctive set
+ * and in a different order, so that the comparison has to flatten both sets.
+ * 
+ * @author Gary O'Neall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LicenseSetBenchmark {
+	
+	@Param({"2", "10", "100"})
+	int memberCount;
+	
+	ConjunctiveLicenseSet licenseSet;
+	ConjunctiveLicenseSet equivalentLicenseSet;
+	
+	@Setup
+	public void setUp() throws InvalidSPDXAnalysisException {
+		SyntheticDocument synthetic = new SyntheticDocument(0);
+		SpdxDocument document = synthetic.getDocument();
+		List<AnyLicenseInfo> members = new ArrayList<>();
+		for (int i = 0; i < memberCount; i++) {
+			ExtractedLicenseInfo license = new ExtractedLicenseInfo(synthetic.getModelStore(), SyntheticDocument.DOCUMENT_URI,
+					synthetic.getModelStore().getNextId(IdType.LicenseRef), synthetic.getCopyManager(), true);
+			license.setExtractedText("License text " + i);
+			members.add(license);
+		}
+		licenseSet = document.createConjunctiveLicenseSet(members);
+		List<AnyLicenseInfo> reversed = new ArrayList<>(members);
+		Collections.reverse(reversed);
+		int split = reversed.size() / 2;
+		List<AnyLicenseInfo> equivalentMembers = new ArrayList<>(reversed.subList(0, split));
+		equivalentMembers.add(document.createConjunctiveLicenseSet(new ArrayList<>(reversed.subList(split, reversed.size()))));
+		equivalentLicenseSet = document.createConjunctiveLicenseSet(equivalentMembers);
+	}
+	
+	@Benchmark
+	public int licenseSetHashCode() {
+		return licenseSet.hashCode();
+	}
+	
+	@Benchmark
+	public boolean licenseSetEquals() {
+		return licenseSet.equals(equivalentLicenseSet);
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.core.IModelCopyManager;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.ModelObjectV2;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.library.model.v2.SpdxModelFactoryCompatV2;
+import org.spdx.storage.IModelStore;
+
+/**
+ * Materialization of model objects through {@link SpdxModelFactoryCompatV2#getModelObjectV2}
+ * 
+ * The <code>reflectiveConstructor</code> benchmark reproduces the constructor lookup the factory
+ * used before constructor handles were resolved at class initialization and serves as the baseline.
+ * Each invocation materializes the next file of the document, cycling through all of its files.
+ * 
+ * @author Gary O'Neall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ModelFactoryBenchmark {
+	
+	@Param({"1000", "10000", "100000", "1000000"})
+	int fileCount;
+	
+	IModelStore modelStore;
+	IModelCopyManager copyManager;
+	String[] fileIds;
+	int nextFile = 0;
+	
+	@Setup
+	public void setUp() throws InvalidSPDXAnalysisException {
+		SyntheticDocument document = new SyntheticDocument(fileCount);
+		modelStore = document.getModelStore();
+		copyManager = document.getCopyManager();
+		List<SpdxFile> files = document.getFiles();
+		fileIds = new String[files.size()];
+		for (int i = 0; i < fileIds.length; i++) {
+			fileIds[i] = files.get(i).getId();
+		}
+	}
+	
+	private String nextFileId() {
+		String retval = fileIds[nextFile++];
+		if (nextFile >= fileIds.length) {
+			nextFile = 0;
+		}
+		return retval;
+	}
+	
+	@Benchmark
+	public ModelObjectV2 getModelObjectV2WithType() throws InvalidSPDXAnalysisException {
+		return SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, SyntheticDocument.DOCUMENT_URI, nextFileId(), 
+				SpdxConstantsCompatV2.CLASS_SPDX_FILE, copyManager, false);
+	}
+	
+	@Benchmark
+	public Optional<ModelObjectV2> getModelObjectV2WithoutType() throws InvalidSPDXAnalysisException {
+		return SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, SyntheticDocument.DOCUMENT_URI, nextFileId(), copyManager);
+	}
+	
+	@Benchmark
+	public ModelObjectV2 reflectiveConstructor() throws ReflectiveOperationException {
+		Class<?> clazz = SpdxModelFactoryCompatV2.SPDX_TYPE_TO_CLASS_V2.get(SpdxConstantsCompatV2.CLASS_SPDX_FILE);
+		return (ModelObjectV2)clazz.getDeclaredConstructor(IModelStore.class, String.class, String.class, IModelCopyManager.class, boolean.class)
+				.newInstance(modelStore, SyntheticDocument.DOCUMENT_URI, nextFileId(), copyManager, false);
+	}
+}
@@ -0,0 +1,79 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.library.model.v2.SpdxPackage;
+import org.spdx.storage.IModelStore.IdType;
+
+/**
+ * Access to the files of a package through the {@link org.spdx.library.model.v2.RelatedElementCollection}
+ * returned by {@link SpdxPackage#getFiles()}
+ * 
+ * @author Gary O'Neall
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PackageFilesBenchmark {
+	
+	@Param({"1000", "10000", "100000", "1000000"})
+	int fileCount;
+	
+	SpdxPackage spdxPackage;
+	SpdxFile lastFile;
+	SpdxFile unrelatedFile;
+	
+	@Setup
+	public void setUp() throws InvalidSPDXAnalysisException {
+		SyntheticDocument document = new SyntheticDocument(fileCount);
+		spdxPackage = document.getPackage();
+		lastFile = document.getFiles().get(fileCount - 1);
+		unrelatedFile = document.getDocument().createSpdxFile(document.getModelStore().getNextId(IdType.SpdxId),
+					"./unrelated.c", lastFile.getLicenseConcluded(), lastFile.getLicenseInfoFromFiles(), 
+					"NOASSERTION", lastFile.getChecksums().iterator().next())
+				.build();
+	}
+	
+	@Benchmark
+	public void iterateFiles(Blackhole blackhole) throws InvalidSPDXAnalysisException {
+		for (SpdxFile file:spdxPackage.getFiles()) {
+			blackhole.consume(file);
+		}
+	}
+	
+	@Benchmark
+	public int filesSize() throws InvalidSPDXAnalysisException {
+		return spdxPackage.getFiles().size();
+	}
+	
+	@Benchmark
+	public boolean containsLastFile() throws InvalidSPDXAnalysisException {
+		return spdxPackage.getFiles().contains(lastFile);
+	}
+	
+	@Benchmark
+	public boolean containsUnrelatedFile() throws InvalidSPDXAnalysisException {
+		return spdxPackage.getFiles().contains(unrelatedFile);
+	}
+}
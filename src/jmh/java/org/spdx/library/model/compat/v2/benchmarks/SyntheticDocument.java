@@ -0,0 +1,148 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.spdx.core.DefaultModelStore;
+import org.spdx.core.IModelCopyManager;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelRegistry;
+import org.spdx.library.model.compat.v2.MockCopyManager;
+import org.spdx.library.model.v2.Checksum;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.library.model.v2.SpdxModelFactoryCompatV2;
+import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.library.model.v2.SpdxPackage;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.enumerations.FileType;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+import org.spdx.library.model.v2.license.AnyLicenseInfo;
+import org.spdx.library.model.v2.license.ExtractedLicenseInfo;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.storage.IModelStore.IdType;
+
+/**
+ * Synthetic SPDX document with a single package containing a configurable number of files
+ * 
+ * All files share the same concluded and seen licenses, so the document resembles the output of
+ * a source scanner run over a large code base.  Optionally, all files also depend on the same library
+ * package which is not described by the document.
+ * 
+ * @author Gary O'Neall
+ */
+public class SyntheticDocument {
+	
+	public static final String DOCUMENT_URI = "http://spdx.org/spdxdocs/benchmark-document";
+	
+	private final InMemoryModelStore modelStore;
+	private final IModelCopyManager copyManager;
+	private final SpdxDocument document;
+	private final SpdxPackage spdxPackage;
+	private final List<SpdxFile> files;
+	
+	/**
+	 * Create a new document in a fresh in-memory model store
+	 * @param fileCount number of files contained in the package
+	 * @throws InvalidSPDXAnalysisException on errors creating the document
+	 */
+	public SyntheticDocument(int fileCount) throws InvalidSPDXAnalysisException {
+		this(fileCount, false);
+	}
+	
+	/**
+	 * Create a new document in a fresh in-memory model store
+	 * @param fileCount number of files contained in the package
+	 * @param sharedDependency if true, each file has a DEPENDS_ON relationship to the same library package
+	 * @throws InvalidSPDXAnalysisException on errors creating the document
+	 */
+	public SyntheticDocument(int fileCount, boolean sharedDependency) throws InvalidSPDXAnalysisException {
+		modelStore = new InMemoryModelStore();
+		copyManager = new MockCopyManager();
+		ModelRegistry.getModelRegistry().registerModel(new SpdxModelInfoV2_X());
+		DefaultModelStore.initialize(modelStore, DOCUMENT_URI, copyManager);
+		document = SpdxModelFactoryCompatV2.createSpdxDocumentV2(modelStore, DOCUMENT_URI, copyManager);
+		document.setName("Benchmark Document");
+		ExtractedLicenseInfo extractedLicense = new ExtractedLicenseInfo(modelStore, DOCUMENT_URI, 
+				modelStore.getNextId(IdType.LicenseRef), copyManager, true);
+		extractedLicense.setExtractedText("Synthetic license text");
+		extractedLicense.setName("Synthetic License");
+		document.addExtractedLicenseInfos(extractedLicense);
+		AnyLicenseInfo noAssertion = new SpdxNoAssertionLicense(modelStore, DOCUMENT_URI);
+		List<AnyLicenseInfo> seenLicenses = Collections.singletonList(extractedLicense);
+		
+		spdxPackage = document.createPackage(modelStore.getNextId(IdType.SpdxId), "Benchmark Package", 
+					extractedLicense, "Copyright (c) Benchmark", extractedLicense)
+				.setDownloadLocation("https://github.com/spdx/spdx-java-model-2_X")
+				.setLicenseInfosFromFile(seenLicenses)
+				.setPackageVerificationCode(document.createPackageVerificationCode(
+						"0000e1c67a2d28fced849ee1bb76e7391b93eb12", new ArrayList<>()))
+				.setSupplier("Organization: SPDX")
+				.setVersionInfo("1.0")
+				.build();
+		document.getDocumentDescribes().add(spdxPackage);
+		SpdxPackage library = null;
+		if (sharedDependency) {
+			library = document.createPackage(modelStore.getNextId(IdType.SpdxId), "Benchmark Library", 
+						extractedLicense, "Copyright (c) Benchmark", extractedLicense)
+					.setDownloadLocation("https://github.com/spdx/spdx-java-library")
+					.setFilesAnalyzed(false)
+					.build();
+		}
+		
+		files = new ArrayList<>(fileCount);
+		for (int i = 0; i < fileCount; i++) {
+			Checksum sha1 = document.createChecksum(ChecksumAlgorithm.SHA1, String.format("%040x", i));
+			SpdxFile file = document.createSpdxFile(modelStore.getNextId(IdType.SpdxId), "./src/file" + i + ".c", 
+						noAssertion, seenLicenses, "Copyright (c) Benchmark", sha1)
+					.setFileTypes(Arrays.asList(FileType.SOURCE))
+					.build();
+			if (sharedDependency) {
+				file.addRelationship(document.createRelationship(library, RelationshipType.DEPENDS_ON, null));
+			}
+			spdxPackage.addFile(file);
+			files.add(file);
+		}
+	}
+
+	/**
+	 * @return the model store containing the document
+	 */
+	public InMemoryModelStore getModelStore() {
+		return modelStore;
+	}
+
+	/**
+	 * @return the copy manager used when creating the document
+	 */
+	public IModelCopyManager getCopyManager() {
+		return copyManager;
+	}
+
+	/**
+	 * @return the SPDX document
+	 */
+	public SpdxDocument getDocument() {
+		return document;
+	}
+
+	/**
+	 * @return the package described by the document
+	 */
+	public SpdxPackage getPackage() {
+		return spdxPackage;
+	}
+
+	/**
+	 * @return the files contained in the package in creation order
+	 */
+	public List<SpdxFile> getFiles() {
+		return files;
+	}
+}
@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -212,7 +211,7 @@ public class Annotation extends ModelObjectV2 implements Comparable<Annotation>
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<String>();
+		VerificationMessages retval = new VerificationMessages();
 		try {
 			if (AnnotationType.MISSING.equals(getAnnotationType())) {
 				retval.add("Missing annotationtype for Annotation");
@@ -224,7 +223,7 @@ public class Annotation extends ModelObjectV2 implements Comparable<Annotation>
 			String annotator = getAnnotator();
 			String v = SpdxVerificationHelper.verifyAnnotator(annotator);
 			if (v != null && !v.isEmpty()) {
-				retval.add(v + ":" + annotator);
+				retval.add(VerificationRule.ANNOTATOR, v + ":" + annotator);
 			}
 		} catch (InvalidSPDXAnalysisException e) {
 			retval.add("Error getting annotator for Annotation: "+e.getMessage());
@@ -243,7 +242,7 @@ public class Annotation extends ModelObjectV2 implements Comparable<Annotation>
 			} else {
 				String dateVerify = SpdxVerificationHelper.verifyDate(date);
 				if (dateVerify != null && !dateVerify.isEmpty()) {
-					retval.add(dateVerify);
+					retval.add(VerificationRule.DATE, dateVerify);
 				}
 			}
 		} catch (InvalidSPDXAnalysisException e) {
@@ -253,6 +252,11 @@ public class Annotation extends ModelObjectV2 implements Comparable<Annotation>
 		return retval;
 	}
 
+	@Override
+	protected boolean isVerificationShareable() {
+		return true;
+	}
+
 	@Override
 	public int compareTo(Annotation o) {
 		try {
@@ -0,0 +1,144 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IdType;
+
+/**
+ * Hands out anonymous IDs from blocks reserved per thread
+ *
+ * Model stores typically generate anonymous IDs from a synchronized counter, which becomes a point of
+ * contention when many threads create checksums, relationships and other anonymous objects.  Instead,
+ * each thread takes a single anonymous ID from the store as the base for a block and hands out
+ * <code>base-0</code>, <code>base-1</code>, ... until the block is used up.  Since the base ID is unique
+ * within the store and the store never generates an ID containing the block suffix, the block IDs are
+ * unique as well.
+ *
+ * Each thread keeps a block for each of the last few model stores it used, matched by the identity of
+ * the store, so alternating between stores - or between a store and a wrapper around it - does not
+ * throw the blocks away.
+ *
+ * If the store does not recognize the block IDs as anonymous (<code>IModelStore.isAnon</code>), IDs
+ * are taken directly from the store.  A block size of 1 disables the blocks.
+ *
+ * @author Gary O'Neall
+ */
+public final class AnonymousIdAllocator {
+
+	static final int DEFAULT_BLOCK_SIZE = 256;
+
+	/**
+	 * Maximum number of model stores each thread keeps a block for
+	 */
+	static final int MAX_STORES_PER_THREAD = 8;
+
+	private static volatile int blockSize = DEFAULT_BLOCK_SIZE;
+
+	/**
+	 * IDs reserved by one thread from one model store
+	 */
+	private static final class Block {
+		final WeakReference<IModelStore> modelStore;
+		final String prefix;
+		final boolean supported;
+		int next = 0;
+		int remaining;
+
+		Block(IModelStore modelStore, String baseId, int size) {
+			this.modelStore = new WeakReference<>(modelStore);
+			this.prefix = baseId + "-";
+			this.supported = modelStore.isAnon(prefix + "0");
+			this.remaining = size;
+		}
+	}
+
+	/**
+	 * Blocks of the current thread ordered from the most to the least recently used store
+	 */
+	private static final ThreadLocal<Block[]> BLOCKS = ThreadLocal.withInitial(() -> new Block[MAX_STORES_PER_THREAD]);
+
+	private AnonymousIdAllocator() {
+		// static methods only
+	}
+
+	/**
+	 * @param modelStore model store the ID is used in
+	 * @return a new anonymous ID which is unique within the model store
+	 * @throws InvalidSPDXAnalysisException on errors getting an ID from the model store
+	 */
+	public static String nextId(IModelStore modelStore) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(modelStore, "Model store can not be null");
+		int size = blockSize;
+		if (size <= 1) {
+			return modelStore.getNextId(IdType.Anonymous);
+		}
+		Block[] blocks = BLOCKS.get();
+		Block block = blockFor(blocks, modelStore);
+		if (Objects.isNull(block) || block.remaining == 0) {
+			block = new Block(modelStore, modelStore.getNextId(IdType.Anonymous), size);
+		}
+		blocks[0] = block;
+		if (!block.supported) {
+			return modelStore.getNextId(IdType.Anonymous);
+		}
+		block.remaining--;
+		return block.prefix + block.next++;
+	}
+
+	/**
+	 * Find the block for a model store and move it to the front of the blocks - the least recently used
+	 * block is dropped to make room at the front if there is no block for the store
+	 * @param blocks blocks of the current thread
+	 * @param modelStore model store
+	 * @return the block for the model store or null if the thread does not have a block for the store
+	 */
+	private static Block blockFor(Block[] blocks, IModelStore modelStore) {
+		int i = 0;
+		Block found = null;
+		for (; i < blocks.length; i++) {
+			if (Objects.isNull(blocks[i])) {
+				break;
+			}
+			if (blocks[i].modelStore.get() == modelStore) {
+				found = blocks[i];
+				break;
+			}
+		}
+		if (i == blocks.length) {
+			i--;
+		}
+		System.arraycopy(blocks, 0, blocks, 1, i);
+		return found;
+	}
+
+	/**
+	 * Release any IDs reserved by the current thread - the unused IDs are not handed out
+	 */
+	public static void release() {
+		BLOCKS.remove();
+	}
+
+	/**
+	 * @param size number of anonymous IDs reserved at a time by each thread - 1 disables the reservation
+	 */
+	public static void setBlockSize(int size) {
+		if (size < 1) {
+			throw new IllegalArgumentException("Block size must be at least 1");
+		}
+		blockSize = size;
+	}
+
+	/**
+	 * @return the number of anonymous IDs reserved at a time by each thread
+	 */
+	public static int getBlockSize() {
+		return blockSize;
+	}
+}
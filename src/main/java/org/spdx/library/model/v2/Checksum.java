@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -106,7 +105,7 @@ public class Checksum extends ModelObjectV2 implements Comparable<Checksum>  {
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		VerificationMessages retval = new VerificationMessages();
 		ChecksumAlgorithm algorithm;
 		try {
 			algorithm = getAlgorithm();
@@ -118,10 +117,9 @@ public class Checksum extends ModelObjectV2 implements Comparable<Checksum>  {
 					if (checksumValue.isEmpty()) {
 						retval.add("Missing required checksum value");
 					} else {
-						String verify = SpdxVerificationHelper.verifyChecksumString(checksumValue, 
-								algorithm, specVersion);
+						String verify = verifyValue(checksumValue, algorithm, specVersion);
 						if (verify != null) {
-							retval.add(verify);
+							retval.add(VerificationRule.CHECKSUM_VALUE, verify);
 						}
 					}
 				} catch (InvalidSPDXAnalysisException e) {
@@ -136,6 +134,11 @@ public class Checksum extends ModelObjectV2 implements Comparable<Checksum>  {
 		return retval;
 	}
 
+	@Override
+	protected boolean isVerificationShareable() {
+		return true;
+	}
+
 	/**
 	 * @return the ChecksumAlgorithm  MISSING denotes that there was no algorithm stored
 	 * @throws InvalidSPDXAnalysisException
@@ -197,7 +200,7 @@ public class Checksum extends ModelObjectV2 implements Comparable<Checksum>  {
 			}
 			ChecksumAlgorithm algorithm = getAlgorithm();
 			if (!ChecksumAlgorithm.MISSING.equals(algorithm)) {
-				String verify = SpdxVerificationHelper.verifyChecksumString(value, algorithm, specVersion);
+				String verify = verifyValue(value, algorithm, specVersion);
 				if (verify != null && !verify.isEmpty()) {
 					throw new InvalidSPDXAnalysisException(verify);
 				}
@@ -206,6 +209,46 @@ public class Checksum extends ModelObjectV2 implements Comparable<Checksum>  {
 		setPropertyValue(SpdxConstantsCompatV2.PROP_CHECKSUM_VALUE, value);
 	}
 	
+	/**
+	 * Set the value from its binary form - this should only be called by factory methods
+	 * @param value binary checksum value
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void setValue(ChecksumValue value) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(value, "Can not set required checksum value to null");
+		String hex = value.toHex();
+		ChecksumValueCache.forStore(getModelStore()).put(hex, value);
+		setValue(hex);
+	}
+	
+	/**
+	 * @return the binary form of the checksum value
+	 * @throws InvalidSPDXAnalysisException if no value is stored or the value is not a valid hex string
+	 */
+	public ChecksumValue getChecksumValue() throws InvalidSPDXAnalysisException {
+		String value = getValue();
+		if (value.isEmpty()) {
+			throw new InvalidSPDXAnalysisException("Missing required checksum value");
+		}
+		ChecksumValue retval = ChecksumValueCache.forStore(getModelStore()).get(value);
+		return Objects.nonNull(retval) ? retval : ChecksumValue.fromHex(value);
+	}
+	
+	/**
+	 * @param value checksum value string
+	 * @param algorithm checksum algorithm
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @return null if valid otherwise a description of the error
+	 */
+	private String verifyValue(String value, ChecksumAlgorithm algorithm, String specVersion) {
+		ChecksumValue parsed = ChecksumValueCache.forStore(getModelStore()).get(value);
+		if (Objects.isNull(parsed)) {
+			// not a valid hex string - the full check describes the error
+			return SpdxVerificationHelper.verifyChecksumString(value, algorithm, specVersion);
+		}
+		return SpdxVerificationHelper.verifyChecksumValue(parsed, algorithm, specVersion);
+	}
+	
 	@Override
 	public String toString() {
 		ChecksumAlgorithm algorithm;
@@ -0,0 +1,305 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.zip.Adler32;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IModelStoreLock;
+
+/**
+ * Calculates checksums for file content and attaches them to SPDX files
+ *
+ * Each file is read once through a file channel into a direct buffer and every requested
+ * algorithm is updated from the same buffer.  Multiple files are read in parallel using a
+ * bounded thread pool.
+ *
+ * The message digest algorithms provided by the JDK and ADLER32 are supported by default.
+ * Other algorithms (e.g. BLAKE3) can be added with <code>registerAlgorithm</code>.
+ *
+ * @author Gary O'Neall
+ */
+public class ChecksumCalculator implements AutoCloseable {
+
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	static final Map<ChecksumAlgorithm, String> JDK_DIGEST_NAMES;
+
+	static {
+		Map<ChecksumAlgorithm, String> digestNames = new EnumMap<>(ChecksumAlgorithm.class);
+		digestNames.put(ChecksumAlgorithm.MD2, "MD2");
+		digestNames.put(ChecksumAlgorithm.MD5, "MD5");
+		digestNames.put(ChecksumAlgorithm.SHA1, "SHA-1");
+		digestNames.put(ChecksumAlgorithm.SHA224, "SHA-224");
+		digestNames.put(ChecksumAlgorithm.SHA256, "SHA-256");
+		digestNames.put(ChecksumAlgorithm.SHA384, "SHA-384");
+		digestNames.put(ChecksumAlgorithm.SHA512, "SHA-512");
+		digestNames.put(ChecksumAlgorithm.SHA3_256, "SHA3-256");
+		digestNames.put(ChecksumAlgorithm.SHA3_384, "SHA3-384");
+		digestNames.put(ChecksumAlgorithm.SHA3_512, "SHA3-512");
+		JDK_DIGEST_NAMES = digestNames;
+	}
+
+	private final Map<ChecksumAlgorithm, Supplier<ChecksumDigester>> digesters = new ConcurrentHashMap<>();
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+	private final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+	/**
+	 * Create a calculator with a thread pool sized to the number of available processors
+	 */
+	public ChecksumCalculator() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Create a calculator with its own thread pool - the pool is shut down by <code>close()</code>
+	 * @param threads maximum number of files read in parallel
+	 */
+	public ChecksumCalculator(int threads) {
+		this(Executors.newFixedThreadPool(threads), true);
+	}
+
+	/**
+	 * @param executor executor used to read files in parallel - not shut down by <code>close()</code>
+	 */
+	public ChecksumCalculator(ExecutorService executor) {
+		this(executor, false);
+	}
+
+	private ChecksumCalculator(ExecutorService executor, boolean ownsExecutor) {
+		Objects.requireNonNull(executor, "Executor can not be null");
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+		for (Entry<ChecksumAlgorithm, String> entry:JDK_DIGEST_NAMES.entrySet()) {
+			String digestName = entry.getValue();
+			try {
+				MessageDigest.getInstance(digestName);
+				digesters.put(entry.getKey(), () -> new MessageDigestDigester(digestName));
+			} catch (NoSuchAlgorithmException e) {
+				// not supported by this JDK - can be added by registerAlgorithm
+			}
+		}
+		digesters.put(ChecksumAlgorithm.ADLER32, Adler32Digester::new);
+	}
+
+	/**
+	 * Register or replace the implementation of a checksum algorithm
+	 * @param algorithm checksum algorithm
+	 * @param digesterSupplier supplies a new digester for each file
+	 */
+	public void registerAlgorithm(ChecksumAlgorithm algorithm, Supplier<ChecksumDigester> digesterSupplier) {
+		Objects.requireNonNull(algorithm, "Algorithm can not be null");
+		Objects.requireNonNull(digesterSupplier, "Digester supplier can not be null");
+		digesters.put(algorithm, digesterSupplier);
+	}
+
+	/**
+	 * @param algorithm checksum algorithm
+	 * @return true if the algorithm can be calculated
+	 */
+	public boolean isSupported(ChecksumAlgorithm algorithm) {
+		return digesters.containsKey(algorithm);
+	}
+
+	/**
+	 * Calculate the checksums for a file in a single pass over its content
+	 * @param file file to read
+	 * @param algorithms algorithms to calculate
+	 * @return map of algorithm to the lower case hex checksum value in the order of the algorithms
+	 * @throws InvalidSPDXAnalysisException if an algorithm is not supported or the file can not be read
+	 */
+	public Map<ChecksumAlgorithm, String> calculate(Path file, Collection<ChecksumAlgorithm> algorithms) throws InvalidSPDXAnalysisException {
+		Map<ChecksumAlgorithm, ChecksumDigester> fileDigesters = new LinkedHashMap<>();
+		for (ChecksumAlgorithm algorithm:algorithms) {
+			Supplier<ChecksumDigester> supplier = digesters.get(algorithm);
+			if (Objects.isNull(supplier)) {
+				throw new InvalidSPDXAnalysisException("Unsupported checksum algorithm "+algorithm);
+			}
+			fileDigesters.put(algorithm, supplier.get());
+		}
+		ByteBuffer buffer = buffers.get();
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			buffer.clear();
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				for (ChecksumDigester digester:fileDigesters.values()) {
+					buffer.rewind();
+					digester.update(buffer);
+				}
+				buffer.clear();
+			}
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("Error reading file "+file+" for checksum calculation", e);
+		}
+		Map<ChecksumAlgorithm, String> retval = new LinkedHashMap<>();
+		for (Entry<ChecksumAlgorithm, ChecksumDigester> entry:fileDigesters.entrySet()) {
+			retval.put(entry.getKey(), entry.getValue().getValue());
+		}
+		return retval;
+	}
+
+	/**
+	 * Calculate the checksums for many files in parallel
+	 * @param files files to read
+	 * @param algorithms algorithms to calculate
+	 * @return map of file to the checksum values for the file in the order of the files
+	 * @throws InvalidSPDXAnalysisException if an algorithm is not supported or a file can not be read
+	 */
+	public Map<Path, Map<ChecksumAlgorithm, String>> calculateAll(Collection<Path> files,
+			Collection<ChecksumAlgorithm> algorithms) throws InvalidSPDXAnalysisException {
+		Map<Path, Future<Map<ChecksumAlgorithm, String>>> futures = new LinkedHashMap<>();
+		for (Path file:files) {
+			futures.put(file, executor.submit(() -> calculate(file, algorithms)));
+		}
+		Map<Path, Map<ChecksumAlgorithm, String>> retval = new LinkedHashMap<>();
+		try {
+			for (Entry<Path, Future<Map<ChecksumAlgorithm, String>>> entry:futures.entrySet()) {
+				retval.put(entry.getKey(), waitFor(entry.getValue()));
+			}
+		} finally {
+			for (Future<Map<ChecksumAlgorithm, String>> future:futures.values()) {
+				future.cancel(true);	// no effect on completed tasks
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Calculate the checksums for the content of each SPDX file and add them to the SPDX files
+	 *
+	 * The checksums are read in parallel, then all checksums are created and added within a single
+	 * critical section of the model store.
+	 * @param contents map of SPDX file to the path of its content
+	 * @param algorithms algorithms to calculate
+	 * @return map of SPDX file to the checksums added
+	 * @throws InvalidSPDXAnalysisException if an algorithm is not supported, a file can not be read, or on store errors
+	 */
+	public Map<SpdxFile, List<Checksum>> addChecksums(Map<SpdxFile, Path> contents,
+			Collection<ChecksumAlgorithm> algorithms) throws InvalidSPDXAnalysisException {
+		Map<Path, Map<ChecksumAlgorithm, String>> values = calculateAll(contents.values(), algorithms);
+		Map<SpdxFile, List<Checksum>> retval = new LinkedHashMap<>();
+		if (contents.isEmpty()) {
+			return retval;
+		}
+		IModelStore modelStore = contents.keySet().iterator().next().getModelStore();
+		IModelStoreLock lock = modelStore.enterCriticalSection(false);
+		try {
+			for (Entry<SpdxFile, Path> entry:contents.entrySet()) {
+				SpdxFile spdxFile = entry.getKey();
+				List<Checksum> checksums = new ArrayList<>();
+				for (Entry<ChecksumAlgorithm, String> value:values.get(entry.getValue()).entrySet()) {
+					checksums.add(spdxFile.createChecksum(value.getKey(), value.getValue()));
+				}
+				spdxFile.getChecksums().addAll(checksums);
+				retval.put(spdxFile, checksums);
+			}
+		} finally {
+			modelStore.leaveCriticalSection(lock);
+		}
+		return retval;
+	}
+
+	/**
+	 * Calculate the checksums for the content of an SPDX file and add them to the SPDX file
+	 * @param spdxFile SPDX file to add the checksums to
+	 * @param content path to the content of the file
+	 * @param algorithms algorithms to calculate
+	 * @return the checksums added
+	 * @throws InvalidSPDXAnalysisException if an algorithm is not supported, the file can not be read, or on store errors
+	 */
+	public List<Checksum> addChecksums(SpdxFile spdxFile, Path content,
+			Collection<ChecksumAlgorithm> algorithms) throws InvalidSPDXAnalysisException {
+		Map<SpdxFile, Path> contents = new LinkedHashMap<>();
+		contents.put(spdxFile, content);
+		return addChecksums(contents, algorithms).get(spdxFile);
+	}
+
+	private static Map<ChecksumAlgorithm, String> waitFor(Future<Map<ChecksumAlgorithm, String>> future) throws InvalidSPDXAnalysisException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InvalidSPDXAnalysisException("Interrupted calculating checksums", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof InvalidSPDXAnalysisException) {
+				throw (InvalidSPDXAnalysisException)e.getCause();
+			}
+			throw new InvalidSPDXAnalysisException("Error calculating checksums", e.getCause());
+		}
+	}
+
+	/**
+	 * Shuts down the thread pool if it was created by this calculator
+	 */
+	@Override
+	public void close() {
+		if (ownsExecutor) {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Digester for algorithms provided by the JDK message digests
+	 */
+	private static class MessageDigestDigester implements ChecksumDigester {
+		private final MessageDigest digest;
+
+		MessageDigestDigester(String digestName) {
+			try {
+				this.digest = MessageDigest.getInstance(digestName);
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException("Message digest "+digestName+" is no longer available", e);
+			}
+		}
+
+		@Override
+		public void update(ByteBuffer buffer) {
+			digest.update(buffer);
+		}
+
+		@Override
+		public String getValue() {
+			return ChecksumValue.toHex(digest.digest());
+		}
+	}
+
+	private static class Adler32Digester implements ChecksumDigester {
+		private final Adler32 adler32 = new Adler32();
+
+		@Override
+		public void update(ByteBuffer buffer) {
+			adler32.update(buffer);
+		}
+
+		@Override
+		public String getValue() {
+			return String.format("%08x", adler32.getValue());
+		}
+	}
+}
@@ -0,0 +1,30 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental calculation of a single checksum value
+ *
+ * Implementations are registered with a <code>ChecksumCalculator</code> to support checksum algorithms
+ * which are not provided by the JDK.  A new digester is created for each file, so implementations
+ * do not need to be thread safe.
+ *
+ * @author Gary O'Neall
+ */
+public interface ChecksumDigester {
+
+	/**
+	 * Update the checksum with the remaining bytes in the buffer - on return the position of the buffer equals its limit
+	 * @param buffer bytes to add to the checksum
+	 */
+	void update(ByteBuffer buffer);
+
+	/**
+	 * @return the checksum value as a lower case hex string - called once after all bytes have been added
+	 */
+	String getValue();
+}
@@ -0,0 +1,209 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+
+/**
+ * Immutable binary form of a checksum value
+ *
+ * A SHA1 value is held in 20 bytes and a SHA256 value in 32 bytes rather than a 40 or 64 character
+ * hex string.  The hex string is validated once when the value is created.  Equality, hash code and
+ * ordering are based on the raw bytes; ordering matches the ordering of the lower case hex strings.
+ *
+ * @author Gary O'Neall
+ */
+public final class ChecksumValue implements Comparable<ChecksumValue> {
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	private static final byte[] HEX_VALUES = new byte[128];
+
+	static {
+		Arrays.fill(HEX_VALUES, (byte)-1);
+		for (int i = 0; i < 10; i++) {
+			HEX_VALUES['0' + i] = (byte)i;
+		}
+		for (int i = 0; i < 6; i++) {
+			HEX_VALUES['a' + i] = (byte)(10 + i);
+			HEX_VALUES['A' + i] = (byte)(10 + i);
+		}
+	}
+
+	private final byte[] value;
+	private int hash;
+
+	private ChecksumValue(byte[] value) {
+		this.value = value;
+	}
+
+	/**
+	 * @param hex hex encoded checksum value - upper or lower case
+	 * @return the checksum value
+	 * @throws InvalidSPDXAnalysisException if the string contains a character which is not a hex digit or has an odd length
+	 */
+	public static ChecksumValue fromHex(CharSequence hex) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(hex, "Hex value can not be null");
+		int length = hex.length();
+		byte[] value = new byte[length / 2];
+		for (int i = 0; i < length; i++) {
+			if (hexValue(hex.charAt(i)) < 0) {
+				throw new InvalidSPDXAnalysisException("Invalid checksum string character at position "+String.valueOf(i));
+			}
+		}
+		if (length % 2 != 0) {
+			throw new InvalidSPDXAnalysisException("Invalid number of characters for checksum");
+		}
+		for (int i = 0; i < value.length; i++) {
+			value[i] = (byte)((hexValue(hex.charAt(i * 2)) << 4) | hexValue(hex.charAt(i * 2 + 1)));
+		}
+		return new ChecksumValue(value);
+	}
+
+	/**
+	 * @param hex hex encoded checksum value - upper or lower case
+	 * @return the checksum value or null if the string contains a character which is not a hex digit or has an odd length
+	 */
+	static @Nullable ChecksumValue parseHex(CharSequence hex) {
+		int length = hex.length();
+		if (length % 2 != 0) {
+			return null;
+		}
+		byte[] value = new byte[length / 2];
+		for (int i = 0; i < value.length; i++) {
+			int high = hexValue(hex.charAt(i * 2));
+			int low = hexValue(hex.charAt(i * 2 + 1));
+			if (high < 0 || low < 0) {
+				return null;
+			}
+			value[i] = (byte)((high << 4) | low);
+		}
+		return new ChecksumValue(value);
+	}
+
+	/**
+	 * @param bytes binary checksum value - copied
+	 * @return the checksum value
+	 */
+	public static ChecksumValue fromBytes(byte[] bytes) {
+		Objects.requireNonNull(bytes, "Bytes can not be null");
+		return new ChecksumValue(bytes.clone());
+	}
+
+	/**
+	 * @param bytes bytes to encode
+	 * @return lower case hex encoding of the bytes
+	 */
+	public static String toHex(byte[] bytes) {
+		char[] retval = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			retval[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0F];
+			retval[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0F];
+		}
+		return new String(retval);
+	}
+
+	/**
+	 * Encode bytes as lower case ASCII hex digits without creating a string
+	 * @param bytes bytes to encode
+	 * @param hex destination for the hex digits - must have a length of at least twice the number of bytes
+	 */
+	static void toHex(byte[] bytes, byte[] hex) {
+		for (int i = 0; i < bytes.length; i++) {
+			hex[i * 2] = (byte)HEX_DIGITS[(bytes[i] >> 4) & 0x0F];
+			hex[i * 2 + 1] = (byte)HEX_DIGITS[bytes[i] & 0x0F];
+		}
+	}
+
+	/**
+	 * @param c character
+	 * @return the value of the hex digit or -1 if the character is not a hex digit
+	 */
+	static int hexValue(char c) {
+		return c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+	}
+
+	/**
+	 * @return a copy of the binary checksum value
+	 */
+	public byte[] toBytes() {
+		return value.clone();
+	}
+
+	/**
+	 * @return number of bytes in the checksum value
+	 */
+	public int length() {
+		return value.length;
+	}
+
+	/**
+	 * @return lower case hex encoding of the checksum value
+	 */
+	public String toHex() {
+		return toHex(value);
+	}
+
+	/**
+	 * Compare to a hex string without creating a new checksum value
+	 * @param hex hex encoded checksum value - upper or lower case
+	 * @return true if the hex string represents the same checksum value
+	 */
+	public boolean matches(CharSequence hex) {
+		if (Objects.isNull(hex) || hex.length() != value.length * 2) {
+			return false;
+		}
+		for (int i = 0; i < value.length; i++) {
+			int high = hexValue(hex.charAt(i * 2));
+			int low = hexValue(hex.charAt(i * 2 + 1));
+			if (high < 0 || low < 0 || (byte)((high << 4) | low) != value[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ChecksumValue)) {
+			return false;
+		}
+		return Arrays.equals(value, ((ChecksumValue)o).value);
+	}
+
+	@Override
+	public int hashCode() {
+		int h = hash;
+		if (h == 0) {
+			h = Arrays.hashCode(value);
+			hash = h;
+		}
+		return h;
+	}
+
+	@Override
+	public int compareTo(ChecksumValue compare) {
+		int length = Math.min(value.length, compare.value.length);
+		for (int i = 0; i < length; i++) {
+			int retval = (value[i] & 0xFF) - (compare.value[i] & 0xFF);
+			if (retval != 0) {
+				return retval;
+			}
+		}
+		return value.length - compare.value.length;
+	}
+
+	@Override
+	public String toString() {
+		return toHex();
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.spdx.storage.IModelStore;
+
+/**
+ * Checksum values parsed from the checksum value strings of a model store
+ *
+ * A value string found in the cache has already been validated, so verifying a checksum or getting its
+ * binary value does not check the characters again.  The cache is shared by all the checksums in a model
+ * store and is keyed by the value string rather than its identity, so it does not depend on the model
+ * store returning the same string instance.  It holds at most <code>MAX_ENTRIES</code> values and is
+ * emptied when it is full, so the memory it uses does not grow with the number of checksums in the store.
+ *
+ * @author Gary O'Neall
+ */
+final class ChecksumValueCache {
+
+	/**
+	 * Maximum number of values cached for a model store
+	 */
+	static final int MAX_ENTRIES = 4096;
+
+	private static final ModelStoreMap<ChecksumValueCache> CACHES = new ModelStoreMap<>();
+
+	private final Map<String, ChecksumValue> values = new ConcurrentHashMap<>();
+
+	private ChecksumValueCache() {
+		// created through forStore
+	}
+
+	/**
+	 * @param modelStore model store
+	 * @return the cache for the model store - created if it does not exist
+	 */
+	static ChecksumValueCache forStore(IModelStore modelStore) {
+		ChecksumValueCache retval = CACHES.get(modelStore);
+		return Objects.nonNull(retval) ? retval : CACHES.computeIfAbsent(modelStore, store -> new ChecksumValueCache());
+	}
+
+	/**
+	 * @param hex checksum value string
+	 * @return the parsed checksum value or null if the string is not a valid hex value - invalid strings are not cached
+	 */
+	@Nullable ChecksumValue get(String hex) {
+		ChecksumValue retval = values.get(hex);
+		if (Objects.isNull(retval)) {
+			retval = ChecksumValue.parseHex(hex);
+			if (Objects.nonNull(retval)) {
+				put(hex, retval);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param hex checksum value string
+	 * @param value checksum value parsed from the string
+	 */
+	void put(String hex, ChecksumValue value) {
+		if (values.size() >= MAX_ENTRIES) {
+			values.clear();
+		}
+		values.put(hex, value);
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.library.model.v2.license.SpdxNoneLicense;
+import org.spdx.storage.IModelStore;
+
+/**
+ * NONE and NOASSERTION license and element instances shared per model store and document URI
+ *
+ * The getters which return NONE or NOASSERTION when no value is stored - e.g. <code>getLicenseConcluded()</code>
+ * - and the model factory return these, so the value belongs to the same model store and document as the
+ * object it was read from, without creating a new instance and anonymous ID on every read.  The instances
+ * are only weakly referenced - they reference their model store, so a strong reference would keep the model
+ * store from being collected.
+ *
+ * @author Gary O'Neall
+ */
+final class ConstantValueCache {
+
+	/**
+	 * Creates a constant value in a model store and document
+	 */
+	@FunctionalInterface
+	private interface ConstantFactory<T> {
+		T create(IModelStore modelStore, String documentUri) throws InvalidSPDXAnalysisException;
+	}
+
+	private static final ModelStoreMap<Map<String, Reference<SpdxNoneLicense>>> NONE_LICENSES = new ModelStoreMap<>();
+	private static final ModelStoreMap<Map<String, Reference<SpdxNoAssertionLicense>>> NOASSERTION_LICENSES = new ModelStoreMap<>();
+	private static final ModelStoreMap<Map<String, Reference<SpdxNoneElement>>> NONE_ELEMENTS = new ModelStoreMap<>();
+	private static final ModelStoreMap<Map<String, Reference<SpdxNoAssertionElement>>> NOASSERTION_ELEMENTS = new ModelStoreMap<>();
+
+	private ConstantValueCache() {
+		// static methods only
+	}
+
+	/**
+	 * @param modelStore model store
+	 * @param documentUri document URI
+	 * @return a NONE license in the model store and document
+	 * @throws InvalidSPDXAnalysisException on errors creating the license
+	 */
+	static SpdxNoneLicense noneLicense(IModelStore modelStore, @Nullable String documentUri) throws InvalidSPDXAnalysisException {
+		return get(NONE_LICENSES, modelStore, documentUri, SpdxNoneLicense::new);
+	}
+
+	/**
+	 * @param modelStore model store
+	 * @param documentUri document URI
+	 * @return a NOASSERTION license in the model store and document
+	 * @throws InvalidSPDXAnalysisException on errors creating the license
+	 */
+	static SpdxNoAssertionLicense noAssertionLicense(IModelStore modelStore, @Nullable String documentUri) throws InvalidSPDXAnalysisException {
+		return get(NOASSERTION_LICENSES, modelStore, documentUri, SpdxNoAssertionLicense::new);
+	}
+
+	/**
+	 * @param modelStore model store
+	 * @param documentUri document URI
+	 * @return a NONE element in the model store and document
+	 * @throws InvalidSPDXAnalysisException on errors creating the element
+	 */
+	static SpdxNoneElement noneElement(IModelStore modelStore, @Nullable String documentUri) throws InvalidSPDXAnalysisException {
+		return get(NONE_ELEMENTS, modelStore, documentUri, SpdxNoneElement::new);
+	}
+
+	/**
+	 * @param modelStore model store
+	 * @param documentUri document URI
+	 * @return a NOASSERTION element in the model store and document
+	 * @throws InvalidSPDXAnalysisException on errors creating the element
+	 */
+	static SpdxNoAssertionElement noAssertionElement(IModelStore modelStore, @Nullable String documentUri) throws InvalidSPDXAnalysisException {
+		return get(NOASSERTION_ELEMENTS, modelStore, documentUri, SpdxNoAssertionElement::new);
+	}
+
+	/**
+	 * @param instances cached instances by model store and document URI
+	 * @param modelStore model store
+	 * @param documentUri document URI
+	 * @param factory creates the instance if it is not cached
+	 * @return the cached instance for the model store and document URI - created if it does not exist
+	 * @throws InvalidSPDXAnalysisException on errors creating the instance
+	 */
+	private static <T> T get(ModelStoreMap<Map<String, Reference<T>>> instances, IModelStore modelStore,
+			@Nullable String documentUri, ConstantFactory<T> factory) throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(documentUri)) {
+			return factory.create(modelStore, documentUri);
+		}
+		Map<String, Reference<T>> storeInstances = instances.computeIfAbsent(modelStore, store -> new ConcurrentHashMap<>());
+		Reference<T> cached = storeInstances.get(documentUri);
+		T retval = Objects.isNull(cached) ? null : cached.get();
+		if (Objects.isNull(retval)) {
+			retval = factory.create(modelStore, documentUri);	// concurrent callers may create equal instances which is harmless
+			storeInstances.put(documentUri, new WeakReference<>(retval));
+		}
+		return retval;
+	}
+}
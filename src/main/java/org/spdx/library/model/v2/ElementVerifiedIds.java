@@ -0,0 +1,246 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
+
+/**
+ * Verified ID set used to verify a single element - other elements are reported as already verified
+ *
+ * The IDs of the other elements queried during the verification are recorded as related IDs and the
+ * IDs of the other model objects verified with the element are recorded as verified IDs.
+ *
+ * When the set is created to cache the result of the element, the verification of a related element returns
+ * a single placeholder message in place of the messages of the related element.  The placeholder is formatted
+ * into the messages of the element the same way as the messages of the related element would have been, so
+ * <code>expand</code> can later replace it with the messages of the related element.
+ *
+ * @author Gary O'Neall
+ */
+final class ElementVerifiedIds extends AbstractSet<String> {
+	private final IModelStore modelStore;
+	private final String documentUri;
+	private final String id;
+	private final String objectUri;
+	private final VerificationOptions options;
+	private final boolean placeholders;
+	private final Set<String> added = new HashSet<>();
+	final Set<String> relatedIds = new LinkedHashSet<>();
+	final Set<String> verifiedIds = new LinkedHashSet<>();
+
+	/**
+	 * Marks the start and end of the ID of a related element in a placeholder message
+	 */
+	private static final char PLACEHOLDER_MARK = '\u0000';
+
+	/**
+	 * Messages of a related element being expanded in place of its placeholder
+	 */
+	private static final class Expansion {
+		final List<String> messages;
+		final String prefix;
+		final String suffix;
+		int next = 0;
+
+		/**
+		 * @param messages messages of the element
+		 * @param prefix prefix to add to each message
+		 * @param suffix suffix to add to each message
+		 */
+		Expansion(List<String> messages, String prefix, String suffix) {
+			this.messages = messages;
+			this.prefix = prefix;
+			this.suffix = suffix;
+		}
+	}
+
+	/**
+	 * Verified IDs for an element whose result is cached - related elements are verified as placeholder messages
+	 * @param element element to be verified
+	 */
+	ElementVerifiedIds(ModelObjectV2 element) {
+		this(element, new VerificationOptions(), true);
+	}
+
+	/**
+	 * @param element element to be verified
+	 * @param options options for the verification
+	 */
+	ElementVerifiedIds(ModelObjectV2 element, VerificationOptions options) {
+		this(element, options, false);
+	}
+
+	/**
+	 * @param element element to be verified
+	 * @param options options for the verification
+	 * @param placeholders if true, the verification of a related element returns a placeholder message
+	 */
+	private ElementVerifiedIds(ModelObjectV2 element, VerificationOptions options, boolean placeholders) {
+		this.options = options;
+		this.placeholders = placeholders;
+		this.modelStore = element.getModelStore();
+		this.documentUri = element.getDocumentUri();
+		this.id = element.getId();
+		this.objectUri = element.getObjectUri();
+	}
+
+	/**
+	 * @return options for the verification
+	 */
+	VerificationOptions getOptions() {
+		return options;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (added.contains(o)) {
+			return true;
+		}
+		if (!(o instanceof String) || id.equals(o) || objectUri.equals(o)) {
+			return false;
+		}
+		String checkId = (String)o;
+		if (isElement(modelStore, documentUri, checkId)) {
+			relatedIds.add(checkId);
+			return true;
+		}
+		verifiedIds.add(checkId);
+		return false;
+	}
+
+	/**
+	 * @param checkId ID of a model object found by <code>contains</code>
+	 * @return the messages to return for the verification of the model object - a placeholder for a related element
+	 */
+	List<String> skipped(String checkId) {
+		return placeholders && !added.contains(checkId) && relatedIds.contains(checkId) ? 
+				placeholder(checkId) : new ArrayList<>();
+	}
+
+	/**
+	 * @param elementId ID of an element
+	 * @return messages holding a single placeholder for the messages of the element
+	 */
+	static List<String> placeholder(String elementId) {
+		List<String> retval = new ArrayList<>();
+		retval.add(PLACEHOLDER_MARK + elementId + PLACEHOLDER_MARK);
+		return retval;
+	}
+
+	/**
+	 * Replace the placeholders in the messages with the messages of the related elements
+	 * 
+	 * The placeholders are expanded in message order with the prefix and suffix the placeholder was formatted
+	 * with, and each related element is expanded only the first time it is found, which gives the same messages
+	 * in the same order as verifying the related elements where they are found.
+	 * @param messages messages which may contain placeholders
+	 * @param visited IDs of the elements already verified - updated with the IDs of the elements expanded
+	 * @param relatedMessages returns the messages of a related element, which may contain placeholders, by its ID
+	 * @return the messages with the placeholders expanded
+	 */
+	static List<String> expand(List<String> messages, Set<String> visited, Function<String, List<String>> relatedMessages) {
+		VerificationMessages retval = new VerificationMessages();
+		Deque<Expansion> expansions = new ArrayDeque<>();
+		expansions.push(new Expansion(messages, "", ""));
+		while (!expansions.isEmpty()) {
+			Expansion expansion = expansions.peek();
+			if (expansion.next >= expansion.messages.size()) {
+				expansions.pop();
+				continue;
+			}
+			VerificationRule rule = VerificationMessages.ruleOf(expansion.messages, expansion.next);
+			String message = expansion.messages.get(expansion.next++);
+			int start = placeholderStart(message);
+			if (start < 0) {
+				String expanded = expansion.prefix.isEmpty() && expansion.suffix.isEmpty() ? message :
+					expansion.prefix + message + expansion.suffix;
+				if (Objects.isNull(rule)) {
+					retval.add(expanded);
+				} else {
+					retval.add(rule, expanded);
+				}
+				continue;
+			}
+			int end = placeholderEnd(message, start);
+			String id = message.substring(start + 1, end - 1);
+			if (!visited.add(id)) {
+				// already verified - verifying the element again returns no messages
+				continue;
+			}
+			List<String> related = relatedMessages.apply(id);
+			expansions.push(new Expansion(Objects.isNull(related) ? Collections.emptyList() : related, 
+					expansion.prefix + message.substring(0, start), message.substring(end) + expansion.suffix));
+		}
+		return retval;
+	}
+
+	/**
+	 * @param message message returned by the verification of an element
+	 * @return the index of the placeholder for a related element in the message or -1 if there is none
+	 */
+	static int placeholderStart(String message) {
+		return message.indexOf(PLACEHOLDER_MARK);
+	}
+
+	/**
+	 * @param message message containing a placeholder
+	 * @param start index of the placeholder returned by <code>placeholderStart</code>
+	 * @return index in the message just past the end of the placeholder
+	 */
+	static int placeholderEnd(String message, int start) {
+		return message.indexOf(PLACEHOLDER_MARK, start + 1) + 1;
+	}
+
+	@Override
+	public boolean add(String e) {
+		return added.add(e);
+	}
+
+	@Override
+	public Iterator<String> iterator() {
+		return added.iterator();
+	}
+
+	@Override
+	public int size() {
+		return added.size();
+	}
+
+	/**
+	 * @param modelStore model store
+	 * @param documentUri document URI
+	 * @param id ID of a model object
+	 * @return true if the ID is for a document, package, file, snippet or generic element in the document
+	 */
+	private static boolean isElement(IModelStore modelStore, String documentUri, String id) {
+		if (id.contains(":") || modelStore.isAnon(id)) {
+			// external and anonymous elements are verified with the element referencing them
+			return false;
+		}
+		try {
+			Optional<TypedValue> tv = modelStore.getTypedValue(CompatibleModelStoreWrapper.documentUriIdToUri(documentUri, id, false));
+			return tv.isPresent() && SpdxDocumentIndex.INDEXED_TYPES.contains(tv.get().getType());
+		} catch (InvalidSPDXAnalysisException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
+
+/**
+ * Verifies a model object and the elements reachable from it one element at a time, passing the findings
+ * for each element to a sink as soon as the element is verified
+ *
+ * Only the messages for the element being verified and the IDs of the elements still to be verified are
+ * held in memory.
+ * 
+ * Each finding is attributed to the verification rule whose check produced its message, or to the type
+ * of the model object which produced it if the message is not from a rule - see <code>VerificationRecorder</code>.
+ *
+ * @author Gary O'Neall
+ */
+final class ElementWalkVerifier {
+
+	private ElementWalkVerifier() {
+		// static methods only
+	}
+
+	/**
+	 * @param root model object to verify
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @param options options for the verification - the walk stops once the maximum number of findings is reached
+	 * @param sink receives the findings in the order the elements are verified
+	 * @return number of findings passed to the sink
+	 */
+	static long verify(ModelObjectV2 root, String specVersion, VerificationOptions options,
+			Consumer<VerificationFinding> sink) {
+		if (Objects.isNull(options.getMetrics())) {
+			return walk(root, specVersion, options, sink);
+		}
+		VerificationRecorder previous = VerificationRecorder.install(new VerificationRecorder(options.getMetrics()));
+		try {
+			return walk(root, specVersion, options, sink);
+		} finally {
+			VerificationRecorder.install(previous);
+		}
+	}
+
+	/**
+	 * @param root model object to verify
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @param options options for the verification
+	 * @param sink receives the findings in the order the elements are verified
+	 * @return number of findings passed to the sink
+	 */
+	private static long walk(ModelObjectV2 root, String specVersion, VerificationOptions options,
+			Consumer<VerificationFinding> sink) {
+		IModelStore modelStore = root.getModelStore();
+		String documentUri = root.getDocumentUri();
+		long maxFindings = options.getMaxErrors();
+		long retval = 0;
+		Set<String> visited = new HashSet<>();
+		Deque<String> toVisit = new ArrayDeque<>();
+		retval += verifyElement(root, specVersion, options, visited, toVisit, sink, maxFindings);
+		while (!toVisit.isEmpty() && retval < maxFindings) {
+			String id = toVisit.pop();
+			if (visited.contains(id)) {
+				continue;
+			}
+			ModelObjectV2 element;
+			try {
+				Optional<TypedValue> tv = modelStore.getTypedValue(CompatibleModelStoreWrapper.documentUriIdToUri(documentUri, id, false));
+				if (!tv.isPresent()) {
+					// removed from the store since it was found - nothing to verify
+					visited.add(id);
+					continue;
+				}
+				element = SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, documentUri, id,
+						tv.get().getType(), root.getCopyManager(), false);
+			} catch (InvalidSPDXAnalysisException e) {
+				visited.add(id);
+				sink.accept(new VerificationFinding(id, VerificationRule.MODEL_OBJECT,
+						"Error getting element "+id+": "+e.getMessage()));
+				retval++;
+				continue;
+			}
+			retval += verifyElement(element, specVersion, options, visited, toVisit, sink, maxFindings - retval);
+		}
+		return retval;
+	}
+
+	/**
+	 * Verify an element without verifying its related elements
+	 * @param element element to verify
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @param options options for the verification
+	 * @param visited IDs of the elements already verified - updated with the ID of the element
+	 * @param toVisit stack of the IDs of the elements to verify - updated with the related elements
+	 * @param sink receives the findings for the element
+	 * @param maxFindings maximum number of findings to pass to the sink
+	 * @return number of findings passed to the sink
+	 */
+	private static long verifyElement(ModelObjectV2 element, String specVersion, VerificationOptions options,
+			Set<String> visited, Deque<String> toVisit,
+			Consumer<VerificationFinding> sink, long maxFindings) {
+		visited.add(element.getId());
+		ElementVerifiedIds verifiedIds = new ElementVerifiedIds(element, options);
+		List<String> messages = element.verify(verifiedIds, specVersion);
+		int count = (int)Math.min(messages.size(), maxFindings);
+		for (int i = 0; i < count; i++) {
+			VerificationRule rule = VerificationMessages.ruleOf(messages, i);
+			sink.accept(new VerificationFinding(element.getId(), Objects.isNull(rule) ? VerificationRule.MODEL_OBJECT : rule,
+					messages.get(i)));
+		}
+		String[] relatedIds = verifiedIds.relatedIds.toArray(new String[verifiedIds.relatedIds.size()]);
+		for (int i = relatedIds.length - 1; i >= 0; i--) {
+			if (!visited.contains(relatedIds[i])) {
+				toVisit.push(relatedIds[i]);
+			}
+		}
+		return count;
+	}
+}
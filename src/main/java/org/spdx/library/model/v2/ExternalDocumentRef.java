@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -285,7 +284,7 @@ public class ExternalDocumentRef extends ModelObjectV2 implements Comparable<Ext
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		VerificationMessages retval = new VerificationMessages();
 		if (!getId().startsWith(SpdxConstantsCompatV2.EXTERNAL_DOC_REF_PRENUM)) {
 			retval.add("Invalid external ref ID: "+getId()+".  Must start with "+SpdxConstantsCompatV2.EXTERNAL_DOC_REF_PRENUM+".");
 		}
@@ -296,7 +295,7 @@ public class ExternalDocumentRef extends ModelObjectV2 implements Comparable<Ext
 				retval.add("Missing required external document URI");
 			} else {
 				if (!SpdxVerificationHelper.isValidUri(spdxDocumentNamespace)) {
-					retval.add("Invalid URI for external Spdx Document URI: "+spdxDocumentNamespace);
+					retval.add(VerificationRule.URI, "Invalid URI for external Spdx Document URI: "+spdxDocumentNamespace);
 				}
 			}
 		} catch (InvalidSPDXAnalysisException e) {
@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -83,7 +82,7 @@ public class ExternalRef extends ModelObjectV2 implements Comparable<ExternalRef
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		try {
 			ReferenceCategory referenceCategory = getReferenceCategory();
 			if (ReferenceCategory.MISSING.equals(referenceCategory)) {
@@ -158,7 +158,7 @@ public class ExternalSpdxElement extends SpdxElement implements IndividualUriVal
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
 		// we don't want to call super.verify since we really don't require those fields
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		String objectUri = getObjectUri();
 		Matcher matcher = SpdxConstantsCompatV2.EXTERNAL_SPDX_ELEMENT_URI_PATTERN.matcher(objectUri);
 		if (!matcher.matches()) {				
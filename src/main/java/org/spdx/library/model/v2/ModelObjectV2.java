@@ -23,6 +23,9 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 
 import javax.annotation.Nullable;
@@ -35,7 +38,9 @@ import org.spdx.core.DefaultStoreNotInitialized;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.IndividualUriValue;
 import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelCollection;
 import org.spdx.core.ModelObjectHelper;
+import org.spdx.core.ModelSet;
 import org.spdx.core.SpdxInvalidTypeException;
 import org.spdx.core.TypedValue;
 import org.spdx.library.model.v2.enumerations.AnnotationType;
@@ -48,14 +53,13 @@ import org.spdx.library.model.v2.license.CrossRef.CrossRefBuilder;
 import org.spdx.library.model.v2.license.DisjunctiveLicenseSet;
 import org.spdx.library.model.v2.license.ExtractedLicenseInfo;
 import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
-import org.spdx.library.model.v2.license.SpdxNoneLicense;
 import org.spdx.library.model.v2.pointer.ByteOffsetPointer;
 import org.spdx.library.model.v2.pointer.LineCharPointer;
 import org.spdx.library.model.v2.pointer.SinglePointer;
 import org.spdx.library.model.v2.pointer.StartEndPointer;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IModelStoreLock;
-import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.IModelStore.ModelUpdate;
 import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
 import org.spdx.storage.PropertyDescriptor;
 
@@ -101,8 +105,23 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 	
 	public static final String LATEST_SPDX_2_VERSION = "SPDX-2.3";
 	
+	/**
+	 * Number of changes recorded for the model objects in each model store - counted once requested for the store
+	 */
+	private static final ModelStoreMap<AtomicLong> STORE_MODIFICATION_COUNTS = new ModelStoreMap<>();
+	
 	private String documentUri;
 	private String id;
+	
+	/**
+	 * True if the ID is anonymous in the model store - set once the ID is known
+	 */
+	private boolean anonymous = false;
+	
+	/**
+	 * Cached value for <code>hashCode()</code> - 0 if not yet calculated
+	 */
+	private int hash = 0;
 
 	/**
 	 * @throws InvalidSPDXAnalysisException
@@ -110,6 +129,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 	public ModelObjectV2() throws InvalidSPDXAnalysisException {
 		super(LATEST_SPDX_2_VERSION);
 		updateIdAndDocumentUri();
+		updateAnonymous();
 	}
 
 	/**
@@ -122,6 +142,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		this.documentUri = DefaultModelStore.getDefaultDocumentUri();
 		this.idPrefix = documentUri + "#";
 		this.id = id;
+		updateAnonymous();
 	}
 
 	/**
@@ -150,6 +171,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 			this.id = identifier;
 		}
 		this.documentUri = documentUri;
+		updateAnonymous();
 //		if ((LicenseInfoFactory.isSpdxListedLicenseId(id) || LicenseInfoFactory.isSpdxListedExceptionId(id)) &&
 //				!SpdxConstantsCompatV2.LISTED_LICENSE_URL.equals(documentUri)) {
 //			logger.warn("Listed license document URI changed to listed license URL for documentUri "+documentUri);
@@ -168,6 +190,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 			throws InvalidSPDXAnalysisException {
 		super(builder, LATEST_SPDX_2_VERSION);
 		updateIdAndDocumentUri();
+		updateAnonymous();
 	}
 
 	
@@ -187,6 +210,13 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		}
 	}
 	
+	/**
+	 * Records whether the ID is anonymous - the ID and model store do not change after construction
+	 */
+	private void updateAnonymous() {
+		this.anonymous = Objects.nonNull(id) && Objects.nonNull(modelStore) && modelStore.isAnon(id);
+	}
+	
 	@Override
 	public List<String> _verify(Set<String> verifiedElementIds, String specVersion, List<IndividualUriValue> profiles) {
 		// No profiles are used in SPDX 2.X
@@ -207,14 +237,216 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 	 * @return Any verification errors or warnings associated with this object
 	 */
 	public List<String> verify(Set<String> verifiedIElementds, String specVersion) {
+		if (verifiedIElementds instanceof VerifiedIdSet) {
+			List<String> deferred = ((VerifiedIdSet)verifiedIElementds).deferred(this, specVersion);
+			if (Objects.nonNull(deferred)) {
+				return deferred;
+			}
+		}
 		if (verifiedIElementds.contains(this.id)) {
-			return new ArrayList<>();
-		} else {
+			return verifiedIElementds instanceof ElementVerifiedIds ?
+					((ElementVerifiedIds)verifiedIElementds).skipped(this.id) : new ArrayList<>();
+		}
+		VerificationRecorder recorder = VerificationRecorder.current();
+		if (Objects.isNull(recorder)) {
+			return verifyObject(verifiedIElementds, specVersion);
+		}
+		VerificationRecorder.Frame frame = recorder.startObject();
+		List<String> retval = verifyObject(verifiedIElementds, specVersion);
+		recorder.endObject(getType(), frame, retval);
+		return retval;
+	}
+
+	/**
+	 * Verify this object once it is known that it has not already been verified
+	 * @param verifiedIElementds list of all element Id's which have already been verified - prevents infinite recursion
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return Any verification errors or warnings associated with this object
+	 */
+	private List<String> verifyObject(Set<String> verifiedIElementds, String specVersion) {
+		if (!(verifiedIElementds instanceof VerifiedIdSet)) {
 			// The verifiedElementId is added in the SpdxElement._verify method
 			return _verify(verifiedIElementds, specVersion);
 		}
+		VerifiedIdSet run = (VerifiedIdSet)verifiedIElementds;
+		if (!run.getOptions().isLimited()) {
+			return isVerificationShareable() ? run.verifyOnce(this, specVersion) : _verify(run, specVersion);
+		}
+		if (run.isStopped()) {
+			return new ArrayList<>();
+		}
+		int outerNestedCount = run.startVerify();
+		List<String> retval = isVerificationShareable() ? run.verifyOnce(this, specVersion) : _verify(run, specVersion);
+		run.endVerify(outerNestedCount, retval.size());
+		return retval;
 	}
-	
+
+	@Override
+	public List<String> verify(String specVersion) {
+		return verify(new VerifiedIdSet(), specVersion);
+	}
+
+	/**
+	 * @param options options controlling the number of messages collected and how they are formatted
+	 * @return at most <code>options.getMaxErrors()</code> of the verification errors or warnings
+	 */
+	public List<String> verify(VerificationOptions options) {
+		return verify(options, this.specVersion);
+	}
+
+	/**
+	 * @param options options controlling the number of messages collected and how they are formatted
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return at most <code>options.getMaxErrors()</code> of the verification errors or warnings
+	 */
+	public List<String> verify(VerificationOptions options, String specVersion) {
+		List<String> retval;
+		if (Objects.isNull(options.getMetrics())) {
+			retval = verify(new VerifiedIdSet(options), specVersion);
+		} else {
+			VerificationRecorder previous = VerificationRecorder.install(new VerificationRecorder(options.getMetrics()));
+			try {
+				retval = verify(new VerifiedIdSet(options), specVersion);
+			} finally {
+				VerificationRecorder.install(previous);
+			}
+		}
+		if (retval.size() > options.getMaxErrors()) {
+			return new ArrayList<>(retval.subList(0, options.getMaxErrors()));
+		}
+		return retval;
+	}
+
+	/**
+	 * Verify this object and the elements reachable from it one element at a time, passing the findings for
+	 * each element to the sink as soon as the element is verified
+	 * 
+	 * Unlike <code>verify()</code>, the messages are not collected so memory use does not grow with the number
+	 * of errors and warnings.  The findings for a related element are not prefixed with the context in which
+	 * the element was found.
+	 * @param sink receives the findings in the order the elements are verified
+	 * @return number of findings passed to the sink
+	 */
+	public long verifyTo(Consumer<VerificationFinding> sink) {
+		return verifyTo(sink, new VerificationOptions(), this.specVersion);
+	}
+
+	/**
+	 * Verify this object and the elements reachable from it one element at a time - see <code>verifyTo(sink)</code>
+	 * @param sink receives the findings in the order the elements are verified
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return number of findings passed to the sink
+	 */
+	public long verifyTo(Consumer<VerificationFinding> sink, String specVersion) {
+		return verifyTo(sink, new VerificationOptions(), specVersion);
+	}
+
+	/**
+	 * Verify this object and the elements reachable from it one element at a time - see <code>verifyTo(sink)</code>
+	 * @param sink receives the findings in the order the elements are verified
+	 * @param options options controlling the number of findings, how the messages are formatted and the metrics collected
+	 * @return number of findings passed to the sink
+	 */
+	public long verifyTo(Consumer<VerificationFinding> sink, VerificationOptions options) {
+		return verifyTo(sink, options, this.specVersion);
+	}
+
+	/**
+	 * Verify this object and the elements reachable from it one element at a time - see <code>verifyTo(sink)</code>
+	 * @param sink receives the findings in the order the elements are verified
+	 * @param options options controlling the number of findings, how the messages are formatted and the metrics collected
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return number of findings passed to the sink
+	 */
+	public long verifyTo(Consumer<VerificationFinding> sink, VerificationOptions options, String specVersion) {
+		return ElementWalkVerifier.verify(this, specVersion, Objects.requireNonNull(options, "Verification options can not be null"),
+				Objects.requireNonNull(sink, "Sink can not be null"));
+	}
+
+	/**
+	 * @return true if verifying this object never verifies an element, so the verification messages can be
+	 * re-used each time the object is reached during a verification run
+	 */
+	protected boolean isVerificationShareable() {
+		return false;
+	}
+
+	/**
+	 * @param verifiedIds IDs of the elements verified in the run
+	 * @return true if the verification options for the run limit the number of messages and the limit has been reached
+	 */
+	protected boolean isVerificationStopped(Set<String> verifiedIds) {
+		return verifiedIds instanceof VerifiedIdSet && ((VerifiedIdSet)verifiedIds).isStopped();
+	}
+
+	/**
+	 * Verify this object, verifying the related elements, files and licenses in parallel
+	 * @param pool pool used to run the verifications
+	 * @return the same verification errors or warnings, in the same order, as <code>verify()</code>
+	 */
+	public List<String> verifyParallel(ForkJoinPool pool) {
+		return verifyParallel(pool, this.specVersion);
+	}
+
+	/**
+	 * Verify this object, verifying the related elements, files and licenses in parallel
+	 * @param pool pool used to run the verifications
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return the same verification errors or warnings, in the same order, as <code>verify(specVersion)</code>
+	 */
+	public List<String> verifyParallel(ForkJoinPool pool, String specVersion) {
+		return VerifiedIdSet.verifyParallel(this, pool, specVersion);
+	}
+
+	/**
+	 * Verify each of the items - in parallel if this object is being verified by <code>verifyParallel</code>
+	 * @param items items to verify
+	 * @param verifiedIds list of all element Id's which have already been verified - prevents infinite recursion
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return the verification errors or warnings for each of the items in the same order as the items
+	 */
+	protected List<List<String>> verifyEach(Collection<? extends CoreModelObject> items,
+			Set<String> verifiedIds, String specVersion) {
+		return VerifiedIdSet.verifyAll(items, verifiedIds, specVersion);
+	}
+
+	@Override
+	public List<String> verifyCollection(Collection<? extends CoreModelObject> collection, String warningPrefix,
+			Set<String> verifiedIds, String specVersion) {
+		VerificationMessages retval = new VerificationMessages();
+		if (!(verifiedIds instanceof VerifiedIdSet) || (!((VerifiedIdSet)verifiedIds).isParallel() &&
+				!((VerifiedIdSet)verifiedIds).getOptions().isLimited())) {
+			for (CoreModelObject item:collection) {
+				addWithPrefix(retval, item.verify(verifiedIds, specVersion), warningPrefix);
+			}
+		} else {
+			for (List<String> itemWarnings:verifyEach(collection, verifiedIds, specVersion)) {
+				addWithPrefix(retval, itemWarnings, warningPrefix);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param retval list the warnings are added to
+	 * @param warnings warnings to add
+	 * @param warningPrefix prefix to add to each warning - null for no prefix
+	 */
+	private static void addWithPrefix(VerificationMessages retval, List<String> warnings, @Nullable String warningPrefix) {
+		if (Objects.isNull(warningPrefix)) {
+			retval.addAll(warnings);
+			return;
+		}
+		for (int i = 0; i < warnings.size(); i++) {
+			VerificationRule rule = VerificationMessages.ruleOf(warnings, i);
+			if (Objects.isNull(rule)) {
+				retval.add(warningPrefix + warnings.get(i));
+			} else {
+				retval.add(rule, warningPrefix + warnings.get(i));
+			}
+		}
+	}
+
 	/**
 	 * @return the Document URI for this object
 	 */
@@ -255,9 +487,9 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		} else if (result.get() instanceof IndividualUriValue) {
 			String uri = ((IndividualUriValue)result.get()).getIndividualURI();
 			if (SpdxConstantsCompatV2.URI_VALUE_NONE.equals(uri)) {
-				return Optional.of(new SpdxNoneLicense(this.modelStore, this.documentUri));
+				return Optional.of(ConstantValueCache.noneLicense(this.modelStore, this.documentUri));
 			} else if (SpdxConstantsCompatV2.URI_VALUE_NOASSERTION.equals(uri)) {
-				return Optional.of(new SpdxNoAssertionLicense(this.modelStore, this.documentUri));
+				return Optional.of(ConstantValueCache.noAssertionLicense(this.modelStore, this.documentUri));
 			} else {
 				logger.error("Can not convert a URI value to a license: "+uri);
 				throw new SpdxInvalidTypeException("Can not convert a URI value to a license: "+uri);
@@ -284,9 +516,9 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		} else if (result.get() instanceof IndividualUriValue) {
 			String uri = ((IndividualUriValue)result.get()).getIndividualURI();
 			if (SpdxConstantsCompatV2.URI_VALUE_NONE.equals(uri)) {
-				return Optional.of(new SpdxNoneElement(this.modelStore, this.documentUri));
+				return Optional.of(ConstantValueCache.noneElement(this.modelStore, this.documentUri));
 			} else if (SpdxConstantsCompatV2.URI_VALUE_NOASSERTION.equals(uri)) {
-				return Optional.of(new SpdxNoAssertionElement(this.modelStore, this.documentUri));
+				return Optional.of(ConstantValueCache.noAssertionElement(this.modelStore, this.documentUri));
 			} else {
 				Matcher matcher = SpdxConstantsCompatV2.EXTERNAL_SPDX_ELEMENT_URI_PATTERN.matcher(uri);
 				if (!matcher.matches()) {
@@ -303,11 +535,12 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 
 	@Override
 	public int hashCode() {
-		if (this.id != null) {
-			return this.id.toLowerCase().hashCode() ^ this.documentUri.hashCode();
-		} else {
-			return 0;
+		int retval = this.hash;
+		if (retval == 0 && this.id != null) {
+			retval = this.id.toLowerCase().hashCode() ^ this.documentUri.hashCode();
+			this.hash = retval;
 		}
+		return retval;
 	}
 	/* (non-Javadoc)
 	 * @see org.spdx.rdfparser.license.AnyLicenseInfo#equals(java.lang.Object)
@@ -322,7 +555,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 			return false;
 		}
 		ModelObjectV2 comp = (ModelObjectV2)o;
-		if (getModelStore().isAnon(id)) {
+		if (anonymous) {
 			return Objects.equals(modelStore, comp.getModelStore()) && Objects.equals(id, comp.getId()) && Objects.equals(documentUri, comp.getDocumentUri());
 		} else {
 			return Objects.equals(id, comp.getId()) && Objects.equals(documentUri, comp.getDocumentUri());
@@ -331,16 +564,278 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 	
 	@Override
 	public TypedValue toTypedValue() throws InvalidSPDXAnalysisException {
-		return CompatibleModelStoreWrapper.typedValueFromDocUri(this.documentUri, this.id, modelStore.isAnon(id), this.getType());
+		return CompatibleModelStoreWrapper.typedValueFromDocUri(this.documentUri, this.id, anonymous, this.getType());
 	}
 	
 	@Override
 	public boolean isNoAssertion(Object value) {
 		return ("NOASSERTION".equals(value) || value instanceof SpdxNoAssertionLicense || value instanceof SpdxNoAssertionElement || value instanceof SpdxNoAssertion);
 	}
-	
+
+	// The following methods record changes to this object so that incremental verification re-verifies it
+
+	/**
+	 * Record a change to the properties of this object for <code>SpdxDocument.verifyIncremental</code>
+	 * and the indexed related element collections
+	 */
+	protected void markChanged() {
+		VerificationCache.objectChanged(this);
+		RelatedElementCollection.elementChanged(this);
+		AtomicLong storeModificationCount = STORE_MODIFICATION_COUNTS.get(modelStore);
+		if (Objects.nonNull(storeModificationCount)) {
+			storeModificationCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Values derived from several model objects can be cached while this count is unchanged
+	 * @return the number of changes recorded (<code>markChanged</code>) for any model object in the model store of this object
+	 */
+	protected long getStoreModificationCount() {
+		return STORE_MODIFICATION_COUNTS.computeIfAbsent(modelStore, store -> new AtomicLong()).get();
+	}
+
+	@Override
+	public void setPropertyValue(PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		super.setPropertyValue(propertyDescriptor, value);
+		markValuesRemoved(propertyDescriptor);
+	}
+
+	@Override
+	public ModelUpdate updatePropertyValue(PropertyDescriptor propertyDescriptor, Object value) {
+		return trackedRemoval(super.updatePropertyValue(propertyDescriptor, value), propertyDescriptor);
+	}
+
+	@Override
+	public void removeProperty(PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		super.removeProperty(propertyDescriptor);
+		markValuesRemoved(propertyDescriptor);
+	}
+
+	@Override
+	public void clearValueCollection(PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+		super.clearValueCollection(propertyDescriptor);
+		markValuesRemoved(propertyDescriptor);
+	}
+
+	@Override
+	public ModelUpdate updateClearValueCollection(PropertyDescriptor propertyDescriptor) {
+		return trackedRemoval(super.updateClearValueCollection(propertyDescriptor), propertyDescriptor);
+	}
+
+	@Override
+	public void addPropertyValueToCollection(PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		super.addPropertyValueToCollection(propertyDescriptor, value);
+		markChanged();
+	}
+
+	@Override
+	public ModelUpdate updateAddPropertyValueToCollection(PropertyDescriptor propertyDescriptor, Object value) {
+		return trackedUpdate(super.updateAddPropertyValueToCollection(propertyDescriptor, value));
+	}
+
+	@Override
+	public void removePropertyValueFromCollection(PropertyDescriptor propertyDescriptor, Object value) throws InvalidSPDXAnalysisException {
+		super.removePropertyValueFromCollection(propertyDescriptor, value);
+		markValuesRemoved(propertyDescriptor);
+	}
+
+	@Override
+	public ModelUpdate updateRemovePropertyValueFromCollection(PropertyDescriptor propertyDescriptor, Object value) {
+		return trackedRemoval(super.updateRemovePropertyValueFromCollection(propertyDescriptor, value), propertyDescriptor);
+	}
+
+	/**
+	 * Record a change which may have removed or replaced values of a property
+	 * @param propertyDescriptor property changed
+	 */
+	void markValuesRemoved(PropertyDescriptor propertyDescriptor) {
+		SpdxDocumentIndex.valuesRemoved(this, propertyDescriptor);
+		markChanged();
+	}
+
+	/**
+	 * @param update update which may remove or replace values of a property
+	 * @param propertyDescriptor property updated
+	 * @return an update which also records the change when applied
+	 */
+	private ModelUpdate trackedRemoval(ModelUpdate update, PropertyDescriptor propertyDescriptor) {
+		return () -> {
+			update.apply();
+			markValuesRemoved(propertyDescriptor);
+		};
+	}
+
+	/**
+	 * @param update update to the properties of this object
+	 * @return an update which also records the change when applied
+	 */
+	private ModelUpdate trackedUpdate(ModelUpdate update) {
+		return () -> {
+			update.apply();
+			markChanged();
+		};
+	}
+
+	@Override
+	public ModelSet<?> getObjectPropertyValueSet(PropertyDescriptor propertyDescriptor, Class<?> type) throws InvalidSPDXAnalysisException {
+		return new TrackedModelSet(this, propertyDescriptor, type);
+	}
+
+	@Override
+	public ModelCollection<?> getObjectPropertyValueCollection(PropertyDescriptor propertyDescriptor, Class<?> type) throws InvalidSPDXAnalysisException {
+		return new TrackedModelCollection(this, propertyDescriptor, type);
+	}
+
+	/**
+	 * Property value collection which records updates as a change to the owning object
+	 */
+	private static class TrackedModelCollection extends ModelCollection<Object> {
+		private final ModelObjectV2 owner;
+		private final PropertyDescriptor propertyDescriptor;
+
+		TrackedModelCollection(ModelObjectV2 owner, PropertyDescriptor propertyDescriptor, Class<?> type) throws InvalidSPDXAnalysisException {
+			super(owner.modelStore, owner.objectUri, propertyDescriptor, owner.copyManager,
+					type, owner.specVersion, owner.idPrefix);
+			this.owner = owner;
+			this.propertyDescriptor = propertyDescriptor;
+		}
+
+		@Override
+		public boolean add(Object element) {
+			boolean retval = super.add(element);
+			if (retval) {
+				owner.markChanged();
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean remove(Object element) {
+			boolean retval = super.remove(element);
+			if (retval) {
+				owner.markValuesRemoved(propertyDescriptor);
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean addAll(Collection<? extends Object> c) {
+			boolean retval = super.addAll(c);
+			if (retval) {
+				owner.markChanged();
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean removeAll(Collection<?> c) {
+			boolean retval = super.removeAll(c);
+			if (retval) {
+				owner.markValuesRemoved(propertyDescriptor);
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean retainAll(Collection<?> c) {
+			boolean retval = super.retainAll(c);
+			if (retval) {
+				owner.markValuesRemoved(propertyDescriptor);
+			}
+			return retval;
+		}
+
+		@Override
+		public void clear() {
+			boolean changed = !isEmpty();
+			super.clear();
+			if (changed) {
+				owner.markValuesRemoved(propertyDescriptor);
+			}
+		}
+	}
+
+	/**
+	 * Property value set which records updates as a change to the owning object
+	 */
+	private static class TrackedModelSet extends ModelSet<Object> {
+		private final ModelObjectV2 owner;
+		private final PropertyDescriptor propertyDescriptor;
+
+		TrackedModelSet(ModelObjectV2 owner, PropertyDescriptor propertyDescriptor, Class<?> type) throws InvalidSPDXAnalysisException {
+			super(owner.modelStore, owner.objectUri, propertyDescriptor, owner.copyManager,
+					type, owner.specVersion, owner.idPrefix);
+			this.owner = owner;
+			this.propertyDescriptor = propertyDescriptor;
+		}
+
+		@Override
+		public boolean add(Object element) {
+			boolean retval = super.add(element);
+			if (retval) {
+				owner.markChanged();
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean remove(Object element) {
+			boolean retval = super.remove(element);
+			if (retval) {
+				owner.markValuesRemoved(propertyDescriptor);
+			}
+			return retval;
+		}
+
+		@SuppressWarnings("rawtypes")
+		@Override
+		public boolean addAll(Collection c) {
+			boolean retval = super.addAll(c);
+			if (retval) {
+				owner.markChanged();
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean removeAll(Collection<?> c) {
+			boolean retval = super.removeAll(c);
+			if (retval) {
+				owner.markValuesRemoved(propertyDescriptor);
+			}
+			return retval;
+		}
+
+		@Override
+		public boolean retainAll(Collection<?> c) {
+			boolean retval = super.retainAll(c);
+			if (retval) {
+				owner.markValuesRemoved(propertyDescriptor);
+			}
+			return retval;
+		}
+
+		@Override
+		public void clear() {
+			boolean changed = !isEmpty();
+			super.clear();
+			if (changed) {
+				owner.markValuesRemoved(propertyDescriptor);
+			}
+		}
+	}
+
 	// The following methods are helper methods to create Model Object subclasses using the same model store and document as this Model Object
 
+	/**
+	 * @return a new anonymous ID from the block reserved by the current thread for this model store
+	 * @throws InvalidSPDXAnalysisException on errors getting an ID from the model store
+	 */
+	protected String nextAnonymousId() throws InvalidSPDXAnalysisException {
+		return AnonymousIdAllocator.nextId(this.modelStore);
+	}
+
 	/**
 	 * @param annotator This field identifies the person, organization or tool that has commented on a file, package, or the entire document.
 	 * @param annotationType This field describes the type of annotation.  Annotations are usually created when someone reviews the file, and if this is the case the annotation type should be REVIEW.   If the author wants to store extra information about one of the elements during creation, it is recommended to use the type of OTHER.
@@ -356,7 +851,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		Objects.requireNonNull(date, "Date can not be null");
 		Objects.requireNonNull(comment, "Comment can not be null");
 		Annotation retval = new Annotation(this.modelStore, this.documentUri, 
-				this.modelStore.getNextId(IdType.Anonymous), copyManager, true);
+				nextAnonymousId(), copyManager, true);
 		retval.setAnnotationDate(date);
 		retval.setAnnotationType(annotationType);
 		retval.setAnnotator(annotator);
@@ -377,7 +872,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		Objects.requireNonNull(relatedElement, "Related Element can not be null");
 		Objects.requireNonNull(relationshipType, "Relationship type can not be null");
 		Relationship retval = new Relationship(this.modelStore, this.documentUri, 
-				this.modelStore.getNextId(IdType.Anonymous), this.copyManager, true);
+				nextAnonymousId(), this.copyManager, true);
 		retval.setRelatedSpdxElement(relatedElement);
 		retval.setRelationshipType(relationshipType);
 		if (Objects.nonNull(comment)) {
@@ -396,12 +891,28 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		Objects.requireNonNull(algorithm, "Algorithm can not be null");
 		Objects.requireNonNull(value, "Value can not be null");
 		Checksum retval = new Checksum(this.modelStore, this.documentUri, 
-				this.modelStore.getNextId(IdType.Anonymous), this.copyManager, true);
+				nextAnonymousId(), this.copyManager, true);
 		retval.setAlgorithm(algorithm);
 		retval.setValue(value);
 		return retval;
 	}
-	
+
+	/**
+	 * @param algorithm Checksum algorithm
+	 * @param value binary Checksum value
+	 * @return Checksum using the same model store and document URI as this Model Object
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public Checksum createChecksum(ChecksumAlgorithm algorithm, ChecksumValue value) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(algorithm, "Algorithm can not be null");
+		Objects.requireNonNull(value, "Value can not be null");
+		Checksum retval = new Checksum(this.modelStore, this.documentUri,
+				nextAnonymousId(), this.copyManager, true);
+		retval.setAlgorithm(algorithm);
+		retval.setValue(value);
+		return retval;
+	}
+
 	/**
 	 * @param value Verification code calculated value
 	 * @param excludedFileNames file names of files excluded from the verification code calculation
@@ -412,7 +923,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		Objects.requireNonNull(value, "Value can not be null");
 		Objects.requireNonNull(excludedFileNames, "Excluded Files can not be null");
 		SpdxPackageVerificationCode retval = new SpdxPackageVerificationCode(this.modelStore, this.documentUri, 
-				this.modelStore.getNextId(IdType.Anonymous), this.copyManager, true);
+				nextAnonymousId(), this.copyManager, true);
 		retval.setValue(value);
 		retval.getExcludedFileNames().addAll(excludedFileNames);
 		return retval;
@@ -469,7 +980,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		Objects.requireNonNull(creators, "Creators can not be null");
 		Objects.requireNonNull(date, "Date can not be null");
 		SpdxCreatorInformation retval = new SpdxCreatorInformation(modelStore, documentUri, 
-				modelStore.getNextId(IdType.Anonymous), copyManager, true);
+				nextAnonymousId(), copyManager, true);
 		retval.getCreators().addAll(creators);
 		retval.setCreated(date);
 		return retval;
@@ -489,7 +1000,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		Objects.requireNonNull(referenceType, "Reference type can not be null");
 		Objects.requireNonNull(locator, "Locator can not be null");
 		ExternalRef retval = new ExternalRef(modelStore, documentUri, 
-				modelStore.getNextId(IdType.Anonymous), copyManager, true);
+				nextAnonymousId(), copyManager, true);
 		retval.setReferenceCategory(category);
 		retval.setReferenceType(referenceType);
 		retval.setReferenceLocator(locator);
@@ -544,7 +1055,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 	public ByteOffsetPointer createByteOffsetPointer(SpdxElement referencedElement, int offset) throws InvalidSPDXAnalysisException {
 		Objects.requireNonNull(referencedElement, "Referenced element can not be null");
 		ByteOffsetPointer retval = new ByteOffsetPointer(modelStore, documentUri, 
-				modelStore.getNextId(IdType.Anonymous), copyManager, true);
+				nextAnonymousId(), copyManager, true);
 		retval.setReference(referencedElement);
 		retval.setOffset(offset);
 		return retval;
@@ -559,7 +1070,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 	public LineCharPointer createLineCharPointer(SpdxElement referencedElement, int lineNumber) throws InvalidSPDXAnalysisException {
 		Objects.requireNonNull(referencedElement, "Referenced element can not be null");
 		LineCharPointer retval = new LineCharPointer(modelStore, documentUri, 
-				modelStore.getNextId(IdType.Anonymous), copyManager, true);
+				nextAnonymousId(), copyManager, true);
 		retval.setReference(referencedElement);
 		retval.setLineNumber(lineNumber);
 		return retval;
@@ -575,7 +1086,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 		Objects.requireNonNull(startPointer, "Start pointer can not be null");
 		Objects.requireNonNull(endPointer, "End pointer can not be null");
 		StartEndPointer retval = new StartEndPointer(modelStore, documentUri, 
-				modelStore.getNextId(IdType.Anonymous), copyManager, true);
+				nextAnonymousId(), copyManager, true);
 		retval.setStartPointer(startPointer);
 		retval.setEndPointer(endPointer);
 		return retval;
@@ -610,7 +1121,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 	 */
 	public ConjunctiveLicenseSet createConjunctiveLicenseSet(Collection<AnyLicenseInfo> members) throws InvalidSPDXAnalysisException {
 		ConjunctiveLicenseSet retval = new ConjunctiveLicenseSet(modelStore, documentUri, 
-				modelStore.getNextId(IdType.Anonymous), copyManager, true);
+				nextAnonymousId(), copyManager, true);
 		retval.setMembers(members);
 		return retval;
 	}
@@ -622,7 +1133,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 	 */
 	public DisjunctiveLicenseSet createDisjunctiveLicenseSet(Collection<AnyLicenseInfo> members) throws InvalidSPDXAnalysisException {
 		DisjunctiveLicenseSet retval = new DisjunctiveLicenseSet(modelStore, documentUri, 
-				modelStore.getNextId(IdType.Anonymous), copyManager, true);
+				nextAnonymousId(), copyManager, true);
 		retval.setMembers(members);
 		return retval;
 	}
@@ -636,7 +1147,7 @@ public abstract class ModelObjectV2 extends CoreModelObject {
 	public CrossRefBuilder createCrossRef(String url) throws InvalidSPDXAnalysisException {
 		Objects.requireNonNull(url, "URL can not be null");
 		return new CrossRefBuilder(this.modelStore, this.documentUri, 
-				this.modelStore.getNextId(IdType.Anonymous), this.copyManager, url);
+				nextAnonymousId(), this.copyManager, url);
 	}
 
 	/**
@@ -0,0 +1,125 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.spdx.storage.IModelStore;
+
+/**
+ * Concurrent map keyed by the identity of a model store which does not keep the model stores from being
+ * garbage collected
+ *
+ * Lookups do not lock, so the map can be consulted on every property change.  The entries for model
+ * stores which have been garbage collected are removed on the next update of the map.  The values must
+ * not reference the model store, otherwise the model store is never collected.
+ *
+ * @author Gary O'Neall
+ */
+final class ModelStoreMap<V> {
+
+	/**
+	 * Weak reference to a model store used as the key in the map
+	 */
+	private static final class StoreKey extends WeakReference<IModelStore> {
+		final int hash;
+
+		StoreKey(IModelStore modelStore, ReferenceQueue<IModelStore> queue) {
+			super(modelStore, queue);
+			this.hash = System.identityHashCode(modelStore);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object comp) {
+			if (this == comp) {
+				return true;
+			}
+			if (comp instanceof LookupKey) {
+				return get() == ((LookupKey)comp).modelStore;
+			}
+			// keys for collected model stores are only equal to themselves
+			return comp instanceof StoreKey && Objects.nonNull(get()) && get() == ((StoreKey)comp).get();
+		}
+	}
+
+	/**
+	 * Key used to look up a model store without creating a reference
+	 */
+	private static final class LookupKey {
+		final IModelStore modelStore;
+
+		LookupKey(IModelStore modelStore) {
+			this.modelStore = modelStore;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(modelStore);
+		}
+
+		@Override
+		public boolean equals(Object comp) {
+			return comp instanceof StoreKey && ((StoreKey)comp).get() == modelStore;
+		}
+	}
+
+	private final ConcurrentHashMap<Object, V> map = new ConcurrentHashMap<>();
+	private final ReferenceQueue<IModelStore> collected = new ReferenceQueue<>();
+
+	/**
+	 * @param modelStore model store
+	 * @return the value for the model store or null if there is no value
+	 */
+	@Nullable V get(IModelStore modelStore) {
+		if (map.isEmpty()) {
+			return null;
+		}
+		return map.get(new LookupKey(modelStore));
+	}
+
+	/**
+	 * @param modelStore model store
+	 * @param create function creating the value if there is no value for the model store
+	 * @return the value for the model store
+	 */
+	V computeIfAbsent(IModelStore modelStore, Function<IModelStore, V> create) {
+		V retval = get(modelStore);
+		if (Objects.nonNull(retval)) {
+			return retval;
+		}
+		expungeCollected();
+		return map.computeIfAbsent(new StoreKey(modelStore, collected), key -> create.apply(modelStore));
+	}
+
+	/**
+	 * @param modelStore model store
+	 * @return the value removed for the model store or null if there was no value
+	 */
+	@Nullable V remove(IModelStore modelStore) {
+		expungeCollected();
+		return map.remove(new LookupKey(modelStore));
+	}
+
+	/**
+	 * Remove the entries for the model stores which have been garbage collected
+	 */
+	private void expungeCollected() {
+		for (Reference<? extends IModelStore> key = collected.poll(); Objects.nonNull(key); key = collected.poll()) {
+			map.remove(key);
+		}
+	}
+}
@@ -17,15 +17,23 @@
  */
 package org.spdx.library.model.v2;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
@@ -42,6 +50,16 @@ import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
 /**
  * Collection of SPDX elements related to an SpdxElement
  * 
+ * In indexed mode, the IDs of the related elements are kept in a map by relationship type which
+ * is built on first use and maintained by <code>add</code> and <code>remove</code>.  This makes 
+ * <code>contains</code>, <code>size</code> and <code>isEmpty</code> constant time operations.
+ * The index is rebuilt when the owning element records a change (<code>markChanged</code>) which was not
+ * made through this collection - for example a relationship added through another collection or another
+ * model object for the same element.  The changes are counted per model store and element URI while an
+ * indexed collection for the element is reachable - the count is shared by the indexed collections for the
+ * element and its entry is removed once they have all been garbage collected.  Changes made directly to the model store or to the properties
+ * of the relationships themselves are not detected.
+ * 
  * @author Gary O'Neall
  *
  */
@@ -49,6 +67,31 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 	
 	static final Logger logger = LoggerFactory.getLogger(RelatedElementCollection.class);
 	
+	/**
+	 * Weak reference to the number of changes recorded for an element - the count is strongly referenced
+	 * only by the indexed collections for the element
+	 */
+	private static final class CountReference extends WeakReference<AtomicInteger> {
+		final String objectUri;
+		final Map<String, CountReference> counts;
+
+		CountReference(AtomicInteger count, String objectUri, Map<String, CountReference> counts) {
+			super(count, RELEASED_COUNTS);
+			this.objectUri = objectUri;
+			this.counts = counts;
+		}
+	}
+
+	/**
+	 * Number of changes recorded for each element with an indexed collection by model store and element object URI
+	 */
+	private static final ModelStoreMap<Map<String, CountReference>> MODIFICATION_COUNTS = new ModelStoreMap<>();
+
+	/**
+	 * Counts which are no longer referenced by any indexed collection
+	 */
+	private static final ReferenceQueue<AtomicInteger> RELEASED_COUNTS = new ReferenceQueue<>();
+	
 	ModelCollection relationshipCollection;
 	private RelationshipType relationshipTypeFilter;
 	private String relatedElementTypeFilter;
@@ -59,6 +102,28 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 
 	private SpdxElement owningElement;
 	
+	private final boolean indexed;
+	
+	/**
+	 * Map of relationship type to the number of relationships for each related element ID - only used in indexed mode
+	 */
+	private Map<RelationshipType, Map<String, Integer>> relatedIdIndex = null;
+	
+	/**
+	 * Number of related elements matching the relationship type and related element type filters
+	 */
+	private int indexedSize = 0;
+	
+	/**
+	 * Number of changes recorded for the owning element - created when the index is first built
+	 */
+	private AtomicInteger modificationCount = null;
+	
+	/**
+	 * Number of changes recorded for the owning element when the index was last updated
+	 */
+	private int indexedModificationCount = 0;
+	
 	/**
 	 * @param owningElement
 	 * @param relationshipTypeFilter relationship type to filter the results
@@ -83,6 +148,22 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 	public RelatedElementCollection(SpdxElement owningElement,
 			@Nullable RelationshipType relationshipTypeFilter,
 			@Nullable String relatedElementTypeFilter, String specVersion) throws InvalidSPDXAnalysisException {
+		this(owningElement, relationshipTypeFilter, relatedElementTypeFilter, specVersion, false);
+	}
+	
+	/**
+	 * @param owningElement
+	 * @param relationshipTypeFilter relationship type to filter the results
+	 *                               collection on - if null, do not filter
+	 * @param relatedElementTypeFilter filter for only related element types - if null, do not filter
+	 * @param specVersion - version of the SPDX spec the object complies with
+	 * @param indexed if true, keep an index of the related element IDs by relationship type
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public RelatedElementCollection(SpdxElement owningElement,
+			@Nullable RelationshipType relationshipTypeFilter,
+			@Nullable String relatedElementTypeFilter, String specVersion, 
+			boolean indexed) throws InvalidSPDXAnalysisException {
 		Objects.requireNonNull(owningElement, "Owning element can not be null");
 		this.owningElement = owningElement;
 		this.relationshipCollection = new ModelCollection(owningElement.getModelStore(),
@@ -91,6 +172,165 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 				owningElement.getCopyManager(), Relationship.class, specVersion, owningElement.getIdPrefix());
 		this.relationshipTypeFilter = relationshipTypeFilter;
 		this.relatedElementTypeFilter = relatedElementTypeFilter;
+		this.indexed = indexed;
+	}
+	
+	/**
+	 * Called when a model object records a change
+	 * @param modelObject changed model object
+	 */
+	static void elementChanged(ModelObjectV2 modelObject) {
+		Map<String, CountReference> counts = MODIFICATION_COUNTS.get(modelObject.getModelStore());
+		if (Objects.isNull(counts)) {
+			return;
+		}
+		CountReference reference = counts.get(modelObject.getObjectUri());
+		AtomicInteger count = Objects.isNull(reference) ? null : reference.get();
+		if (Objects.nonNull(count)) {
+			count.incrementAndGet();
+		}
+	}
+
+	/**
+	 * @param element element with an indexed collection
+	 * @return the number of changes recorded for the element - shared with the other reachable indexed collections for the element
+	 */
+	private static AtomicInteger modificationCountFor(SpdxElement element) {
+		Reference<? extends AtomicInteger> released;
+		while (Objects.nonNull(released = RELEASED_COUNTS.poll())) {
+			CountReference reference = (CountReference)released;
+			reference.counts.remove(reference.objectUri, reference);
+		}
+		Map<String, CountReference> counts = MODIFICATION_COUNTS.computeIfAbsent(element.getModelStore(),
+				store -> new ConcurrentHashMap<>());
+		String objectUri = element.getObjectUri();
+		while (true) {
+			CountReference reference = counts.get(objectUri);
+			AtomicInteger count = Objects.isNull(reference) ? null : reference.get();
+			if (Objects.nonNull(count)) {
+				return count;
+			}
+			AtomicInteger newCount = new AtomicInteger();
+			CountReference newReference = new CountReference(newCount, objectUri, counts);
+			if (Objects.isNull(reference) ? Objects.isNull(counts.putIfAbsent(objectUri, newReference)) :
+					counts.replace(objectUri, reference, newReference)) {
+				return newCount;
+			}
+		}
+	}
+	
+	/**
+	 * @return the number of changes recorded for the owning element since the index was first built
+	 */
+	private synchronized int getModificationCount() {
+		return Objects.isNull(modificationCount) ? 0 : modificationCount.get();
+	}
+	
+	/**
+	 * @return the related element index, rebuilding it if it does not exist or the owning element has been modified outside of this collection
+	 */
+	private synchronized Map<RelationshipType, Map<String, Integer>> getRelatedIdIndex() {
+		if (Objects.isNull(modificationCount)) {
+			modificationCount = modificationCountFor(owningElement);
+		}
+		int count = modificationCount.get();
+		if (Objects.nonNull(relatedIdIndex) && count == indexedModificationCount) {
+			return relatedIdIndex;
+		}
+		relatedIdIndex = new EnumMap<>(RelationshipType.class);
+		indexedSize = 0;
+		for (Object item:relationshipCollection.toImmutableList()) {
+			if (item instanceof Relationship) {
+				Relationship relationship = (Relationship)item;
+				try {
+					Optional<SpdxElement> relatedElement = relationship.getRelatedSpdxElement();
+					if (relatedElement.isPresent()) {
+						addToIndex(relationship.getRelationshipType(), relatedElement.get());
+					}
+				} catch (InvalidSPDXAnalysisException e) {
+					logger.warn("error getting relationship type - skipping relationship",e);
+				}
+			}
+		}
+		indexedModificationCount = count;
+		return relatedIdIndex;
+	}
+	
+	/**
+	 * Add a related element to the index
+	 * @param relationshipType type of the relationship to the element
+	 * @param relatedElement element related to the owning element
+	 */
+	private void addToIndex(RelationshipType relationshipType, SpdxElement relatedElement) {
+		relatedIdIndex.computeIfAbsent(relationshipType, type -> new HashMap<>())
+				.merge(relatedElement.getId(), 1, Integer::sum);
+		if (matchesFilters(relationshipType, relatedElement)) {
+			indexedSize++;
+		}
+	}
+	
+	/**
+	 * Remove a related element from the index
+	 * @param relationshipType type of the relationship to the element
+	 * @param relatedElement element related to the owning element
+	 */
+	private void removeFromIndex(RelationshipType relationshipType, SpdxElement relatedElement) {
+		Map<String, Integer> relatedIds = relatedIdIndex.get(relationshipType);
+		if (Objects.nonNull(relatedIds)) {
+			relatedIds.computeIfPresent(relatedElement.getId(), (id, count) -> count > 1 ? count - 1 : null);
+		}
+		if (matchesFilters(relationshipType, relatedElement)) {
+			indexedSize--;
+		}
+	}
+	
+	/**
+	 * @param relationshipType type of the relationship to the element
+	 * @param relatedElement element related to the owning element
+	 * @return true if the related element is to be included in this collection
+	 */
+	private boolean matchesFilters(RelationshipType relationshipType, SpdxElement relatedElement) {
+		return (Objects.isNull(this.relationshipTypeFilter) || this.relationshipTypeFilter.equals(relationshipType)) &&
+				(Objects.isNull(this.relatedElementTypeFilter) || this.relatedElementTypeFilter.equals(relatedElement.getType()));
+	}
+	
+	/**
+	 * Update the index after a relationship has been added or removed by this collection
+	 * @param relationshipType type of the relationship
+	 * @param relatedElement element related to the owning element
+	 * @param added true if the relationship was added, false if removed
+	 * @param countBefore value of <code>getModificationCount()</code> before the relationship was added or removed
+	 */
+	private synchronized void updateIndex(RelationshipType relationshipType, SpdxElement relatedElement, boolean added,
+			int countBefore) {
+		if (Objects.isNull(relatedIdIndex)) {
+			return;	// will be built on first use
+		}
+		if (countBefore != indexedModificationCount) {
+			// changed outside of this collection as well
+			relatedIdIndex = null;
+			return;
+		}
+		if (added) {
+			addToIndex(relationshipType, relatedElement);
+		} else {
+			removeFromIndex(relationshipType, relatedElement);
+		}
+		indexedModificationCount = modificationCount.get();
+	}
+	
+	/**
+	 * Invalidate the index so that it is rebuilt on next use
+	 */
+	private synchronized void invalidateIndex() {
+		relatedIdIndex = null;
+	}
+	
+	/**
+	 * @return true if this collection keeps an index of the related element IDs
+	 */
+	public boolean isIndexed() {
+		return indexed;
 	}
 	
 	public List<SpdxElement> toImmutableList() {
@@ -123,6 +363,12 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 	 */
 	@Override
 	public int size() {
+		if (indexed) {
+			synchronized (this) {
+				getRelatedIdIndex();
+				return indexedSize;
+			}
+		}
 		return toImmutableList().size();
 	}
 
@@ -131,6 +377,9 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 	 */
 	@Override
 	public boolean isEmpty() {
+		if (indexed) {
+			return size() == 0;
+		}
 		return toImmutableList().isEmpty();
 	}
 
@@ -143,6 +392,21 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 			return false;
 		}
 		String elementId = ((SpdxElement)o).getId();
+		if (indexed) {
+			synchronized (this) {
+				Map<RelationshipType, Map<String, Integer>> index = getRelatedIdIndex();
+				if (Objects.nonNull(this.relationshipTypeFilter)) {
+					Map<String, Integer> relatedIds = index.get(this.relationshipTypeFilter);
+					return Objects.nonNull(relatedIds) && relatedIds.containsKey(elementId);
+				}
+				for (Map<String, Integer> relatedIds:index.values()) {
+					if (relatedIds.containsKey(elementId)) {
+						return true;
+					}
+				}
+				return false;
+			}
+		}
 		Iterator<Object> iter = relationshipCollection.iterator();
 		while (iter.hasNext()) {
 			Object item = iter.next();
@@ -208,9 +472,14 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 			IModelStoreLock lock = owningElement.getModelStore()
 					.enterCriticalSection(false);
 			try {
+				int countBefore = getModificationCount();
 				Relationship relationship = owningElement.createRelationship(e, relationshipTypeFilter, null);
 				createdRelationshipIds.add(relationship.getId());
-				return owningElement.addRelationship(relationship);
+				boolean added = owningElement.addRelationship(relationship);
+				if (added && indexed) {
+					updateIndex(relationshipTypeFilter, e, true, countBefore);
+				}
+				return added;
 			} finally {
 				owningElement.getModelStore().leaveCriticalSection(lock);
 			}
@@ -226,12 +495,25 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 	@Override
 	public boolean remove(Object o) {
 		if (o instanceof Relationship) {
-			return this.relationshipCollection.remove(o);
+			boolean removed;
+			try {
+				removed = owningElement.removeRelationship((Relationship)o);
+			} catch (InvalidSPDXAnalysisException e) {
+				logger.error("Error removing relationship",e);
+				throw new RuntimeException(e);
+			}
+			if (removed && indexed) {
+				invalidateIndex();
+			}
+			return removed;
 		} else if (o instanceof SpdxElement) {
 			if (Objects.isNull(this.relationshipTypeFilter)) {
 				logger.error("Ambiguous relationship type - can not add element");
 				throw new RuntimeException("Can not remove element from RelatedElementCollection due to ambiguous relationship type.  Add a relationshipTypeFilter to resolve.");
 			}
+			if (indexed && !contains(o)) {
+				return false;
+			}
 			List<Object> relationships = this.relationshipCollection.toImmutableList();
 			for (Object rel:relationships) {
 				if (rel instanceof Relationship) {
@@ -245,7 +527,11 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 							String documentUri = relationship.getDocumentUri();
 							final IModelStoreLock lock = modelStore.enterCriticalSection(false);
 							try {
-								if (relationshipCollection.remove(relationship)) {
+								int countBefore = getModificationCount();
+								if (owningElement.removeRelationship(relationship)) {
+									if (indexed) {
+										updateIndex(relationshipTypeFilter, (SpdxElement)o, false, countBefore);
+									}
 									try {
 										if (createdRelationshipIds.contains(relationship.getId())) {
 											createdRelationshipIds.remove(relationship.getId());
@@ -333,6 +619,10 @@ public class RelatedElementCollection implements Collection<SpdxElement> {
 	public void clear() {
 		if (Objects.isNull(relationshipTypeFilter) && Objects.isNull(relatedElementTypeFilter)) {
 			relationshipCollection.clear();
+			owningElement.markValuesRemoved(SpdxConstantsCompatV2.PROP_RELATIONSHIP);
+			if (indexed) {
+				invalidateIndex();
+			}
 		} else {
 			List<SpdxElement> existingElements = toImmutableList();
 			for (SpdxElement existingElement:existingElements) {
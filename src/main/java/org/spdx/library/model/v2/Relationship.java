@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -77,7 +76,7 @@ public class Relationship extends ModelObjectV2 implements Comparable<Relationsh
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		Optional<SpdxElement> relatedSpdxElement;
 		try {
 			relatedSpdxElement = getRelatedSpdxElement();
@@ -0,0 +1,173 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * Index of one kind of snippet range (byte or line) by the file containing the snippet
+ *
+ * The ranges for each file are held in an interval tree laid out over arrays sorted by range start -
+ * each node is the middle of its subrange and records the largest range end in its subtree.  Subtrees
+ * which end too early or start too late are skipped, so a query returning k of n ranges visits
+ * O(log n + k) nodes for typical snippet layouts and at most O(k log n) nodes.  The tree for a file is
+ * rebuilt on the next query after a snippet range in that file changes.
+ *
+ * Ranges are closed - both the start and the end are part of the range.
+ *
+ * @author Gary O'Neall
+ */
+class SnippetRangeIndex {
+
+	/**
+	 * Immutable interval tree for the ranges in one file
+	 */
+	private static final class IntervalTree {
+		final int[] starts;
+		final int[] ends;
+		final String[] snippetIds;
+		final int[] maxEnds;
+
+		IntervalTree(Map<String, int[]> ranges) {
+			List<Map.Entry<String, int[]>> sorted = new ArrayList<>(ranges.entrySet());
+			sorted.sort((a, b) -> a.getValue()[0] != b.getValue()[0] ? Integer.compare(a.getValue()[0], b.getValue()[0]) :
+				a.getKey().compareTo(b.getKey()));
+			int size = sorted.size();
+			starts = new int[size];
+			ends = new int[size];
+			snippetIds = new String[size];
+			for (int i = 0; i < size; i++) {
+				starts[i] = sorted.get(i).getValue()[0];
+				ends[i] = sorted.get(i).getValue()[1];
+				snippetIds[i] = sorted.get(i).getKey();
+			}
+			maxEnds = new int[size];
+			computeMaxEnd(0, size);
+		}
+
+		private int computeMaxEnd(int low, int high) {
+			if (low >= high) {
+				return Integer.MIN_VALUE;
+			}
+			int mid = (low + high) >>> 1;
+			maxEnds[mid] = Math.max(ends[mid], Math.max(computeMaxEnd(low, mid), computeMaxEnd(mid + 1, high)));
+			return maxEnds[mid];
+		}
+
+		/**
+		 * Add the snippet IDs of all ranges in [low, high) which start at or before <code>maxStart</code>
+		 * and end at or after <code>minEnd</code> in start order
+		 */
+		void collect(int low, int high, int maxStart, int minEnd, List<String> result) {
+			if (low >= high) {
+				return;
+			}
+			int mid = (low + high) >>> 1;
+			if (maxEnds[mid] < minEnd) {
+				return;	// no range in this subtree ends late enough
+			}
+			collect(low, mid, maxStart, minEnd, result);
+			if (starts[mid] > maxStart) {
+				return;	// this and all later ranges start too late
+			}
+			if (ends[mid] >= minEnd) {
+				result.add(snippetIds[mid]);
+			}
+			collect(mid + 1, high, maxStart, minEnd, result);
+		}
+	}
+
+	/**
+	 * Ranges for one file by snippet ID along with the tree built from them
+	 */
+	private static final class FileRanges {
+		final Map<String, int[]> ranges = new HashMap<>();
+		IntervalTree tree = null;
+	}
+
+	private final Map<String, FileRanges> rangesByFileId = new HashMap<>();
+	private final Map<String, String> fileIdBySnippetId = new HashMap<>();
+
+	/**
+	 * Set or replace the range for a snippet
+	 * @param snippetId ID of the snippet
+	 * @param fileId ID of the file containing the snippet - if null, any range for the snippet is removed
+	 * @param start start of the range
+	 * @param end end of the range
+	 */
+	synchronized void put(String snippetId, @Nullable String fileId, int start, int end) {
+		remove(snippetId);
+		if (Objects.isNull(fileId)) {
+			return;
+		}
+		FileRanges fileRanges = rangesByFileId.computeIfAbsent(fileId, id -> new FileRanges());
+		fileRanges.ranges.put(snippetId, new int[] {start, end});
+		fileRanges.tree = null;
+		fileIdBySnippetId.put(snippetId, fileId);
+	}
+
+	/**
+	 * @param snippetId ID of the snippet whose range is removed
+	 */
+	synchronized void remove(String snippetId) {
+		String fileId = fileIdBySnippetId.remove(snippetId);
+		if (Objects.isNull(fileId)) {
+			return;
+		}
+		FileRanges fileRanges = rangesByFileId.get(fileId);
+		fileRanges.ranges.remove(snippetId);
+		if (fileRanges.ranges.isEmpty()) {
+			rangesByFileId.remove(fileId);
+		} else {
+			fileRanges.tree = null;
+		}
+	}
+
+	/**
+	 * @param fileId ID of the file
+	 * @param maxStart largest start of a matching range
+	 * @param minEnd smallest end of a matching range
+	 * @return IDs of the snippets in the file with a range starting at or before maxStart and ending at or after minEnd
+	 */
+	private synchronized List<String> query(String fileId, int maxStart, int minEnd) {
+		FileRanges fileRanges = rangesByFileId.get(fileId);
+		if (Objects.isNull(fileRanges)) {
+			return Collections.emptyList();
+		}
+		if (Objects.isNull(fileRanges.tree)) {
+			fileRanges.tree = new IntervalTree(fileRanges.ranges);
+		}
+		List<String> retval = new ArrayList<>();
+		fileRanges.tree.collect(0, fileRanges.tree.starts.length, maxStart, minEnd, retval);
+		return retval;
+	}
+
+	/**
+	 * @param fileId ID of the file
+	 * @param start start of the query range
+	 * @param end end of the query range
+	 * @return IDs of the snippets in the file whose range overlaps the query range, in order of range start
+	 */
+	List<String> overlapping(String fileId, int start, int end) {
+		return query(fileId, end, start);
+	}
+
+	/**
+	 * @param fileId ID of the file
+	 * @param start start of the query range
+	 * @param end end of the query range
+	 * @return IDs of the snippets in the file whose range contains the whole query range, in order of range start
+	 */
+	List<String> containing(String fileId, int start, int end) {
+		return query(fileId, start, end);
+	}
+}
@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -205,13 +204,13 @@ public class SpdxCreatorInformation extends ModelObjectV2 {
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		VerificationMessages retval = new VerificationMessages();
 		try {
 			int numCreators = 0;
 			for (String creator:getCreators()) {
 				String verify = SpdxVerificationHelper.verifyCreator(creator);
 				if (verify != null) {
-					retval.add(verify);
+					retval.add(VerificationRule.CREATOR, verify);
 				}
 				numCreators++;
 			}
@@ -228,7 +227,7 @@ public class SpdxCreatorInformation extends ModelObjectV2 {
 			} else {
 				String verify = SpdxVerificationHelper.verifyDate(creationDate);
 				if (verify != null) {
-					retval.add(verify);
+					retval.add(VerificationRule.DATE, verify);
 				}
 			}
 		} catch (InvalidSPDXAnalysisException e) {
@@ -248,6 +247,11 @@ public class SpdxCreatorInformation extends ModelObjectV2 {
 		}
 		return retval;
 	}
+
+	@Override
+	protected boolean isVerificationShareable() {
+		return true;
+	}
 	
 	/**
 	 * @param version
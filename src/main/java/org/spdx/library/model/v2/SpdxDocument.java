@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -37,7 +36,6 @@ import org.spdx.library.model.v2.enumerations.RelationshipType;
 import org.spdx.library.model.v2.license.AnyLicenseInfo;
 import org.spdx.library.model.v2.license.ExtractedLicenseInfo;
 import org.spdx.library.model.v2.license.SpdxListedLicense;
-import org.spdx.library.model.v2.license.SpdxNoneLicense;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.PropertyDescriptor;
 
@@ -159,7 +157,7 @@ public class SpdxDocument extends SpdxElement {
 			return retval.get();
 		} else {
 			logger.warn("No data license for "+getName());
-			return new SpdxNoneLicense(getModelStore(), getDocumentUri());
+			return ConstantValueCache.noneLicense(getModelStore(), getDocumentUri());
 		}
 	}
 	
@@ -237,15 +235,39 @@ public class SpdxDocument extends SpdxElement {
 		setPropertyValue(SpdxConstantsCompatV2.PROP_SPDX_SPEC_VERSION, specVersion);
 		this.specVersion = specVersion;
 	}
-	
 
-	
+	/**
+	 * Verify the document re-using the results of a previous <code>verifyIncremental</code> for the
+	 * elements which have not changed
+	 *
+	 * Each element reachable from the document is verified on its own together with the objects it owns
+	 * (annotations, relationships, checksums, licenses, ...).  The results are cached and re-used until a
+	 * setter or collection update on the element or one of the objects it owns records a change.  The
+	 * errors and warnings are the same, in the same order, as those returned by <code>verify()</code>.
+	 * Changes made directly to the model store are not tracked.
+	 * @return any verification errors or warnings for the document and its elements
+	 */
+	public List<String> verifyIncremental() {
+		return verifyIncremental(this.specVersion);
+	}
+
+	/**
+	 * Verify the document re-using the results of a previous <code>verifyIncremental</code> for the
+	 * elements which have not changed - see <code>verifyIncremental()</code>
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return any verification errors or warnings for the document and its elements
+	 */
+	public List<String> verifyIncremental(String specVersion) {
+		return VerificationCache.forDocument(this).verify(this, specVersion);
+	}
+
+
 	/* (non-Javadoc)
 	 * @see org.spdx.library.model.compat.v2.compat.v2.SpdxElement#_verify(java.util.List)
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String verifySpecVersion) {
-		List<String> retval = new ArrayList<>();
+		VerificationMessages retval = new VerificationMessages();
 		String specVersion;
 		try {
 			specVersion = getSpecVersion();
@@ -255,7 +277,7 @@ public class SpdxDocument extends SpdxElement {
 			} else {
 				String verify = SpdxVerificationHelper.verifySpdxVersion(specVersion);
 				if (verify != null) {
-					retval.add(verify);
+					retval.add(VerificationRule.SPDX_VERSION, verify);
 					specVersion = verifySpecVersion;
 				}			
 			}
@@ -289,8 +311,8 @@ public class SpdxDocument extends SpdxElement {
 		}
 		// Extracted licensine infos
 		try {
-			for (ExtractedLicenseInfo licInfo:getExtractedLicenseInfos()) {
-				retval.addAll(licInfo.verify(verifiedIds, specVersion));
+			for (List<String> verify:verifyEach(getExtractedLicenseInfos(), verifiedIds, specVersion)) {
+				retval.addAll(verify);
 			}
 		} catch (InvalidSPDXAnalysisException e) {
 			retval.add("Error getting extracted licensing info: "+e.getMessage());
@@ -0,0 +1,905 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.IModelCopyManager;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.enumerations.FileType;
+import org.spdx.library.model.v2.enumerations.Purpose;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+import org.spdx.library.model.v2.pointer.ByteOffsetPointer;
+import org.spdx.library.model.v2.pointer.LineCharPointer;
+import org.spdx.library.model.v2.pointer.StartEndPointer;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.PropertyDescriptor;
+import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
+
+/**
+ * Index of the elements in an SPDX document by name, checksum, file type, package purpose and element type
+ *
+ * The index is built in one pass over the elements in the document and holds only the element IDs.
+ * While the index is open, it is updated when an element in the document is created through
+ * <code>SpdxModelFactoryCompatV2</code> or an element builder, or when
+ * <code>setName</code>, <code>addChecksum</code>, <code>addFileType</code> or <code>setPrimaryPurpose</code>
+ * is called on an element.  Other changes are not applied to the index when they happen.  Instead, while
+ * the index is open, the IDs found by a lookup which may be stale are checked against the current element
+ * in the model store and the IDs which no longer match are removed from the index:
+ * <ul>
+ * <li>Names and checksums are almost always unique, so every ID found by name or checksum is checked.  This
+ * covers checksum values changed after they were added and elements deleted from the model store.</li>
+ * <li>For file types, package purposes and relationships, only the IDs of the elements which have had values
+ * of that property removed or replaced since the index was built are checked - e.g. through the collection
+ * returned by <code>getFileTypes()</code>.  These changes are recorded by the model objects.</li>
+ * </ul>
+ * Lookups by element type, file type, package purpose and relationship therefore do not read the model store
+ * for unchanged elements, and return the IDs of deleted elements until the index is rebuilt.  Values added
+ * by changes which are not tracked are not found until the index is rebuilt.  An open index is referenced
+ * from a static registry until it is closed or its model store is garbage collected.
+ *
+ * The reverse relationship index - the elements with a relationship to a given element - is built on
+ * the first relationship lookup and then updated by <code>addRelationship</code>,
+ * <code>removeRelationship</code> and <code>setRelationships</code>.  Similarly, the snippet range
+ * index is built on the first snippet lookup and then updated by the <code>SpdxSnippet</code> methods
+ * <code>setByteRange</code>, <code>setLineRange</code> and <code>setSnippetFromFile</code>.
+ *
+ * @author Gary O'Neall
+ */
+public class SpdxDocumentIndex implements AutoCloseable {
+
+	static final Set<String> INDEXED_TYPES;
+
+	static {
+		Set<String> types = new HashSet<>();
+		types.add(SpdxConstantsCompatV2.CLASS_SPDX_DOCUMENT);
+		types.add(SpdxConstantsCompatV2.CLASS_SPDX_PACKAGE);
+		types.add(SpdxConstantsCompatV2.CLASS_SPDX_FILE);
+		types.add(SpdxConstantsCompatV2.CLASS_SPDX_SNIPPET);
+		types.add(GenericSpdxElement.GENERIC_SPDX_ELEMENT_TYPE);
+		types.add(GenericSpdxItem.GENERIC_SPDX_ITEM_TYPE);
+		INDEXED_TYPES = Collections.unmodifiableSet(types);
+	}
+
+	/**
+	 * Open indexes by model store and document URI - an index is removed when it is closed
+	 */
+	private static final ModelStoreMap<Map<String, SpdxDocumentIndex>> OPEN_INDEXES = new ModelStoreMap<>();
+
+	/**
+	 * Visitor for the elements in the document
+	 */
+	@FunctionalInterface
+	interface ElementVisitor {
+		void visit(SpdxElement element) throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Check whether an indexed value is still current for an element
+	 */
+	@FunctionalInterface
+	private interface IndexedValueCheck {
+		boolean isCurrent(SpdxElement element) throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Map of keys to the IDs of the elements with that key.  Most names and checksums are unique,
+	 * so a single ID is held in a singleton set which is replaced by a concurrent set on the second ID.
+	 */
+	private static class IdIndex<K> {
+		private final Map<K, Set<String>> ids = new ConcurrentHashMap<>();
+
+		void add(K key, String id) {
+			ids.compute(key, (k, existing) -> {
+				if (Objects.isNull(existing)) {
+					return Collections.singleton(id);
+				}
+				if (existing.contains(id)) {
+					return existing;
+				}
+				Set<String> retval = existing.size() == 1 ? newIdSet(existing) : existing;
+				retval.add(id);
+				return retval;
+			});
+		}
+
+		void remove(K key, String id) {
+			ids.computeIfPresent(key, (k, existing) -> {
+				if (!existing.contains(id)) {
+					return existing;
+				}
+				if (existing.size() == 1) {
+					return null;
+				}
+				existing.remove(id);
+				return existing;
+			});
+		}
+
+		Set<String> get(K key) {
+			Set<String> retval = ids.get(key);
+			return Objects.isNull(retval) ? Collections.emptySet() : Collections.unmodifiableSet(retval);
+		}
+
+		private static Set<String> newIdSet(Set<String> existing) {
+			Set<String> retval = ConcurrentHashMap.newKeySet();
+			retval.addAll(existing);
+			return retval;
+		}
+	}
+
+	private final String documentUri;
+	private final IdIndex<String> byName = new IdIndex<>();
+	private final Map<ChecksumAlgorithm, IdIndex<ChecksumValue>> byChecksum;
+	private final IdIndex<FileType> byFileType = new IdIndex<>();
+	private final IdIndex<Purpose> byPurpose = new IdIndex<>();
+	private final IdIndex<String> byType = new IdIndex<>();
+	/**
+	 * IDs of the files which have had file types removed since the index was built
+	 */
+	private final Set<String> fileTypesRemoved = ConcurrentHashMap.newKeySet();
+	/**
+	 * IDs of the packages which have had their primary purpose removed or replaced since the index was built
+	 */
+	private final Set<String> purposesRemoved = ConcurrentHashMap.newKeySet();
+	/**
+	 * IDs of the elements which have had relationships removed since the index was built
+	 */
+	private final Set<String> relationshipsRemoved = ConcurrentHashMap.newKeySet();
+	/**
+	 * IDs of the elements having a relationship by relationship type and related element ID - built on first use
+	 */
+	private volatile Map<RelationshipType, IdIndex<String>> bySourceOfRelationship = null;
+	/**
+	 * Snippet byte ranges and line ranges - built on first use
+	 */
+	private volatile SnippetRangeIndex[] snippetRanges = null;
+	/**
+	 * Weak so that the registry of open indexes does not keep the model store from being collected
+	 */
+	private final WeakReference<IModelStore> modelStore;
+	private volatile boolean open = true;
+	private final IModelCopyManager copyManager;
+
+	private SpdxDocumentIndex(IModelStore modelStore, String documentUri, @Nullable IModelCopyManager copyManager) {
+		this.modelStore = new WeakReference<>(modelStore);
+		this.documentUri = documentUri;
+		this.copyManager = copyManager;
+		Map<ChecksumAlgorithm, IdIndex<ChecksumValue>> checksumIndexes = new EnumMap<>(ChecksumAlgorithm.class);
+		for (ChecksumAlgorithm algorithm:ChecksumAlgorithm.values()) {
+			checksumIndexes.put(algorithm, new IdIndex<>());
+		}
+		this.byChecksum = checksumIndexes;
+	}
+
+	/**
+	 * Build an index of the elements in a document - replaces any index already open for the document
+	 * @param document SPDX document to index
+	 * @return an open index for the document
+	 * @throws InvalidSPDXAnalysisException on errors reading the elements
+	 */
+	public static SpdxDocumentIndex build(SpdxDocument document) throws InvalidSPDXAnalysisException {
+		IModelStore modelStore = document.getModelStore();
+		String documentUri = document.getDocumentUri();
+		SpdxDocumentIndex retval = new SpdxDocumentIndex(modelStore, documentUri, document.getCopyManager());
+		// opened before the scan so that elements changed during the scan are also indexed
+		SpdxDocumentIndex previous = OPEN_INDEXES.computeIfAbsent(modelStore, store -> new ConcurrentHashMap<>())
+				.put(documentUri, retval);
+		if (Objects.nonNull(previous)) {
+			previous.open = false;
+		}
+		try {
+			retval.forEachElement(modelStore, retval::addElement);
+		} catch (InvalidSPDXAnalysisException | RuntimeException e) {
+			retval.close();
+			throw e;
+		}
+		return retval;
+	}
+
+	/**
+	 * @param modelStore model store containing the document
+	 * @param visitor called for each indexed element in the document
+	 * @throws InvalidSPDXAnalysisException on errors reading the elements
+	 */
+	private void forEachElement(IModelStore modelStore, ElementVisitor visitor) throws InvalidSPDXAnalysisException {
+		forEachElement(modelStore, documentUri, copyManager, visitor);
+	}
+
+	/**
+	 * @param modelStore model store containing the document
+	 * @param documentUri URI of the document
+	 * @param copyManager copy manager for the elements
+	 * @param visitor called for each document, package, file, snippet and generic element in the document
+	 * @throws InvalidSPDXAnalysisException on errors reading the elements
+	 */
+	static void forEachElement(IModelStore modelStore, String documentUri, @Nullable IModelCopyManager copyManager,
+			ElementVisitor visitor) throws InvalidSPDXAnalysisException {
+		String prefix = documentUri + "#";
+		for (String type:INDEXED_TYPES) {
+			try (Stream<TypedValue> items = modelStore.getAllItems(documentUri, type)) {
+				for (TypedValue tv:(Iterable<TypedValue>)items::iterator) {
+					if (!tv.getObjectUri().startsWith(prefix)) {
+						continue;
+					}
+					String id = CompatibleModelStoreWrapper.objectUriToId(modelStore, tv.getObjectUri(), documentUri);
+					visitor.visit((SpdxElement)SpdxModelFactoryCompatV2.getModelObjectV2(modelStore,
+							documentUri, id, type, copyManager, false));
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param document SPDX document
+	 * @return the open index for the document or empty if no index is open
+	 */
+	public static Optional<SpdxDocumentIndex> getIndex(SpdxDocument document) {
+		return Optional.ofNullable(indexFor(document));
+	}
+
+	/**
+	 * @param element model object
+	 * @return the open index for the document containing the element or null if none is open
+	 */
+	static @Nullable SpdxDocumentIndex indexFor(ModelObjectV2 element) {
+		Map<String, SpdxDocumentIndex> indexes = OPEN_INDEXES.get(element.getModelStore());
+		if (Objects.isNull(indexes) || Objects.isNull(element.getDocumentUri())) {
+			return null;
+		}
+		return indexes.get(element.getDocumentUri());
+	}
+
+	/**
+	 * Called before an element is constructed with create set to true
+	 * @param modelStore model store for the element
+	 * @param documentUri document URI for the element
+	 * @param id ID of the element
+	 * @param type type of the element
+	 * @return true if the element does not yet exist and is to be added to an open index by <code>elementCreated</code>
+	 * @throws InvalidSPDXAnalysisException on errors checking the model store
+	 */
+	static boolean isCreationIndexed(IModelStore modelStore, String documentUri, String id, String type) throws InvalidSPDXAnalysisException {
+		if (!INDEXED_TYPES.contains(type)) {
+			return false;
+		}
+		Map<String, SpdxDocumentIndex> indexes = OPEN_INDEXES.get(modelStore);
+		if (Objects.isNull(indexes) || !indexes.containsKey(documentUri)) {
+			return false;
+		}
+		return !modelStore.exists(CompatibleModelStoreWrapper.documentUriIdToUri(documentUri, id, modelStore.isAnon(id)));
+	}
+
+	/**
+	 * Called once a created element is fully constructed
+	 * @param element newly created element
+	 */
+	static void elementCreated(SpdxElement element) {
+		SpdxDocumentIndex index = indexFor(element);
+		if (Objects.nonNull(index) && INDEXED_TYPES.contains(element.getType())) {
+			index.byType.add(element.getType(), element.getId());
+		}
+	}
+
+	/**
+	 * Called when values of a property of a model object may have been removed or replaced
+	 * @param modelObject changed model object
+	 * @param propertyDescriptor property changed
+	 */
+	static void valuesRemoved(ModelObjectV2 modelObject, PropertyDescriptor propertyDescriptor) {
+		if (!(modelObject instanceof SpdxElement)) {
+			return;
+		}
+		boolean fileType = SpdxConstantsCompatV2.PROP_FILE_TYPE.equals(propertyDescriptor);
+		boolean purpose = !fileType && SpdxConstantsCompatV2.PROP_PRIMARY_PACKAGE_PURPOSE.equals(propertyDescriptor);
+		if (!fileType && !purpose && !SpdxConstantsCompatV2.PROP_RELATIONSHIP.equals(propertyDescriptor)) {
+			return;
+		}
+		SpdxDocumentIndex index = indexFor(modelObject);
+		if (Objects.nonNull(index)) {
+			(fileType ? index.fileTypesRemoved : purpose ? index.purposesRemoved : index.relationshipsRemoved)
+					.add(modelObject.getId());
+		}
+	}
+
+	/**
+	 * Add an element written directly to the model store rather than created through a model object constructor
+	 * @param element element to add
+	 * @throws InvalidSPDXAnalysisException on errors reading the element properties
+	 */
+	void elementAdded(SpdxElement element) throws InvalidSPDXAnalysisException {
+		if (INDEXED_TYPES.contains(element.getType())) {
+			addElement(element);
+		}
+	}
+
+	/**
+	 * Add all indexed properties of an element
+	 * @param element element to add
+	 * @throws InvalidSPDXAnalysisException on errors reading the element properties
+	 */
+	private void addElement(SpdxElement element) throws InvalidSPDXAnalysisException {
+		String id = element.getId();
+		byType.add(element.getType(), id);
+		Optional<String> name = element.getName();
+		if (name.isPresent()) {
+			byName.add(name.get(), id);
+		}
+		if (element instanceof SpdxFile) {
+			for (Checksum checksum:((SpdxFile)element).getChecksums()) {
+				checksumAdded(element, checksum);
+			}
+			for (FileType fileType:((SpdxFile)element).getFileTypes()) {
+				byFileType.add(fileType, id);
+			}
+		} else if (element instanceof SpdxPackage) {
+			for (Checksum checksum:((SpdxPackage)element).getChecksums()) {
+				checksumAdded(element, checksum);
+			}
+			Optional<Purpose> purpose = ((SpdxPackage)element).getPrimaryPurpose();
+			if (purpose.isPresent()) {
+				byPurpose.add(purpose.get(), id);
+			}
+		}
+	}
+
+	/**
+	 * @param element element whose name changed
+	 * @param oldName previous name
+	 * @param newName new name
+	 */
+	void nameChanged(SpdxElement element, @Nullable String oldName, @Nullable String newName) {
+		if (Objects.nonNull(oldName)) {
+			byName.remove(oldName, element.getId());
+		}
+		if (Objects.nonNull(newName)) {
+			byName.add(newName, element.getId());
+		}
+	}
+
+	/**
+	 * @param element element the checksum was added to
+	 * @param checksum checksum added
+	 * @throws InvalidSPDXAnalysisException on errors reading the checksum
+	 */
+	void checksumAdded(SpdxElement element, Checksum checksum) throws InvalidSPDXAnalysisException {
+		ChecksumAlgorithm algorithm = checksum.getAlgorithm();
+		String value = checksum.getValue();
+		if (ChecksumAlgorithm.MISSING.equals(algorithm) || value.isEmpty()) {
+			return;
+		}
+		ChecksumValue checksumValue;
+		try {
+			checksumValue = checksum.getChecksumValue();
+		} catch (InvalidSPDXAnalysisException e) {
+			return;	// invalid values are reported by verify and can not be looked up
+		}
+		byChecksum.get(algorithm).add(checksumValue, element.getId());
+	}
+
+	/**
+	 * @param element file the file type was added to
+	 * @param fileType file type added
+	 */
+	void fileTypeAdded(SpdxElement element, FileType fileType) {
+		byFileType.add(fileType, element.getId());
+	}
+
+	/**
+	 * @param element package whose purpose changed
+	 * @param oldPurpose previous purpose
+	 * @param newPurpose new purpose
+	 */
+	void purposeChanged(SpdxElement element, @Nullable Purpose oldPurpose, @Nullable Purpose newPurpose) {
+		if (Objects.nonNull(oldPurpose)) {
+			byPurpose.remove(oldPurpose, element.getId());
+		}
+		if (Objects.nonNull(newPurpose)) {
+			byPurpose.add(newPurpose, element.getId());
+		}
+	}
+
+	/**
+	 * @return map of relationship type to the IDs of the elements having the relationship by related element ID
+	 * @throws InvalidSPDXAnalysisException if the index is closed before first use or on errors reading the relationships
+	 */
+	private Map<RelationshipType, IdIndex<String>> getSourceOfRelationshipIndex() throws InvalidSPDXAnalysisException {
+		Map<RelationshipType, IdIndex<String>> retval = bySourceOfRelationship;
+		if (Objects.nonNull(retval)) {
+			return retval;
+		}
+		synchronized (this) {
+			if (Objects.nonNull(bySourceOfRelationship)) {
+				return bySourceOfRelationship;
+			}
+			IModelStore store = getOpenModelStore();
+			if (Objects.isNull(store)) {
+				throw new InvalidSPDXAnalysisException("Relationship index can not be built after the document index is closed");
+			}
+			retval = new EnumMap<>(RelationshipType.class);
+			for (RelationshipType relationshipType:RelationshipType.values()) {
+				retval.put(relationshipType, new IdIndex<>());
+			}
+			final Map<RelationshipType, IdIndex<String>> index = retval;
+			forEachElement(store, element -> {
+				for (Relationship relationship:element.getRelationships()) {
+					addRelationship(index, element, relationship);
+				}
+			});
+			bySourceOfRelationship = retval;
+			return retval;
+		}
+	}
+
+	/**
+	 * @param index reverse relationship index
+	 * @param element element having the relationship
+	 * @param relationship relationship
+	 * @throws InvalidSPDXAnalysisException on errors reading the relationship
+	 */
+	private static void addRelationship(Map<RelationshipType, IdIndex<String>> index, SpdxElement element,
+			Relationship relationship) throws InvalidSPDXAnalysisException {
+		Optional<SpdxElement> related = relationship.getRelatedSpdxElement();
+		RelationshipType relationshipType = relationship.getRelationshipType();
+		if (related.isPresent() && !RelationshipType.MISSING.equals(relationshipType)) {
+			index.get(relationshipType).add(related.get().getId(), element.getId());
+		}
+	}
+
+	/**
+	 * @param element element the relationship was added to
+	 * @param relationship relationship added
+	 * @throws InvalidSPDXAnalysisException on errors reading the relationship
+	 */
+	void relationshipAdded(SpdxElement element, Relationship relationship) throws InvalidSPDXAnalysisException {
+		Map<RelationshipType, IdIndex<String>> index = bySourceOfRelationship;
+		if (Objects.nonNull(index)) {
+			addRelationship(index, element, relationship);
+		}
+	}
+
+	/**
+	 * @param element element the relationship was removed from
+	 * @param relationship relationship removed
+	 * @throws InvalidSPDXAnalysisException on errors reading the relationships
+	 */
+	void relationshipRemoved(SpdxElement element, Relationship relationship) throws InvalidSPDXAnalysisException {
+		Map<RelationshipType, IdIndex<String>> index = bySourceOfRelationship;
+		if (Objects.isNull(index)) {
+			return;
+		}
+		Optional<SpdxElement> related = relationship.getRelatedSpdxElement();
+		RelationshipType relationshipType = relationship.getRelationshipType();
+		if (!related.isPresent() || RelationshipType.MISSING.equals(relationshipType)) {
+			return;
+		}
+		String relatedId = related.get().getId();
+		for (Relationship remaining:element.getRelationships()) {
+			// the element may have more than one relationship of the same type to the same element
+			Optional<SpdxElement> remainingRelated = remaining.getRelatedSpdxElement();
+			if (relationshipType.equals(remaining.getRelationshipType()) && remainingRelated.isPresent() &&
+					relatedId.equals(remainingRelated.get().getId())) {
+				return;
+			}
+		}
+		index.get(relationshipType).remove(relatedId, element.getId());
+	}
+
+	/**
+	 * @return the snippet byte range index and line range index
+	 * @throws InvalidSPDXAnalysisException if the index is closed before first use or on errors reading the snippets
+	 */
+	private SnippetRangeIndex[] getSnippetRangeIndexes() throws InvalidSPDXAnalysisException {
+		SnippetRangeIndex[] retval = snippetRanges;
+		if (Objects.nonNull(retval)) {
+			return retval;
+		}
+		synchronized (this) {
+			if (Objects.nonNull(snippetRanges)) {
+				return snippetRanges;
+			}
+			IModelStore store = getOpenModelStore();
+			if (Objects.isNull(store)) {
+				throw new InvalidSPDXAnalysisException("Snippet range index can not be built after the document index is closed");
+			}
+			retval = new SnippetRangeIndex[] {new SnippetRangeIndex(), new SnippetRangeIndex()};
+			final SnippetRangeIndex[] indexes = retval;
+			forEachElement(store, element -> {
+				if (element instanceof SpdxSnippet) {
+					indexSnippet(indexes, (SpdxSnippet)element);
+				}
+			});
+			snippetRanges = retval;
+			return retval;
+		}
+	}
+
+	/**
+	 * @param indexes byte range index and line range index
+	 * @param snippet snippet to index
+	 * @throws InvalidSPDXAnalysisException on errors reading the snippet ranges
+	 */
+	private static void indexSnippet(SnippetRangeIndex[] indexes, SpdxSnippet snippet) throws InvalidSPDXAnalysisException {
+		SpdxFile fromFile = snippet.getSnippetFromFile();
+		String fileId = Objects.isNull(fromFile) ? null : fromFile.getId();
+		StartEndPointer byteRange = snippet.getByteRange();
+		if (Objects.nonNull(byteRange) && byteRange.getStartPointer() instanceof ByteOffsetPointer &&
+				byteRange.getEndPointer() instanceof ByteOffsetPointer) {
+			indexes[0].put(snippet.getId(), fileId, ((ByteOffsetPointer)byteRange.getStartPointer()).getOffset(),
+					((ByteOffsetPointer)byteRange.getEndPointer()).getOffset());
+		} else {
+			indexes[0].remove(snippet.getId());
+		}
+		Optional<StartEndPointer> lineRange = snippet.getLineRange();
+		if (lineRange.isPresent() && lineRange.get().getStartPointer() instanceof LineCharPointer &&
+				lineRange.get().getEndPointer() instanceof LineCharPointer) {
+			indexes[1].put(snippet.getId(), fileId, ((LineCharPointer)lineRange.get().getStartPointer()).getLineNumber(),
+					((LineCharPointer)lineRange.get().getEndPointer()).getLineNumber());
+		} else {
+			indexes[1].remove(snippet.getId());
+		}
+	}
+
+	/**
+	 * @param snippet snippet whose ranges or file changed
+	 * @throws InvalidSPDXAnalysisException on errors reading the snippet ranges
+	 */
+	void snippetChanged(SpdxSnippet snippet) throws InvalidSPDXAnalysisException {
+		SnippetRangeIndex[] indexes = snippetRanges;
+		if (Objects.nonNull(indexes)) {
+			indexSnippet(indexes, snippet);
+		}
+	}
+
+	/**
+	 * @return the document URI for the indexed document
+	 */
+	public String getDocumentUri() {
+		return documentUri;
+	}
+
+	/**
+	 * @return true if the index is open and being updated
+	 */
+	public boolean isOpen() {
+		return Objects.nonNull(getOpenModelStore());
+	}
+
+	/**
+	 * @return the model store for the document or null if the index is closed
+	 */
+	private @Nullable IModelStore getOpenModelStore() {
+		return open ? modelStore.get() : null;
+	}
+
+	/**
+	 * @param name element name
+	 * @return IDs of the elements with the name
+	 */
+	public Set<String> getIdsByName(String name) {
+		return lookup(byName, name, element -> name.equals(element.getName().orElse(null)));
+	}
+
+	/**
+	 * @param algorithm checksum algorithm
+	 * @param value checksum value
+	 * @return IDs of the files and packages with the checksum
+	 */
+	public Set<String> getIdsByChecksum(ChecksumAlgorithm algorithm, ChecksumValue value) {
+		return lookup(byChecksum.get(algorithm), value, element -> hasChecksum(element, algorithm, value));
+	}
+
+	/**
+	 * @param algorithm checksum algorithm
+	 * @param value hex encoded checksum value
+	 * @return IDs of the files and packages with the checksum
+	 * @throws InvalidSPDXAnalysisException if the value is not a valid hex string
+	 */
+	public Set<String> getIdsByChecksum(ChecksumAlgorithm algorithm, String value) throws InvalidSPDXAnalysisException {
+		return getIdsByChecksum(algorithm, ChecksumValue.fromHex(value));
+	}
+
+	/**
+	 * @param relatedElementId ID of the related element
+	 * @param relationshipType relationship type
+	 * @return IDs of the elements having a relationship of the type to the related element
+	 * @throws InvalidSPDXAnalysisException if the relationship index is first used after the index is closed
+	 * or on errors reading the relationships
+	 */
+	public Set<String> getIdsWithRelationshipTo(String relatedElementId, RelationshipType relationshipType) throws InvalidSPDXAnalysisException {
+		return lookup(getSourceOfRelationshipIndex().get(relationshipType), relatedElementId, relationshipsRemoved,
+				element -> hasRelationship(element, relationshipType, relatedElementId));
+	}
+
+	/**
+	 * @param relatedElementId ID of the related element
+	 * @return map of relationship type to the IDs of the elements having a relationship of that type to the related element
+	 * @throws InvalidSPDXAnalysisException if the relationship index is first used after the index is closed
+	 * or on errors reading the relationships
+	 */
+	public Map<RelationshipType, Set<String>> getRelationshipsTo(String relatedElementId) throws InvalidSPDXAnalysisException {
+		Map<RelationshipType, Set<String>> retval = new EnumMap<>(RelationshipType.class);
+		for (Entry<RelationshipType, IdIndex<String>> entry:getSourceOfRelationshipIndex().entrySet()) {
+			RelationshipType relationshipType = entry.getKey();
+			Set<String> ids = lookup(entry.getValue(), relatedElementId, relationshipsRemoved,
+					element -> hasRelationship(element, relationshipType, relatedElementId));
+			if (!ids.isEmpty()) {
+				retval.put(entry.getKey(), ids);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param fileId ID of the file containing the snippets
+	 * @param startByte first byte of the range
+	 * @param endByte last byte of the range
+	 * @return IDs of the snippets whose byte range shares at least one byte with the range, in order of the snippet start
+	 * @throws InvalidSPDXAnalysisException if the snippet index is first used after the index is closed
+	 * or on errors reading the snippets
+	 */
+	public List<String> getSnippetIdsOverlappingBytes(String fileId, int startByte, int endByte) throws InvalidSPDXAnalysisException {
+		SnippetRangeIndex[] indexes = getSnippetRangeIndexes();
+		return existingSnippets(indexes, indexes[0].overlapping(fileId, startByte, endByte));
+	}
+
+	/**
+	 * @param fileId ID of the file containing the snippets
+	 * @param startByte first byte of the range
+	 * @param endByte last byte of the range
+	 * @return IDs of the snippets whose byte range includes the whole range, in order of the snippet start
+	 * @throws InvalidSPDXAnalysisException if the snippet index is first used after the index is closed
+	 * or on errors reading the snippets
+	 */
+	public List<String> getSnippetIdsContainingBytes(String fileId, int startByte, int endByte) throws InvalidSPDXAnalysisException {
+		SnippetRangeIndex[] indexes = getSnippetRangeIndexes();
+		return existingSnippets(indexes, indexes[0].containing(fileId, startByte, endByte));
+	}
+
+	/**
+	 * @param fileId ID of the file containing the snippets
+	 * @param startLine first line of the range
+	 * @param endLine last line of the range
+	 * @return IDs of the snippets whose line range shares at least one line with the range, in order of the snippet start
+	 * @throws InvalidSPDXAnalysisException if the snippet index is first used after the index is closed
+	 * or on errors reading the snippets
+	 */
+	public List<String> getSnippetIdsOverlappingLines(String fileId, int startLine, int endLine) throws InvalidSPDXAnalysisException {
+		SnippetRangeIndex[] indexes = getSnippetRangeIndexes();
+		return existingSnippets(indexes, indexes[1].overlapping(fileId, startLine, endLine));
+	}
+
+	/**
+	 * @param fileId ID of the file containing the snippets
+	 * @param startLine first line of the range
+	 * @param endLine last line of the range
+	 * @return IDs of the snippets whose line range includes the whole range, in order of the snippet start
+	 * @throws InvalidSPDXAnalysisException if the snippet index is first used after the index is closed
+	 * or on errors reading the snippets
+	 */
+	public List<String> getSnippetIdsContainingLines(String fileId, int startLine, int endLine) throws InvalidSPDXAnalysisException {
+		SnippetRangeIndex[] indexes = getSnippetRangeIndexes();
+		return existingSnippets(indexes, indexes[1].containing(fileId, startLine, endLine));
+	}
+
+	/**
+	 * @param fileType file type
+	 * @return IDs of the files with the file type
+	 */
+	public Set<String> getIdsByFileType(FileType fileType) {
+		return lookup(byFileType, fileType, fileTypesRemoved, element -> element instanceof SpdxFile &&
+				((SpdxFile)element).getFileTypes().contains(fileType));
+	}
+
+	/**
+	 * @param purpose package primary purpose
+	 * @return IDs of the packages with the primary purpose
+	 */
+	public Set<String> getIdsByPurpose(Purpose purpose) {
+		return lookup(byPurpose, purpose, purposesRemoved, element -> element instanceof SpdxPackage &&
+				purpose.equals(((SpdxPackage)element).getPrimaryPurpose().orElse(null)));
+	}
+
+	/**
+	 * @param type SPDX class name (e.g. <code>SpdxConstantsCompatV2.CLASS_SPDX_FILE</code>)
+	 * @return IDs of the elements of the type
+	 */
+	public Set<String> getIdsByType(String type) {
+		return byType.get(type);
+	}
+
+	/**
+	 * Look up the IDs for a key - while the index is open, IDs which no longer match the element in the
+	 * model store are removed from the index and not returned
+	 * @param index index of unique keys to look up
+	 * @param key key to look up
+	 * @param check check of the indexed value for the element
+	 * @return IDs of the elements with the key
+	 */
+	private <K> Set<String> lookup(IdIndex<K> index, K key, IndexedValueCheck check) {
+		Set<String> retval = index.get(key);
+		IModelStore store = getOpenModelStore();
+		if (retval.isEmpty() || Objects.isNull(store)) {
+			return retval;
+		}
+		return removeStale(store, index, key, retval, retval, check);
+	}
+
+	/**
+	 * Look up the IDs for a key - while the index is open, IDs of elements with values removed which no longer
+	 * match the element in the model store are removed from the index and not returned
+	 * @param index index to look up
+	 * @param key key to look up
+	 * @param removed IDs of the elements with values of the indexed property removed since the index was built
+	 * @param check check of the indexed value for the element
+	 * @return IDs of the elements with the key
+	 */
+	private <K> Set<String> lookup(IdIndex<K> index, K key, Set<String> removed, IndexedValueCheck check) {
+		Set<String> retval = index.get(key);
+		IModelStore store = getOpenModelStore();
+		if (retval.isEmpty() || removed.isEmpty() || Objects.isNull(store)) {
+			return retval;
+		}
+		Set<String> toCheck;
+		if (removed.size() < retval.size()) {
+			toCheck = new HashSet<>();
+			for (String id:removed) {
+				if (retval.contains(id)) {
+					toCheck.add(id);
+				}
+			}
+		} else {
+			toCheck = new HashSet<>(retval);
+			toCheck.retainAll(removed);
+		}
+		return toCheck.isEmpty() ? retval : removeStale(store, index, key, retval, toCheck, check);
+	}
+
+	/**
+	 * @param store model store containing the document
+	 * @param index index looked up
+	 * @param key key looked up
+	 * @param found IDs found for the key
+	 * @param toCheck IDs to check against the element in the model store
+	 * @param check check of the indexed value for the element
+	 * @return IDs found for the key without the stale IDs
+	 */
+	private <K> Set<String> removeStale(IModelStore store, IdIndex<K> index, K key, Set<String> found,
+			Collection<String> toCheck, IndexedValueCheck check) {
+		boolean stale = false;
+		for (String id:toCheck) {
+			if (!isCurrent(store, id, check)) {
+				index.remove(key, id);
+				stale = true;
+			}
+		}
+		return stale ? index.get(key) : found;
+	}
+
+	/**
+	 * @param store model store containing the document
+	 * @param id ID of an indexed element
+	 * @param check check of the indexed value for the element - if null, only the existence of the element is checked
+	 * @return false if the element no longer exists or the indexed value is no longer current for the element
+	 */
+	private boolean isCurrent(IModelStore store, String id, @Nullable IndexedValueCheck check) {
+		try {
+			Optional<TypedValue> tv = store.getTypedValue(CompatibleModelStoreWrapper.documentUriIdToUri(documentUri, id, false));
+			if (!tv.isPresent()) {
+				return false;
+			}
+			if (Objects.isNull(check)) {
+				return true;
+			}
+			return check.isCurrent((SpdxElement)SpdxModelFactoryCompatV2.getModelObjectV2(store, documentUri, id,
+					tv.get().getType(), copyManager, false));
+		} catch (InvalidSPDXAnalysisException e) {
+			return true;	// the error is reported when the element itself is read
+		}
+	}
+
+	/**
+	 * @param element indexed element
+	 * @param algorithm checksum algorithm
+	 * @param value checksum value
+	 * @return true if the element is a file or package with the checksum
+	 * @throws InvalidSPDXAnalysisException on errors reading the checksums
+	 */
+	private static boolean hasChecksum(SpdxElement element, ChecksumAlgorithm algorithm, ChecksumValue value) throws InvalidSPDXAnalysisException {
+		Collection<Checksum> checksums;
+		if (element instanceof SpdxFile) {
+			checksums = ((SpdxFile)element).getChecksums();
+		} else if (element instanceof SpdxPackage) {
+			checksums = ((SpdxPackage)element).getChecksums();
+		} else {
+			return false;
+		}
+		for (Checksum checksum:checksums) {
+			if (algorithm.equals(checksum.getAlgorithm()) && !checksum.getValue().isEmpty()) {
+				try {
+					if (value.equals(checksum.getChecksumValue())) {
+						return true;
+					}
+				} catch (InvalidSPDXAnalysisException e) {
+					// invalid values are not indexed
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param element indexed element
+	 * @param relationshipType relationship type
+	 * @param relatedElementId ID of the related element
+	 * @return true if the element has a relationship of the type to the related element
+	 * @throws InvalidSPDXAnalysisException on errors reading the relationships
+	 */
+	private static boolean hasRelationship(SpdxElement element, RelationshipType relationshipType, String relatedElementId) throws InvalidSPDXAnalysisException {
+		for (Relationship relationship:element.getRelationships()) {
+			if (relationshipType.equals(relationship.getRelationshipType())) {
+				Optional<SpdxElement> related = relationship.getRelatedSpdxElement();
+				if (related.isPresent() && relatedElementId.equals(related.get().getId())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param indexes snippet byte range index and line range index
+	 * @param snippetIds IDs found in one of the indexes
+	 * @return the IDs of the snippets which still exist - the deleted snippets are removed from the indexes
+	 */
+	private List<String> existingSnippets(SnippetRangeIndex[] indexes, List<String> snippetIds) {
+		IModelStore store = getOpenModelStore();
+		if (snippetIds.isEmpty() || Objects.isNull(store)) {
+			return snippetIds;
+		}
+		List<String> retval = new ArrayList<>(snippetIds.size());
+		for (String id:snippetIds) {
+			if (isCurrent(store, id, null)) {
+				retval.add(id);
+			} else {
+				indexes[0].remove(id);
+				indexes[1].remove(id);
+			}
+		}
+		return retval.size() == snippetIds.size() ? snippetIds : retval;
+	}
+
+	/**
+	 * Stop updating the index - lookups continue to return the values indexed before the index was closed
+	 */
+	@Override
+	public void close() {
+		open = false;
+		IModelStore store = modelStore.get();
+		if (Objects.nonNull(store)) {
+			Map<String, SpdxDocumentIndex> indexes = OPEN_INDEXES.get(store);
+			if (Objects.nonNull(indexes)) {
+				indexes.remove(documentUri, this);
+			}
+		}
+	}
+}
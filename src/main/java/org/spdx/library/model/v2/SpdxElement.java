@@ -19,6 +19,7 @@ package org.spdx.library.model.v2;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -83,7 +84,7 @@ public abstract class SpdxElement extends ModelObjectV2 {
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedElementIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		VerificationMessages retval = new VerificationMessages();
 		if (verifiedElementIds.contains(this.objectUri)) {
 			return retval;
 		}
@@ -92,7 +93,8 @@ public abstract class SpdxElement extends ModelObjectV2 {
 		IdType idType = this.getModelStore().getIdType(this.getObjectUri());
 		if (IdType.SpdxId.equals(idType)) {
 			if (!SpdxVerificationHelper.verifySpdxId(this.getId())) {
-				retval.add("Invalid SPDX ID: "+this.getId()+".  Must match the pattern "+SpdxConstantsCompatV2.SPDX_ELEMENT_REF_PATTERN);
+				retval.add(VerificationRule.SPDX_ID,
+						"Invalid SPDX ID: "+this.getId()+".  Must match the pattern "+SpdxConstantsCompatV2.SPDX_ELEMENT_REF_PATTERN);
 			}
 		} else if (!IdType.Anonymous.equals(idType)) {
 			retval.add("Invalid ID for SPDX Element: "+this.getId()+".  Must be either a valid SPDX ID or Anonymous.");
@@ -107,7 +109,7 @@ public abstract class SpdxElement extends ModelObjectV2 {
 		} catch (InvalidSPDXAnalysisException e) {
 			retval.add("Error getting relationships: "+e.getMessage());
 		}
-		addNameToWarnings(retval);
+		addNameToWarnings(retval, verifiedElementIds);
 		return retval;
 	}
 	
@@ -131,10 +133,22 @@ public abstract class SpdxElement extends ModelObjectV2 {
 	 * @param warnings
 	 */
 	protected List<String> addNameToWarnings(List<String> warnings) {
+		return addNameToWarnings(warnings, Collections.emptySet());
+	}
+	
+	/**
+	 * Add the name of the element to all strings in the list unless the verification options for the run
+	 * turn off message formatting
+	 * @param warnings
+	 * @param verifiedIds IDs of the elements verified in the run
+	 * @return the same list after being modified (Note: a new list is not created - this modifies the warnings list)
+	 */
+	protected List<String> addNameToWarnings(List<String> warnings, Set<String> verifiedIds) {
 		if (warnings == null) {
 			return new ArrayList<>();
 		}
-		if (warnings.isEmpty()) {
+		VerificationOptions options = VerifiedIdSet.optionsOf(verifiedIds);
+		if (warnings.isEmpty() || (Objects.nonNull(options) && !options.isFormatMessages())) {
 		    return warnings;
 		}
 		String localName = "[UNKNOWN]";
@@ -215,8 +229,21 @@ public abstract class SpdxElement extends ModelObjectV2 {
 	public SpdxElement setRelationships(Collection<Relationship> relationships) throws InvalidSPDXAnalysisException {
 		Objects.requireNonNull(relationships, "Relationships can not be null");
 		checkCreateRelationships();
-		this.relationships.clear();
-		this.relationships.addAll(relationships);
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(this);
+		if (Objects.isNull(index)) {
+			this.relationships.clear();
+			this.relationships.addAll(relationships);
+		} else {
+			List<Relationship> removed = new ArrayList<>(this.relationships);
+			this.relationships.clear();
+			this.relationships.addAll(relationships);
+			for (Relationship relationship:removed) {
+				index.relationshipRemoved(this, relationship);
+			}
+			for (Relationship relationship:relationships) {
+				index.relationshipAdded(this, relationship);
+			}
+		}
 		return this;
 	}
 	
@@ -228,7 +255,12 @@ public abstract class SpdxElement extends ModelObjectV2 {
 	 */
 	public boolean addRelationship(Relationship relationship) throws InvalidSPDXAnalysisException {
 		checkCreateRelationships();
-		return relationships.add(relationship);
+		boolean retval = relationships.add(relationship);
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(this);
+		if (retval && Objects.nonNull(index)) {
+			index.relationshipAdded(this, relationship);
+		}
+		return retval;
 	}
 	
 	/**
@@ -239,7 +271,12 @@ public abstract class SpdxElement extends ModelObjectV2 {
 	 */
 	public boolean removeRelationship(Relationship relationship) throws InvalidSPDXAnalysisException {
 		checkCreateRelationships();
-		return relationships.remove(relationship);
+		boolean retval = relationships.remove(relationship);
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(this);
+		if (retval && Objects.nonNull(index)) {
+			index.relationshipRemoved(this, relationship);
+		}
+		return retval;
 	}
 	
 	/**
@@ -281,7 +318,14 @@ public abstract class SpdxElement extends ModelObjectV2 {
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	public SpdxElement setName(String name) throws InvalidSPDXAnalysisException {
-		this.setPropertyValue(getNamePropertyDescriptor(), name);
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(this);
+		if (Objects.isNull(index)) {
+			this.setPropertyValue(getNamePropertyDescriptor(), name);
+		} else {
+			Optional<String> oldName = getName();
+			this.setPropertyValue(getNamePropertyDescriptor(), name);
+			index.nameChanged(this, oldName.orElse(null), name);
+		}
 		return this;
 	}
 }
@@ -107,11 +107,13 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		while (iter.hasNext()) {
 			Checksum cksum = iter.next();
 			if (!cksum.equals(spdxFileBuilder.sha1)) {
-				getChecksums().add(cksum);
+				addChecksum(cksum);
 			}
 		}
 		getFileContributors().addAll(spdxFileBuilder.fileContributors);
-		getFileTypes().addAll(spdxFileBuilder.fileTypes);
+		for (FileType fileType:spdxFileBuilder.fileTypes) {
+			addFileType(fileType);
+		}
 		setNoticeText(spdxFileBuilder.noticeText);
 	}
 
@@ -192,7 +194,12 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 * @throws InvalidSPDXAnalysisException 
 	 */
 	public boolean addFileType(FileType fileType) throws InvalidSPDXAnalysisException {
-		return fileTypes.add(fileType);
+		boolean retval = fileTypes.add(fileType);
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(this);
+		if (retval && Objects.nonNull(index)) {
+			index.fileTypeAdded(this, fileType);
+		}
+		return retval;
 	}
 	
 	/**
@@ -209,7 +216,12 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	public boolean addChecksum(Checksum checksum) throws InvalidSPDXAnalysisException {
-		return checksums.add(checksum);
+		boolean retval = checksums.add(checksum);
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(this);
+		if (retval && Objects.nonNull(index)) {
+			index.checksumAdded(this, checksum);
+		}
+		return retval;
 	}
 	
 	/**
@@ -276,7 +288,7 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 			retval.add("Error getting file name");
 		}
 		for (Checksum checksum:checksums) {
-			retval.addAll(addNameToWarnings(checksum.verify(verifiedIds, specVersion)));
+			retval.addAll(addNameToWarnings(checksum.verify(verifiedIds, specVersion), verifiedIds));
 		}
 		String sha1;
 		try {
@@ -286,7 +298,7 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 			} else {
 				String warning = SpdxVerificationHelper.verifyChecksumString(sha1, ChecksumAlgorithm.SHA1, specVersion);
 				if (warning != null) {
-					retval.add(warning + " for file "+fileName);
+					VerificationMessages.addTo(retval, VerificationRule.CHECKSUM_VALUE, warning + " for file "+fileName);
 				}
 			}
 		} catch (InvalidSPDXAnalysisException e) {
@@ -534,7 +546,12 @@ public class SpdxFile extends SpdxItem implements Comparable<SpdxFile> {
 		public SpdxFile build() throws InvalidSPDXAnalysisException {
 			IModelStoreLock lock = modelStore.enterCriticalSection(false);
 			try {
-				return new SpdxFile(this);
+				boolean indexCreation = SpdxDocumentIndex.isCreationIndexed(modelStore, documentUri, id, SpdxConstantsCompatV2.CLASS_SPDX_FILE);
+				SpdxFile retval = new SpdxFile(this);
+				if (indexCreation) {
+					SpdxDocumentIndex.elementCreated(retval);
+				}
+				return retval;
 			} finally {
 				modelStore.leaveCriticalSection(lock);
 			}
@@ -0,0 +1,469 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.IModelCopyManager;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelObjectHelper;
+import org.spdx.core.TypedValue;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.enumerations.FileType;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+import org.spdx.library.model.v2.license.AnyLicenseInfo;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IModelStoreLock;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
+
+/**
+ * Adds a stream of files to a package in batches
+ *
+ * Files are described by lightweight <code>FileDescriptor</code>s which are consumed one at a time,
+ * so memory use does not grow with the number of files beyond what the model store itself holds.
+ * The files, their checksums and the package CONTAINS relationships are written directly to the model
+ * store rather than through model objects, and each batch is written under a single model store
+ * critical section.  Enumeration values and the default licenses are converted to their stored form once -
+ * licenses set on a <code>FileDescriptor</code> are converted for each file so that no state is kept for them.
+ * An open <code>SpdxDocumentIndex</code> for the document is updated as each file is written.  SPDX IDs are allocated in blocks - one ID is taken from the
+ * model store for each block and the file IDs are formed by appending a sequence number to it.
+ *
+ * By default, files with the same name as a file already in the package (or earlier in the stream)
+ * are skipped and the generated IDs are checked against the model store.  If the caller guarantees
+ * that the file names are unique and the generated IDs are not otherwise in use,
+ * <code>setAssumeUnique(true)</code> skips these checks so that no state is kept per file.
+ *
+ * @author Gary O'Neall
+ */
+public class SpdxFileIngester {
+
+	static final int DEFAULT_BATCH_SIZE = 1024;
+	static final int DEFAULT_ID_BLOCK_SIZE = 4096;
+
+	/**
+	 * Description of a file to be added to the package - any properties not set use the ingester defaults
+	 */
+	public static class FileDescriptor {
+		private final String name;
+		private final Map<ChecksumAlgorithm, ChecksumValue> checksums = new EnumMap<>(ChecksumAlgorithm.class);
+		private Set<FileType> fileTypes = Collections.emptySet();
+		private AnyLicenseInfo licenseConcluded = null;
+		private Collection<AnyLicenseInfo> licenseInfosFromFile = null;
+		private String copyrightText = null;
+		private String comment = null;
+		private String noticeText = null;
+
+		/**
+		 * @param name file name
+		 * @param sha1 SHA1 checksum of the file content
+		 */
+		public FileDescriptor(String name, ChecksumValue sha1) {
+			Objects.requireNonNull(name, "Name can not be null");
+			Objects.requireNonNull(sha1, "SHA1 can not be null");
+			this.name = name;
+			this.checksums.put(ChecksumAlgorithm.SHA1, sha1);
+		}
+
+		/**
+		 * @param algorithm checksum algorithm
+		 * @param value checksum value
+		 * @return this to continue the build
+		 */
+		public FileDescriptor addChecksum(ChecksumAlgorithm algorithm, ChecksumValue value) {
+			Objects.requireNonNull(algorithm, "Algorithm can not be null");
+			Objects.requireNonNull(value, "Value can not be null");
+			this.checksums.put(algorithm, value);
+			return this;
+		}
+
+		/**
+		 * @param fileType file type
+		 * @return this to continue the build
+		 */
+		public FileDescriptor addFileType(FileType fileType) {
+			Objects.requireNonNull(fileType, "File type can not be null");
+			if (fileTypes.isEmpty()) {
+				fileTypes = EnumSet.of(fileType);
+			} else {
+				fileTypes.add(fileType);
+			}
+			return this;
+		}
+
+		/**
+		 * @param licenseConcluded concluded license
+		 * @return this to continue the build
+		 */
+		public FileDescriptor setLicenseConcluded(AnyLicenseInfo licenseConcluded) {
+			Objects.requireNonNull(licenseConcluded, "License concluded can not be null");
+			this.licenseConcluded = licenseConcluded;
+			return this;
+		}
+
+		/**
+		 * @param licenseInfosFromFile licenses seen in the file
+		 * @return this to continue the build
+		 */
+		public FileDescriptor setLicenseInfosFromFile(Collection<AnyLicenseInfo> licenseInfosFromFile) {
+			Objects.requireNonNull(licenseInfosFromFile, "License infos from file can not be null");
+			this.licenseInfosFromFile = licenseInfosFromFile;
+			return this;
+		}
+
+		/**
+		 * @param copyrightText copyright text
+		 * @return this to continue the build
+		 */
+		public FileDescriptor setCopyrightText(String copyrightText) {
+			Objects.requireNonNull(copyrightText, "Copyright text can not be null");
+			this.copyrightText = copyrightText;
+			return this;
+		}
+
+		/**
+		 * @param comment comment
+		 * @return this to continue the build
+		 */
+		public FileDescriptor setComment(@Nullable String comment) {
+			this.comment = comment;
+			return this;
+		}
+
+		/**
+		 * @param noticeText notice text
+		 * @return this to continue the build
+		 */
+		public FileDescriptor setNoticeText(@Nullable String noticeText) {
+			this.noticeText = noticeText;
+			return this;
+		}
+
+		/**
+		 * @return the file name
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	private final SpdxPackage spdxPackage;
+	private final IModelStore modelStore;
+	private final String documentUri;
+	private final IModelCopyManager copyManager;
+	private final String packageUri;
+	private final String specVersion;
+	private final String idPrefix;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int idBlockSize = DEFAULT_ID_BLOCK_SIZE;
+	private boolean assumeUnique = false;
+	private AnyLicenseInfo defaultLicenseConcluded;
+	private Collection<AnyLicenseInfo> defaultLicenseInfosFromFile;
+	private String defaultCopyrightText = SpdxConstantsCompatV2.NOASSERTION_VALUE;
+
+	private String idBlockPrefix = null;
+	private int idBlockRemaining = 0;
+	private int idBlockNext = 0;
+	private Set<String> fileNames = null;
+	private final Map<Enum<?>, Object> storedEnums = new HashMap<>();
+	private Object storedDefaultLicenseConcluded = null;
+	private List<Object> storedDefaultLicenseInfosFromFile = null;
+
+	/**
+	 * @param spdxPackage package the files are added to
+	 * @throws InvalidSPDXAnalysisException on errors creating the default license
+	 */
+	public SpdxFileIngester(SpdxPackage spdxPackage) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(spdxPackage, "Package can not be null");
+		this.spdxPackage = spdxPackage;
+		this.modelStore = spdxPackage.getModelStore();
+		this.documentUri = spdxPackage.getDocumentUri();
+		this.copyManager = spdxPackage.getCopyManager();
+		this.packageUri = spdxPackage.getObjectUri();
+		this.specVersion = spdxPackage.getSpecVersion();
+		this.idPrefix = spdxPackage.getIdPrefix();
+		this.defaultLicenseConcluded = SpdxNoAssertionLicense.getInstance();
+		this.defaultLicenseInfosFromFile = Collections.singletonList(defaultLicenseConcluded);
+	}
+
+	/**
+	 * @param batchSize number of files written under each model store critical section
+	 * @return this to continue the configuration
+	 */
+	public SpdxFileIngester setBatchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Batch size must be at least 1");
+		}
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * @param idBlockSize number of file IDs allocated from each model store ID
+	 * @return this to continue the configuration
+	 */
+	public SpdxFileIngester setIdBlockSize(int idBlockSize) {
+		if (idBlockSize < 1) {
+			throw new IllegalArgumentException("ID block size must be at least 1");
+		}
+		this.idBlockSize = idBlockSize;
+		return this;
+	}
+
+	/**
+	 * @param assumeUnique if true, the caller guarantees that file names are unique within the package
+	 * and skips the duplicate file and ID checks
+	 * @return this to continue the configuration
+	 */
+	public SpdxFileIngester setAssumeUnique(boolean assumeUnique) {
+		this.assumeUnique = assumeUnique;
+		return this;
+	}
+
+	/**
+	 * @param licenseConcluded concluded license for files which do not specify one
+	 * @return this to continue the configuration
+	 */
+	public SpdxFileIngester setDefaultLicenseConcluded(AnyLicenseInfo licenseConcluded) {
+		Objects.requireNonNull(licenseConcluded, "License concluded can not be null");
+		this.defaultLicenseConcluded = licenseConcluded;
+		this.storedDefaultLicenseConcluded = null;
+		return this;
+	}
+
+	/**
+	 * @param licenseInfosFromFile licenses seen in files which do not specify them
+	 * @return this to continue the configuration
+	 */
+	public SpdxFileIngester setDefaultLicenseInfosFromFile(Collection<AnyLicenseInfo> licenseInfosFromFile) {
+		Objects.requireNonNull(licenseInfosFromFile, "License infos from file can not be null");
+		this.defaultLicenseInfosFromFile = licenseInfosFromFile;
+		this.storedDefaultLicenseInfosFromFile = null;
+		return this;
+	}
+
+	/**
+	 * @param copyrightText copyright text for files which do not specify one
+	 * @return this to continue the configuration
+	 */
+	public SpdxFileIngester setDefaultCopyrightText(String copyrightText) {
+		Objects.requireNonNull(copyrightText, "Copyright text can not be null");
+		this.defaultCopyrightText = copyrightText;
+		return this;
+	}
+
+	/**
+	 * Add the files to the package
+	 * @param descriptors files to add
+	 * @return number of files added to the package
+	 * @throws InvalidSPDXAnalysisException on errors writing to the model store
+	 */
+	public long ingest(Stream<FileDescriptor> descriptors) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(descriptors, "Descriptors can not be null");
+		return ingest(descriptors.iterator());
+	}
+
+	/**
+	 * Add the files to the package
+	 * @param descriptors files to add
+	 * @return number of files added to the package
+	 * @throws InvalidSPDXAnalysisException on errors writing to the model store
+	 */
+	public long ingest(Iterator<FileDescriptor> descriptors) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(descriptors, "Descriptors can not be null");
+		if (!assumeUnique && Objects.isNull(fileNames)) {
+			fileNames = new HashSet<>();
+			for (SpdxFile file:spdxPackage.getFiles()) {
+				Optional<String> name = file.getName();
+				if (name.isPresent()) {
+					fileNames.add(name.get());
+				}
+			}
+		}
+		long count = 0;
+		List<FileDescriptor> batch = new ArrayList<>(batchSize);
+		while (descriptors.hasNext()) {
+			batch.clear();
+			while (batch.size() < batchSize && descriptors.hasNext()) {
+				FileDescriptor descriptor = descriptors.next();
+				Objects.requireNonNull(descriptor, "Descriptor can not be null");
+				if (assumeUnique || fileNames.add(descriptor.name)) {
+					batch.add(descriptor);
+				}
+			}
+			IModelStoreLock lock = modelStore.enterCriticalSection(false);
+			try {
+				for (FileDescriptor descriptor:batch) {
+					writeFile(descriptor);
+				}
+			} finally {
+				modelStore.leaveCriticalSection(lock);
+			}
+			if (!batch.isEmpty()) {
+				// the relationships were added directly to the model store
+				spdxPackage.markChanged();
+			}
+			count += batch.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Write the file described by the descriptor and its CONTAINS relationship directly to the model store
+	 * @param descriptor file descriptor
+	 * @throws InvalidSPDXAnalysisException on invalid checksums or errors writing to the model store
+	 */
+	private void writeFile(FileDescriptor descriptor) throws InvalidSPDXAnalysisException {
+		String id = nextId();
+		String fileUri = CompatibleModelStoreWrapper.documentUriIdToUri(documentUri, id, false);
+		TypedValue fileValue = CompatibleModelStoreWrapper.typedValueFromDocUri(documentUri, id, false,
+				SpdxConstantsCompatV2.CLASS_SPDX_FILE);
+		modelStore.create(fileValue);
+		modelStore.setValue(fileUri, SpdxConstantsCompatV2.PROP_FILE_NAME, descriptor.name);
+		modelStore.setValue(fileUri, SpdxConstantsCompatV2.PROP_LICENSE_CONCLUDED, 
+				Objects.nonNull(descriptor.licenseConcluded) ? toStoredObject(descriptor.licenseConcluded) : 
+					storedDefaultLicenseConcluded());
+		if (Objects.nonNull(descriptor.licenseInfosFromFile)) {
+			for (AnyLicenseInfo license:descriptor.licenseInfosFromFile) {
+				modelStore.addValueToCollection(fileUri, SpdxConstantsCompatV2.PROP_FILE_SEEN_LICENSE, toStoredObject(license));
+			}
+		} else {
+			for (Object license:storedDefaultLicenseInfosFromFile()) {
+				modelStore.addValueToCollection(fileUri, SpdxConstantsCompatV2.PROP_FILE_SEEN_LICENSE, license);
+			}
+		}
+		modelStore.setValue(fileUri, SpdxConstantsCompatV2.PROP_COPYRIGHT_TEXT,
+				Objects.nonNull(descriptor.copyrightText) ? descriptor.copyrightText : defaultCopyrightText);
+		for (Entry<ChecksumAlgorithm, ChecksumValue> checksum:descriptor.checksums.entrySet()) {
+			String hex = checksum.getValue().toHex();
+			String verify = SpdxVerificationHelper.verifyChecksumString(hex, checksum.getKey(), specVersion);
+			if (Objects.nonNull(verify)) {
+				throw new InvalidSPDXAnalysisException("Invalid checksum for file " + descriptor.name + ": " + verify);
+			}
+			TypedValue checksumValue = createAnonymous(SpdxConstantsCompatV2.CLASS_SPDX_CHECKSUM);
+			modelStore.setValue(checksumValue.getObjectUri(), SpdxConstantsCompatV2.PROP_CHECKSUM_ALGORITHM,
+					toStoredObject(checksum.getKey()));
+			modelStore.setValue(checksumValue.getObjectUri(), SpdxConstantsCompatV2.PROP_CHECKSUM_VALUE, hex);
+			modelStore.addValueToCollection(fileUri, SpdxConstantsCompatV2.PROP_FILE_CHECKSUM, checksumValue);
+		}
+		for (FileType fileType:descriptor.fileTypes) {
+			modelStore.addValueToCollection(fileUri, SpdxConstantsCompatV2.PROP_FILE_TYPE, toStoredObject(fileType));
+		}
+		if (Objects.nonNull(descriptor.comment)) {
+			modelStore.setValue(fileUri, SpdxConstantsCompatV2.RDFS_PROP_COMMENT, descriptor.comment);
+		}
+		if (Objects.nonNull(descriptor.noticeText)) {
+			modelStore.setValue(fileUri, SpdxConstantsCompatV2.PROP_FILE_NOTICE, descriptor.noticeText);
+		}
+		TypedValue relationshipValue = createAnonymous(SpdxConstantsCompatV2.CLASS_RELATIONSHIP);
+		modelStore.setValue(relationshipValue.getObjectUri(), SpdxConstantsCompatV2.PROP_RELATED_SPDX_ELEMENT, fileValue);
+		modelStore.setValue(relationshipValue.getObjectUri(), SpdxConstantsCompatV2.PROP_RELATIONSHIP_TYPE,
+				toStoredObject(RelationshipType.CONTAINS));
+		modelStore.addValueToCollection(packageUri, SpdxConstantsCompatV2.PROP_RELATIONSHIP, relationshipValue);
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(spdxPackage);
+		if (Objects.nonNull(index)) {
+			index.elementAdded(new SpdxFile(modelStore, documentUri, id, copyManager, false));
+			index.relationshipAdded(spdxPackage, new Relationship(modelStore, documentUri,
+					relationshipValue.getObjectUri(), copyManager, false));
+		}
+	}
+
+	/**
+	 * @param type type of the anonymous object
+	 * @return typed value of a new anonymous object created in the model store
+	 * @throws InvalidSPDXAnalysisException on errors creating the object
+	 */
+	private TypedValue createAnonymous(String type) throws InvalidSPDXAnalysisException {
+		TypedValue retval = CompatibleModelStoreWrapper.typedValueFromDocUri(documentUri,
+				AnonymousIdAllocator.nextId(modelStore), true, type);
+		modelStore.create(retval);
+		return retval;
+	}
+
+	/**
+	 * @return the default license concluded in the form stored in the model store - converted once
+	 * @throws InvalidSPDXAnalysisException on errors converting or copying the license
+	 */
+	private Object storedDefaultLicenseConcluded() throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(storedDefaultLicenseConcluded)) {
+			storedDefaultLicenseConcluded = toStoredObject(defaultLicenseConcluded);
+		}
+		return storedDefaultLicenseConcluded;
+	}
+
+	/**
+	 * @return the default license infos from file in the form stored in the model store - converted once
+	 * @throws InvalidSPDXAnalysisException on errors converting or copying the licenses
+	 */
+	private List<Object> storedDefaultLicenseInfosFromFile() throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(storedDefaultLicenseInfosFromFile)) {
+			List<Object> stored = new ArrayList<>(defaultLicenseInfosFromFile.size());
+			for (AnyLicenseInfo license:defaultLicenseInfosFromFile) {
+				stored.add(toStoredObject(license));
+			}
+			storedDefaultLicenseInfosFromFile = stored;
+		}
+		return storedDefaultLicenseInfosFromFile;
+	}
+
+	/**
+	 * @param value license value
+	 * @return the value in the form stored in the model store
+	 * @throws InvalidSPDXAnalysisException on errors converting or copying the value
+	 */
+	private Object toStoredObject(AnyLicenseInfo value) throws InvalidSPDXAnalysisException {
+		return ModelObjectHelper.modelObjectToStoredObject(value, modelStore, copyManager, idPrefix);
+	}
+
+	/**
+	 * @param value enumeration value
+	 * @return the value in the form stored in the model store - converted once per enumeration value
+	 * @throws InvalidSPDXAnalysisException on errors converting the value
+	 */
+	private Object toStoredObject(Enum<?> value) throws InvalidSPDXAnalysisException {
+		Object retval = storedEnums.get(value);
+		if (Objects.isNull(retval)) {
+			retval = ModelObjectHelper.modelObjectToStoredObject(value, modelStore, copyManager, idPrefix);
+			storedEnums.put(value, retval);
+		}
+		return retval;
+	}
+
+	/**
+	 * @return the next SPDX ID from the current ID block, allocating a new block if needed
+	 * @throws InvalidSPDXAnalysisException on errors getting an ID from the model store
+	 */
+	private String nextId() throws InvalidSPDXAnalysisException {
+		while (true) {
+			if (idBlockRemaining == 0) {
+				idBlockPrefix = modelStore.getNextId(IdType.SpdxId) + "-";
+				idBlockNext = 0;
+				idBlockRemaining = idBlockSize;
+			}
+			String id = idBlockPrefix + idBlockNext++;
+			idBlockRemaining--;
+			if (assumeUnique || !modelStore.exists(CompatibleModelStoreWrapper.documentUriIdToUri(documentUri, id, modelStore))) {
+				return id;
+			}
+		}
+	}
+}
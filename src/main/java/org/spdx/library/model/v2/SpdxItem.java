@@ -27,7 +27,6 @@ import javax.annotation.Nullable;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v2.license.AnyLicenseInfo;
-import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.PropertyDescriptor;
 
@@ -82,7 +81,7 @@ public abstract class SpdxItem extends SpdxElement {
 			return retval.get();
 		} else {
 			logger.warn("No license concluded stored, returning NOASSERTION");
-			return new SpdxNoAssertionLicense(getModelStore(), getDocumentUri());
+			return ConstantValueCache.noAssertionLicense(getModelStore(), getDocumentUri());
 		}
 	}
 	
@@ -198,7 +197,7 @@ public abstract class SpdxItem extends SpdxElement {
 		} catch (InvalidSPDXAnalysisException e) {
 			retval.add("Error getting license information from files: "+e.getMessage());
 		}
-		addNameToWarnings(retval);
+		addNameToWarnings(retval, verifiedIds);
 		return retval;
 	}
 }
@@ -27,8 +27,9 @@ import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
 import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Modifier;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
@@ -57,6 +58,20 @@ public class SpdxModelFactoryCompatV2 {
 	
 	public static Map<String, Class<?>> SPDX_TYPE_TO_CLASS_V2;
 	public static Map<Class<?>, String> SPDX_CLASS_TO_TYPE;
+	
+	/**
+	 * Signature of the constructor common to all SPDX version 2 model object classes:
+	 * (IModelStore modelStore, String documentUri, String id, IModelCopyManager copyManager, boolean create)
+	 */
+	private static final MethodType MODEL_OBJECT_CONSTRUCTOR_TYPE = MethodType.methodType(void.class, 
+			IModelStore.class, String.class, String.class, IModelCopyManager.class, boolean.class);
+	
+	/**
+	 * Map of SPDX type to a constructor handle resolved once at class initialization so that
+	 * materializing a model object does not require a reflective constructor lookup.
+	 * Abstract classes, enumerations and classes without the common constructor are not included.
+	 */
+	private static final Map<String, MethodHandle> SPDX_TYPE_TO_CONSTRUCTOR_V2;
 	static {
 		Map<String, Class<?>> typeToClassV2 = new HashMap<>();
 		typeToClassV2.put(SpdxConstantsCompatV2.CLASS_SPDX_DOCUMENT, org.spdx.library.model.v2.SpdxDocument.class);
@@ -111,6 +126,31 @@ public class SpdxModelFactoryCompatV2 {
 			classToType.put(entry.getValue(), entry.getKey());
 		}
 		SPDX_CLASS_TO_TYPE = Collections.unmodifiableMap(classToType);
+		SPDX_TYPE_TO_CONSTRUCTOR_V2 = Collections.unmodifiableMap(resolveConstructors(typeToClassV2));
+	}
+	
+	/**
+	 * @param typeToClass map of SPDX type to model class
+	 * @return map of SPDX type to a constructor handle with the signature
+	 * (IModelStore, String, String, IModelCopyManager, boolean)ModelObjectV2 for all concrete model object classes
+	 */
+	private static Map<String, MethodHandle> resolveConstructors(Map<String, Class<?>> typeToClass) {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodType factoryType = MODEL_OBJECT_CONSTRUCTOR_TYPE.changeReturnType(org.spdx.library.model.v2.ModelObjectV2.class);
+		Map<String, MethodHandle> retval = new HashMap<>();
+		for (Entry<String, Class<?>> entry:typeToClass.entrySet()) {
+			Class<?> clazz = entry.getValue();
+			if (Modifier.isAbstract(clazz.getModifiers()) || 
+					!org.spdx.library.model.v2.ModelObjectV2.class.isAssignableFrom(clazz)) {
+				continue;
+			}
+			try {
+				retval.put(entry.getKey(), lookup.findConstructor(clazz, MODEL_OBJECT_CONSTRUCTOR_TYPE).asType(factoryType));
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				logger.debug("No model object constructor available for SPDX version 2 type "+entry.getKey());
+			}
+		}
+		return retval;
 	}
 
 	
@@ -205,25 +245,21 @@ public class SpdxModelFactoryCompatV2 {
 		if (Modifier.isAbstract(clazz.getModifiers())) {
 			throw new InvalidSPDXAnalysisException("Can not instantiate an abstract class for the SPDX version 2 type: "+type);
 		}
-		try {
-			Constructor<?> con = clazz.getDeclaredConstructor(IModelStore.class, String.class, String.class, IModelCopyManager.class, boolean.class);
-			return (org.spdx.library.model.v2.ModelObjectV2)con.newInstance(modelStore, documentUri, id, copyManager, create);
-		} catch (NoSuchMethodException e) {
+		MethodHandle constructor = SPDX_TYPE_TO_CONSTRUCTOR_V2.get(type);
+		if (Objects.isNull(constructor)) {
 			throw new InvalidSPDXAnalysisException("Could not create the model object SPDX version 2 type: "+type);
-		} catch (SecurityException e) {
-			throw new InvalidSPDXAnalysisException("Unexpected security exception for SPDX version 2 type: "+type, e);
-		} catch (InstantiationException e) {
-			throw new InvalidSPDXAnalysisException("Unexpected instantiation exception for SPDX version 2 type: "+type, e);
-		} catch (IllegalAccessException e) {
-			throw new InvalidSPDXAnalysisException("Unexpected illegal access exception for SPDX version 2 type: "+type, e);
-		} catch (IllegalArgumentException e) {
-			throw new InvalidSPDXAnalysisException("Unexpected illegal argument exception for SPDX version 2 type: "+type, e);
-		} catch (InvocationTargetException e) {
-			if (e.getTargetException() instanceof InvalidSPDXAnalysisException) {
-				throw (InvalidSPDXAnalysisException)e.getTargetException();
-			} else {
-				throw new InvalidSPDXAnalysisException("Unexpected invocation target exception for SPDX version 2 type: "+type, e);
+		}
+		boolean indexCreation = create && SpdxDocumentIndex.isCreationIndexed(modelStore, documentUri, id, type);
+		try {
+			org.spdx.library.model.v2.ModelObjectV2 retval = (org.spdx.library.model.v2.ModelObjectV2)constructor.invokeExact(modelStore, documentUri, id, copyManager, create);
+			if (indexCreation) {
+				SpdxDocumentIndex.elementCreated((SpdxElement)retval);
 			}
+			return retval;
+		} catch (InvalidSPDXAnalysisException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InvalidSPDXAnalysisException("Unexpected invocation target exception for SPDX version 2 type: "+type, e);
 		}
 	}
 
@@ -264,9 +300,9 @@ public class SpdxModelFactoryCompatV2 {
 			}
 		} else {
 			if (SpdxConstantsCompatV2.NOASSERTION_VALUE.equals(id)) {
-				return Optional.of(new org.spdx.library.model.v2.SpdxNoAssertionElement(modelStore, documentUri));
+				return Optional.of(ConstantValueCache.noAssertionElement(modelStore, documentUri));
 			} else if (SpdxConstantsCompatV2.NONE_VALUE.equals(id)) {
-				return Optional.of(new org.spdx.library.model.v2.SpdxNoneElement(modelStore, documentUri));
+				return Optional.of(ConstantValueCache.noneElement(modelStore, documentUri));
 			} else {
 				return Optional.empty();
 			}
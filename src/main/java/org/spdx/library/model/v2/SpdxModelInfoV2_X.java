@@ -72,14 +72,14 @@ public class SpdxModelInfoV2_X implements ISpdxModelInfo {
 			if (Objects.nonNull(type)) {
 				if (type.isAssignableFrom(AnyLicenseInfo.class)) {
 					try {
-						return new SpdxNoneLicense();
+						return SpdxNoneLicense.getInstance();
 					} catch (InvalidSPDXAnalysisException e) {
 						logger.warn("Error creating SPDX None License",e);
 						return new SpdxNone();
 					}
 				} else if (type.isAssignableFrom(SpdxElement.class)) {
 					try {
-						return new SpdxNoneElement();
+						return SpdxNoneElement.getInstance();
 					} catch (InvalidSPDXAnalysisException e) {
 						logger.warn("Error creating SPDX None Element",e);
 						return new SpdxNone();
@@ -92,14 +92,14 @@ public class SpdxModelInfoV2_X implements ISpdxModelInfo {
 			if (Objects.nonNull(type)) {
 				if (type.isAssignableFrom(AnyLicenseInfo.class)) {
 					try {
-						return new SpdxNoAssertionLicense();
+						return SpdxNoAssertionLicense.getInstance();
 					} catch (InvalidSPDXAnalysisException e) {
 						logger.warn("Error creating SPDX NoAssertion License",e);
 						return new SpdxNone();
 					}
 				} else if (type.isAssignableFrom(SpdxElement.class)) {
 					try {
-						return new SpdxNoAssertionElement();
+						return SpdxNoAssertionElement.getInstance();
 					} catch (InvalidSPDXAnalysisException e) {
 						logger.warn("Error creating SPDX NoAssertion Element",e);
 						return new SpdxNone();
@@ -124,11 +124,11 @@ public class SpdxModelInfoV2_X implements ISpdxModelInfo {
 	public CoreModelObject createModelObject(IModelStore modelStore,
 			String objectUri, String type, IModelCopyManager copyManager,
 			String specVersion, boolean create, String prefix) throws InvalidSPDXAnalysisException {
-		if (!SpdxModelFactoryCompatV2.SPDX_TYPE_TO_CLASS_V2.containsKey(type)) {
+		Class<?> typeClass = SpdxModelFactoryCompatV2.SPDX_TYPE_TO_CLASS_V2.get(type);
+		if (Objects.isNull(typeClass)) {
 			logger.error(type+" not a supported type for SPDX spec version 2.X");
 			throw new InvalidSPDXAnalysisException(type+" not a supported type for SPDX spec version 2.X");
 		}
-		Class<?> typeClass = SpdxModelFactoryCompatV2.SPDX_TYPE_TO_CLASS_V2.get(type);
 		if (SpdxListedLicense.class.isAssignableFrom(typeClass)) {
 			// check that the URI is a listed license URI
 			String id;
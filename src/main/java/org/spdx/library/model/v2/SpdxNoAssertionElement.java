@@ -17,6 +17,7 @@
  */
 package org.spdx.library.model.v2;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import org.spdx.core.InvalidSPDXAnalysisException;
@@ -35,6 +36,8 @@ import org.spdx.storage.IModelStore;
 public class SpdxNoAssertionElement extends SpdxConstantElement {
 	
 	private static final String NOASSERTION_ELEMENT_ID = SpdxConstantsCompatV2.NOASSERTION_VALUE;
+	
+	private static volatile SpdxNoAssertionElement instance = null;
 
 	/**
 	 * Create a None element with default model store and document URI
@@ -54,6 +57,19 @@ public class SpdxNoAssertionElement extends SpdxConstantElement {
 		super(modelStore, documentUri, NOASSERTION_ELEMENT_ID);
 	}
 	
+	/**
+	 * @return a shared, unmodifiable NOASSERTION element held in a NullModelStore
+	 * @throws InvalidSPDXAnalysisException on errors creating the instance
+	 */
+	public static SpdxNoAssertionElement getInstance() throws InvalidSPDXAnalysisException {
+		SpdxNoAssertionElement retval = instance;
+		if (Objects.isNull(retval)) {
+			retval = new SpdxNoAssertionElement();
+			instance = retval;
+		}
+		return retval;
+	}
+	
 	@Override
 	public String toString() {
 		return SpdxConstantsCompatV2.NOASSERTION_VALUE;
@@ -17,6 +17,7 @@
  */
 package org.spdx.library.model.v2;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import org.spdx.core.DefaultModelStore;
@@ -38,6 +39,8 @@ import org.spdx.storage.IModelStore.IdType;
 public class SpdxNoneElement extends SpdxConstantElement {
 	
 	public static final String NONE_ELEMENT_NAME = SpdxConstantsCompatV2.NONE_VALUE;
+
+	private static volatile SpdxNoneElement instance = null;
 	
 	/**
 	 * Create a None element with default model store and document URI
@@ -57,6 +60,19 @@ public class SpdxNoneElement extends SpdxConstantElement {
 		super(modelStore, documentUri, modelStore.getNextId(IdType.Anonymous));
 	}
 	
+	/**
+	 * @return a shared, unmodifiable NONE element held in a NullModelStore
+	 * @throws InvalidSPDXAnalysisException on errors creating the instance
+	 */
+	public static SpdxNoneElement getInstance() throws InvalidSPDXAnalysisException {
+		SpdxNoneElement retval = instance;
+		if (Objects.isNull(retval)) {
+			retval = new SpdxNoneElement();
+			instance = retval;
+		}
+		return retval;
+	}
+	
 	@Override
 	public String toString() {
 		return NONE_ELEMENT_NAME;
@@ -57,7 +57,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 	public SpdxPackage() throws InvalidSPDXAnalysisException {
 		super();
 		files = new RelatedElementCollection(this, RelationshipType.CONTAINS, SpdxConstantsCompatV2.CLASS_SPDX_FILE,
-				specVersion);
+				specVersion, true);
 	}
 
 	/**
@@ -73,7 +73,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 			throws InvalidSPDXAnalysisException {
 		super(modelStore, documentUri, id, copyManager, create);
 		files = new RelatedElementCollection(this, RelationshipType.CONTAINS, SpdxConstantsCompatV2.CLASS_SPDX_FILE,
-				specVersion);
+				specVersion, true);
 	}
 
 	/**
@@ -83,7 +83,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 	public SpdxPackage(String id) throws InvalidSPDXAnalysisException {
 		super(id);
 		files = new RelatedElementCollection(this, RelationshipType.CONTAINS, SpdxConstantsCompatV2.CLASS_SPDX_FILE,
-				specVersion);
+				specVersion, true);
 	}
 
 	protected SpdxPackage(SpdxPackageBuilder spdxPackageBuilder) throws InvalidSPDXAnalysisException {
@@ -106,7 +106,9 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 		getAttributionText().addAll(spdxPackageBuilder.attributionText);
 		
 		// optional parameters - SpdxPackage
-		getChecksums().addAll(spdxPackageBuilder.checksums);
+		for (Checksum checksum:spdxPackageBuilder.checksums) {
+			addChecksum(checksum);
+		}
 		setDescription(spdxPackageBuilder.description);
 		setDownloadLocation(spdxPackageBuilder.downloadLocation);
 		getExternalRefs().addAll(spdxPackageBuilder.externalRefs);
@@ -226,7 +228,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 			return retval.get();
 		} else {
 			logger.warn("No declared license provided - returning NoAssertion");
-			return new SpdxNoAssertionLicense(getModelStore(), getDocumentUri());
+			return ConstantValueCache.noAssertionLicense(getModelStore(), getDocumentUri());
 		}
 	}
 	
@@ -257,7 +259,11 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	public SpdxPackage addChecksum(Checksum checksum) throws InvalidSPDXAnalysisException {
-		getChecksums().add(checksum);
+		boolean added = getChecksums().add(checksum);
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(this);
+		if (added && Objects.nonNull(index)) {
+			index.checksumAdded(this, checksum);
+		}
 		return this;
 	}
 
@@ -525,7 +531,14 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	public void setPrimaryPurpose(Purpose purpose) throws InvalidSPDXAnalysisException {
-		setPropertyValue(SpdxConstantsCompatV2.PROP_PRIMARY_PACKAGE_PURPOSE, purpose);
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(this);
+		if (Objects.isNull(index)) {
+			setPropertyValue(SpdxConstantsCompatV2.PROP_PRIMARY_PACKAGE_PURPOSE, purpose);
+		} else {
+			Optional<Purpose> oldPurpose = getPrimaryPurpose();
+			setPropertyValue(SpdxConstantsCompatV2.PROP_PRIMARY_PACKAGE_PURPOSE, purpose);
+			index.purposeChanged(this, oldPurpose.orElse(null), purpose);
+		}
 	}
 	
 	/* (non-Javadoc)
@@ -565,7 +578,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 			} else {
 				String warning = SpdxVerificationHelper.verifyDownloadLocation(downloadLocation.get());
 				if (Objects.nonNull(warning)) {
-					retval.add(warning);
+					VerificationMessages.addTo(retval, VerificationRule.DOWNLOAD_LOCATION, warning);
 				}
 			}
 		} catch (InvalidSPDXAnalysisException e1) {
@@ -576,7 +589,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 		try {
 			for (Checksum checksum:getChecksums()) {
 				List<String> checksumVerify = checksum.verify(verifiedIds, specVersion);
-				addNameToWarnings(checksumVerify);
+				addNameToWarnings(checksumVerify, verifiedIds);
 				retval.addAll(checksumVerify);
 			}
 		}  catch (InvalidSPDXAnalysisException e1) {
@@ -594,7 +607,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 				}
 			} else {
 				List<String> verify = declaredLicense.get().verify(verifiedIds, specVersion);
-				addNameToWarnings(verify);
+				addNameToWarnings(verify, verifiedIds);
 				retval.addAll(verify);
 			}
 		} catch (InvalidSPDXAnalysisException e) {
@@ -608,7 +621,9 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 		
 		// files depends on if the filesAnalyzed flag
 		try {
-			if (getFiles().size() == 0) {
+			if (isVerificationStopped(verifiedIds)) {
+				// the files are not counted once the verification is stopped - counting is expensive for large packages
+			} else if (getFiles().size() == 0) {
 				if (filesAnalyzed) {
 					retval.add("Missing required package files for "+pkgName);
 				}
@@ -616,9 +631,8 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 				if (!filesAnalyzed) {
 					retval.add("Warning: Found analyzed files for package "+pkgName+" when analyzedFiles is set to false.");
 				}
-				for (SpdxFile file:getFiles()) {
-					List<String> verify = file.verify(verifiedIds, specVersion);
-					addNameToWarnings(verify);
+				for (List<String> verify:verifyEach(getFiles(), verifiedIds, specVersion)) {
+					addNameToWarnings(verify, verifiedIds);
 					retval.addAll(verify);
 				}
 			}
@@ -635,7 +649,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 				retval.add("Verification code must not be included when files not analyzed.");
 			} else if (filesAnalyzed) {
 				List<String> verify = verificationCode.get().verify(verifiedIds, specVersion);
-				addNameToWarnings(verify);
+				addNameToWarnings(verify, verifiedIds);
 				retval.addAll(verify);
 			}
 		} catch (InvalidSPDXAnalysisException e) {
@@ -648,7 +662,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 			if (supplier.isPresent() && !supplier.get().isEmpty()) {
 				String error = SpdxVerificationHelper.verifySupplier(supplier.get());
 				if (error != null && !error.isEmpty()) {
-					retval.add("Supplier error - "+error+ " for package "+pkgName);
+					VerificationMessages.addTo(retval, VerificationRule.SUPPLIER, "Supplier error - "+error+ " for package "+pkgName);
 				}
 			}
 		} catch (InvalidSPDXAnalysisException e) {
@@ -660,7 +674,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 			if (originator.isPresent() && !originator.get().isEmpty()) {
 				String error = SpdxVerificationHelper.verifyOriginator(originator.get());
 				if (error != null && !error.isEmpty()) {
-					retval.add("Originator error - "+error+ " for package "+pkgName);
+					VerificationMessages.addTo(retval, VerificationRule.ORIGINATOR, "Originator error - "+error+ " for package "+pkgName);
 				}
 			}
 		} catch (InvalidSPDXAnalysisException e) {
@@ -680,7 +694,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 			if (date.isPresent()) {
 				String err = SpdxVerificationHelper.verifyDate(date.get());
 				if (Objects.nonNull(err)) {
-					retval.add("Invalid built date: "+err);
+					VerificationMessages.addTo(retval, VerificationRule.DATE, "Invalid built date: "+err);
 				}
 				if (Version.versionLessThan(specVersion, Version.TWO_POINT_THREE_VERSION)) {
 					retval.add("Built date is not supported prior to release "+Version.TWO_POINT_THREE_VERSION);
@@ -695,7 +709,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 			if (date.isPresent()) {
 				String err = SpdxVerificationHelper.verifyDate(date.get());
 				if (Objects.nonNull(err)) {
-					retval.add("Invalid releaes date: "+err);
+					VerificationMessages.addTo(retval, VerificationRule.DATE, "Invalid releaes date: "+err);
 				}
 				if (Version.versionLessThan(specVersion, Version.TWO_POINT_THREE_VERSION)) {
 					retval.add("Release date is not supported prior to release "+Version.TWO_POINT_THREE_VERSION);
@@ -710,7 +724,7 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 			if (date.isPresent()) {
 				String err = SpdxVerificationHelper.verifyDate(date.get());
 				if (Objects.nonNull(err)) {
-					retval.add("Invalid valid until date: "+err);
+					VerificationMessages.addTo(retval, VerificationRule.DATE, "Invalid valid until date: "+err);
 				}
 				if (Version.versionLessThan(specVersion, Version.TWO_POINT_THREE_VERSION)) {
 					retval.add("Valid until date is not supported prior to release "+Version.TWO_POINT_THREE_VERSION);
@@ -738,11 +752,12 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
         		retval.add("Missing required license information from files for "+pkgName);
         	}
         } else {
+            for (List<String> verify:verifyEach(licenseInfoFromFiles, verifiedIds, specVersion)) {
+                addNameToWarnings(verify, verifiedIds);
+                retval.addAll(verify);
+            }
             boolean foundNonSimpleLic = false;
             for (AnyLicenseInfo lic:licenseInfoFromFiles) {
-                List<String> verify = lic.verify(verifiedIds, specVersion);
-                addNameToWarnings(verify);
-                retval.addAll(verify);
                 if (!(lic instanceof SimpleLicensingInfo ||
                         lic instanceof SpdxNoAssertionLicense ||
                         lic instanceof SpdxNoneLicense ||
@@ -1210,7 +1225,12 @@ public class SpdxPackage extends SpdxItem implements Comparable<SpdxPackage> {
 		public SpdxPackage build() throws InvalidSPDXAnalysisException {
 			IModelStoreLock lock = modelStore.enterCriticalSection(false);
 			try {
-				return new SpdxPackage(this);
+				boolean indexCreation = SpdxDocumentIndex.isCreationIndexed(modelStore, documentUri, id, SpdxConstantsCompatV2.CLASS_SPDX_PACKAGE);
+				SpdxPackage retval = new SpdxPackage(this);
+				if (indexCreation) {
+					SpdxDocumentIndex.elementCreated(retval);
+				}
+				return retval;
 			} finally {
 				modelStore.leaveCriticalSection(lock);
 			}
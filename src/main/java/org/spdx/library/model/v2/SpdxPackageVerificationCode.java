@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -115,7 +114,7 @@ public class SpdxPackageVerificationCode extends ModelObjectV2 {
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		VerificationMessages retval = new VerificationMessages();
 		try {
 			String value = this.getValue();
 			if (value.isEmpty()) {
@@ -123,7 +122,7 @@ public class SpdxPackageVerificationCode extends ModelObjectV2 {
 			} else {
 				String verify = SpdxVerificationHelper.verifyChecksumString(value, ChecksumAlgorithm.SHA1, specVersion);
 				if (verify != null) {
-					retval.add(verify);
+					retval.add(VerificationRule.CHECKSUM_VALUE, verify);
 				}
 			}
 		} catch (InvalidSPDXAnalysisException e) {
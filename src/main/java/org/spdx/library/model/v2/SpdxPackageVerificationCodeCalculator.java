@@ -0,0 +1,266 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+
+/**
+ * Calculates the package verification code for the files in a package as described in the SPDX specification
+ *
+ * The SHA1 checksums of the files are read from the model store in parallel batches and kept in a compact
+ * binary form, so only the checksums - not the file objects or checksum strings - are held in memory.
+ * The sorted checksums are then fed to the SHA1 digest one at a time without forming the concatenated string.
+ *
+ * @author Gary O'Neall
+ */
+public class SpdxPackageVerificationCodeCalculator {
+
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	static final int SHA1_LENGTH = 20;
+
+	private final ForkJoinPool pool;
+	private final int batchSize;
+
+	/**
+	 * Source of the files to include in the verification code
+	 */
+	@FunctionalInterface
+	private interface FileSource {
+		/**
+		 * @return the next file or null if there are no more files
+		 * @throws InvalidSPDXAnalysisException on errors reading the file
+		 */
+		@Nullable SpdxFile next() throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Create a calculator using the common fork join pool
+	 */
+	public SpdxPackageVerificationCodeCalculator() {
+		this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * @param pool pool used to read the file checksums
+	 * @param batchSize number of files read by each task
+	 */
+	public SpdxPackageVerificationCodeCalculator(ForkJoinPool pool, int batchSize) {
+		Objects.requireNonNull(pool, "Pool can not be null");
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Batch size must be at least 1");
+		}
+		this.pool = pool;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Calculate the verification code excluding the files named in the package's current verification code
+	 * @param spdxPackage package containing the files
+	 * @return the package verification code value
+	 * @throws InvalidSPDXAnalysisException on errors reading the files or if a file does not have a SHA1 checksum
+	 */
+	public String calculate(SpdxPackage spdxPackage) throws InvalidSPDXAnalysisException {
+		Optional<SpdxPackageVerificationCode> verificationCode = spdxPackage.getPackageVerificationCode();
+		Collection<String> excludedFileNames = verificationCode.isPresent() ?
+				verificationCode.get().getExcludedFileNames() : Collections.emptyList();
+		return calculate(spdxPackage, excludedFileNames);
+	}
+
+	/**
+	 * The files are found by iterating over the relationships of the package in the model store rather than
+	 * through <code>getFiles()</code>, whose iterator creates a list of all the files in the package
+	 * @param spdxPackage package containing the files
+	 * @param excludedFileNames names of files to exclude from the calculation
+	 * @return the package verification code value
+	 * @throws InvalidSPDXAnalysisException on errors reading the files or if a file does not have a SHA1 checksum
+	 */
+	public String calculate(SpdxPackage spdxPackage, Collection<String> excludedFileNames) throws InvalidSPDXAnalysisException {
+		Iterator<Relationship> relationships = spdxPackage.getRelationships().iterator();
+		return calculate(() -> nextFile(relationships), excludedFileNames);
+	}
+
+	/**
+	 * Calculate the verification code for files supplied by an iterator - only the file checksums
+	 * read so far and the batches of files being read are held in memory
+	 * @param files files to include in the verification code
+	 * @param excludedFileNames names of files to exclude from the calculation
+	 * @return the package verification code value
+	 * @throws InvalidSPDXAnalysisException on errors reading the files or if a file does not have a SHA1 checksum
+	 */
+	public String calculate(Iterator<SpdxFile> files, Collection<String> excludedFileNames) throws InvalidSPDXAnalysisException {
+		return calculate(() -> files.hasNext() ? files.next() : null, excludedFileNames);
+	}
+
+	private String calculate(FileSource files, Collection<String> excludedFileNames) throws InvalidSPDXAnalysisException {
+		Set<String> excluded = new HashSet<>(excludedFileNames);
+		List<byte[]> sha1s = new ArrayList<>();
+		Deque<Future<List<byte[]>>> pending = new ArrayDeque<>();
+		int maxPending = pool.getParallelism() * 2;
+		SpdxFile file = files.next();
+		while (Objects.nonNull(file)) {
+			List<SpdxFile> batch = new ArrayList<>(batchSize);
+			while (Objects.nonNull(file) && batch.size() < batchSize) {
+				batch.add(file);
+				file = files.next();
+			}
+			if (pending.size() >= maxPending) {
+				sha1s.addAll(waitFor(pending.removeFirst()));
+			}
+			pending.addLast(pool.submit(() -> readSha1s(batch, excluded)));
+		}
+		while (!pending.isEmpty()) {
+			sha1s.addAll(waitFor(pending.removeFirst()));
+		}
+		return calculateFromSha1s(sha1s);
+	}
+
+	/**
+	 * @param spdxPackage package with a verification code
+	 * @return true if the package has a verification code matching the code calculated from its files
+	 * @throws InvalidSPDXAnalysisException on errors reading the files or if a file does not have a SHA1 checksum
+	 */
+	public boolean matches(SpdxPackage spdxPackage) throws InvalidSPDXAnalysisException {
+		Optional<SpdxPackageVerificationCode> verificationCode = spdxPackage.getPackageVerificationCode();
+		if (!verificationCode.isPresent()) {
+			return false;
+		}
+		return calculate(spdxPackage, verificationCode.get().getExcludedFileNames())
+				.equalsIgnoreCase(verificationCode.get().getValue().trim());
+	}
+
+	/**
+	 * @param relationships relationships of a package
+	 * @return the next file contained in the package or null if there are no more files
+	 * @throws InvalidSPDXAnalysisException on errors reading the relationships
+	 */
+	private static @Nullable SpdxFile nextFile(Iterator<Relationship> relationships) throws InvalidSPDXAnalysisException {
+		while (relationships.hasNext()) {
+			Relationship relationship = relationships.next();
+			if (RelationshipType.CONTAINS.equals(relationship.getRelationshipType())) {
+				Optional<SpdxElement> relatedElement = relationship.getRelatedSpdxElement();
+				if (relatedElement.isPresent() && relatedElement.get() instanceof SpdxFile) {
+					return (SpdxFile)relatedElement.get();
+				}
+			}
+		}
+		return null;
+	}
+
+	private static List<byte[]> waitFor(Future<List<byte[]>> future) throws InvalidSPDXAnalysisException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InvalidSPDXAnalysisException("Interrupted calculating the package verification code", e);
+		} catch (ExecutionException e) {
+			// checked exceptions may be wrapped in a RuntimeException by the fork join pool
+			for (Throwable cause = e.getCause(); Objects.nonNull(cause); cause = cause.getCause()) {
+				if (cause instanceof InvalidSPDXAnalysisException) {
+					throw (InvalidSPDXAnalysisException)cause;
+				}
+			}
+			throw new InvalidSPDXAnalysisException("Error calculating the package verification code", e.getCause());
+		}
+	}
+
+	/**
+	 * @param files batch of files
+	 * @param excluded names of files to exclude
+	 * @return SHA1 checksums of the files which are not excluded
+	 * @throws InvalidSPDXAnalysisException if a file does not have a valid SHA1 checksum
+	 */
+	private static List<byte[]> readSha1s(List<SpdxFile> files, Set<String> excluded) throws InvalidSPDXAnalysisException {
+		List<byte[]> retval = new ArrayList<>(files.size());
+		for (SpdxFile file:files) {
+			Optional<String> name = file.getName();
+			if (name.isPresent() && excluded.contains(name.get())) {
+				continue;
+			}
+			String sha1 = file.getSha1();
+			if (sha1.isEmpty()) {
+				throw new InvalidSPDXAnalysisException("Missing SHA1 checksum for file "+name.orElse(file.getId()));
+			}
+			retval.add(sha1ToBytes(sha1, name.orElse(file.getId())));
+		}
+		return retval;
+	}
+
+	/**
+	 * @param sha1 hex encoded SHA1
+	 * @param fileName name of the file for error messages
+	 * @return binary SHA1
+	 * @throws InvalidSPDXAnalysisException if the SHA1 is not 40 hex digits
+	 */
+	static byte[] sha1ToBytes(String sha1, String fileName) throws InvalidSPDXAnalysisException {
+		String value = sha1.trim();
+		if (value.length() != SHA1_LENGTH * 2) {
+			throw new InvalidSPDXAnalysisException("Invalid SHA1 checksum "+sha1+" for file "+fileName);
+		}
+		try {
+			return ChecksumValue.fromHex(value).toBytes();
+		} catch (InvalidSPDXAnalysisException e) {
+			throw new InvalidSPDXAnalysisException("Invalid SHA1 checksum "+sha1+" for file "+fileName, e);
+		}
+	}
+
+	/**
+	 * Sorting the binary values in unsigned byte order gives the same order as sorting the lower case hex strings
+	 * @param sha1s binary SHA1 checksums of the included files - sorted in place
+	 * @return the package verification code value
+	 * @throws InvalidSPDXAnalysisException if the SHA1 algorithm is not available
+	 */
+	static String calculateFromSha1s(List<byte[]> sha1s) throws InvalidSPDXAnalysisException {
+		byte[][] sorted = sha1s.toArray(new byte[sha1s.size()][]);
+		Arrays.sort(sorted, SpdxPackageVerificationCodeCalculator::compareUnsigned);
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new InvalidSPDXAnalysisException("SHA1 digest is not available", e);
+		}
+		byte[] hex = new byte[SHA1_LENGTH * 2];
+		for (byte[] sha1:sorted) {
+			ChecksumValue.toHex(sha1, hex);
+			digest.update(hex);
+		}
+		byte[] code = digest.digest();
+		byte[] codeHex = new byte[code.length * 2];
+		ChecksumValue.toHex(code, codeHex);
+		return new String(codeHex, StandardCharsets.US_ASCII);
+	}
+
+	private static int compareUnsigned(byte[] a, byte[] b) {
+		for (int i = 0; i < a.length; i++) {
+			int compare = (a[i] & 0xFF) - (b[i] & 0xFF);
+			if (compare != 0) {
+				return compare;
+			}
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,385 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+
+/**
+ * Immutable graph of the relationships between the elements in an SPDX document
+ *
+ * Element IDs are interned to int node indexes and the edges for each relationship type are held in
+ * compressed sparse row arrays in both directions, so the memory used is proportional to the number of
+ * elements plus the number of edges rather than the number of model objects.  Changes to the document
+ * after the graph is built are not reflected in the graph.
+ *
+ * Traversal methods take the relationship types to follow; if no types are given, all types in the graph
+ * are followed.
+ *
+ * @author Gary O'Neall
+ */
+public final class SpdxRelationshipGraph {
+
+	/**
+	 * Growable array of ints used while reading the relationships
+	 */
+	private static final class IntList {
+		int[] values = new int[16];
+		int size = 0;
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+	}
+
+	/**
+	 * Edges of one relationship type in compressed sparse row form - the neighbors of node n
+	 * are <code>neighbors[offsets[n]]</code> up to but not including <code>neighbors[offsets[n+1]]</code>
+	 */
+	private static final class Adjacency {
+		final int[] offsets;
+		final int[] neighbors;
+
+		Adjacency(int nodeCount, int[] from, int[] to, int edgeCount) {
+			offsets = new int[nodeCount + 1];
+			for (int i = 0; i < edgeCount; i++) {
+				offsets[from[i] + 1]++;
+			}
+			for (int i = 0; i < nodeCount; i++) {
+				offsets[i + 1] += offsets[i];
+			}
+			neighbors = new int[edgeCount];
+			int[] next = Arrays.copyOf(offsets, nodeCount);
+			for (int i = 0; i < edgeCount; i++) {
+				neighbors[next[from[i]]++] = to[i];
+			}
+		}
+	}
+
+	private final String[] ids;
+	private final Map<String, Integer> idToNode;
+	private final Map<RelationshipType, Adjacency> forward;
+	private final Map<RelationshipType, Adjacency> reverse;
+
+	private SpdxRelationshipGraph(String[] ids, Map<String, Integer> idToNode,
+			Map<RelationshipType, Adjacency> forward, Map<RelationshipType, Adjacency> reverse) {
+		this.ids = ids;
+		this.idToNode = idToNode;
+		this.forward = forward;
+		this.reverse = reverse;
+	}
+
+	/**
+	 * Build a graph of all relationships in a document
+	 * @param document SPDX document
+	 * @return graph of the relationships in the document
+	 * @throws InvalidSPDXAnalysisException on errors reading the relationships
+	 */
+	public static SpdxRelationshipGraph build(SpdxDocument document) throws InvalidSPDXAnalysisException {
+		return build(document, EnumSet.allOf(RelationshipType.class));
+	}
+
+	/**
+	 * Build a graph of the relationships of the given types in a document in a single pass over the relationships
+	 * @param document SPDX document
+	 * @param relationshipTypes types of relationships to include in the graph
+	 * @return graph of the relationships in the document
+	 * @throws InvalidSPDXAnalysisException on errors reading the relationships
+	 */
+	public static SpdxRelationshipGraph build(SpdxDocument document, Collection<RelationshipType> relationshipTypes) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(relationshipTypes, "Relationship types can not be null");
+		Set<RelationshipType> included = relationshipTypes.isEmpty() ? EnumSet.noneOf(RelationshipType.class) :
+				EnumSet.copyOf(relationshipTypes);
+		List<String> ids = new ArrayList<>();
+		Map<String, Integer> idToNode = new HashMap<>();
+		Map<RelationshipType, IntList[]> edges = new EnumMap<>(RelationshipType.class);
+		SpdxDocumentIndex.forEachElement(document.getModelStore(), document.getDocumentUri(), document.getCopyManager(),
+				element -> {
+			Integer from = null;
+			for (Relationship relationship:element.getRelationships()) {
+				RelationshipType relationshipType = relationship.getRelationshipType();
+				if (!included.contains(relationshipType)) {
+					continue;
+				}
+				Optional<SpdxElement> related = relationship.getRelatedSpdxElement();
+				if (!related.isPresent()) {
+					continue;
+				}
+				if (Objects.isNull(from)) {
+					from = intern(element.getId(), ids, idToNode);
+				}
+				IntList[] typeEdges = edges.computeIfAbsent(relationshipType, type -> new IntList[] {new IntList(), new IntList()});
+				typeEdges[0].add(from);
+				typeEdges[1].add(intern(related.get().getId(), ids, idToNode));
+			}
+		});
+		int nodeCount = ids.size();
+		Map<RelationshipType, Adjacency> forward = new EnumMap<>(RelationshipType.class);
+		Map<RelationshipType, Adjacency> reverse = new EnumMap<>(RelationshipType.class);
+		for (Map.Entry<RelationshipType, IntList[]> entry:edges.entrySet()) {
+			IntList from = entry.getValue()[0];
+			IntList to = entry.getValue()[1];
+			forward.put(entry.getKey(), new Adjacency(nodeCount, from.values, to.values, from.size));
+			reverse.put(entry.getKey(), new Adjacency(nodeCount, to.values, from.values, from.size));
+		}
+		return new SpdxRelationshipGraph(ids.toArray(new String[nodeCount]), idToNode, forward, reverse);
+	}
+
+	private static int intern(String id, List<String> ids, Map<String, Integer> idToNode) {
+		Integer node = idToNode.get(id);
+		if (Objects.isNull(node)) {
+			node = ids.size();
+			ids.add(id);
+			idToNode.put(id, node);
+		}
+		return node;
+	}
+
+	/**
+	 * @return number of elements which are the source or target of at least one relationship in the graph
+	 */
+	public int getNodeCount() {
+		return ids.length;
+	}
+
+	/**
+	 * @param relationshipType relationship type
+	 * @return number of relationships of the type in the graph
+	 */
+	public int getEdgeCount(RelationshipType relationshipType) {
+		Adjacency adjacency = forward.get(relationshipType);
+		return Objects.isNull(adjacency) ? 0 : adjacency.neighbors.length;
+	}
+
+	/**
+	 * @return relationship types with at least one relationship in the graph
+	 */
+	public Set<RelationshipType> getRelationshipTypes() {
+		return Collections.unmodifiableSet(forward.keySet());
+	}
+
+	/**
+	 * @param id element ID
+	 * @return the node index for the element or -1 if the element is not in the graph
+	 */
+	public int getNode(String id) {
+		Integer node = idToNode.get(id);
+		return Objects.isNull(node) ? -1 : node;
+	}
+
+	/**
+	 * @param node node index
+	 * @return the element ID for the node
+	 */
+	public String getId(int node) {
+		return ids[node];
+	}
+
+	/**
+	 * @param node node index
+	 * @param relationshipType relationship type
+	 * @return node indexes of the elements the node has a relationship of the type to
+	 */
+	public int[] getTargets(int node, RelationshipType relationshipType) {
+		return neighbors(forward, node, relationshipType);
+	}
+
+	/**
+	 * @param node node index
+	 * @param relationshipType relationship type
+	 * @return node indexes of the elements which have a relationship of the type to the node
+	 */
+	public int[] getSources(int node, RelationshipType relationshipType) {
+		return neighbors(reverse, node, relationshipType);
+	}
+
+	private static int[] neighbors(Map<RelationshipType, Adjacency> adjacencies, int node, RelationshipType relationshipType) {
+		Adjacency adjacency = adjacencies.get(relationshipType);
+		if (Objects.isNull(adjacency)) {
+			return new int[0];
+		}
+		return Arrays.copyOfRange(adjacency.neighbors, adjacency.offsets[node], adjacency.offsets[node + 1]);
+	}
+
+	/**
+	 * @param relationshipTypes relationship types requested - all types in the graph if empty
+	 * @param adjacencies forward or reverse adjacencies
+	 * @return adjacencies to follow
+	 */
+	private Adjacency[] select(Map<RelationshipType, Adjacency> adjacencies, RelationshipType[] relationshipTypes) {
+		if (relationshipTypes.length == 0) {
+			return adjacencies.values().toArray(new Adjacency[adjacencies.size()]);
+		}
+		List<Adjacency> retval = new ArrayList<>(relationshipTypes.length);
+		for (RelationshipType relationshipType:EnumSet.copyOf(Arrays.asList(relationshipTypes))) {
+			Adjacency adjacency = adjacencies.get(relationshipType);
+			if (Objects.nonNull(adjacency)) {
+				retval.add(adjacency);
+			}
+		}
+		return retval.toArray(new Adjacency[retval.size()]);
+	}
+
+	/**
+	 * @param id element ID
+	 * @param relationshipTypes relationship types to follow
+	 * @return IDs of all elements reachable from the element by following relationships from source to target,
+	 * in breadth first order and not including the element itself unless it is part of a cycle
+	 */
+	public Set<String> transitiveClosure(String id, RelationshipType... relationshipTypes) {
+		return closure(id, select(forward, relationshipTypes));
+	}
+
+	/**
+	 * @param id element ID
+	 * @param relationshipTypes relationship types to follow
+	 * @return IDs of all elements from which the element can be reached - for example, all elements which
+	 * directly or indirectly DEPENDS_ON the element
+	 */
+	public Set<String> reverseTransitiveClosure(String id, RelationshipType... relationshipTypes) {
+		return closure(id, select(reverse, relationshipTypes));
+	}
+
+	private Set<String> closure(String id, Adjacency[] adjacencies) {
+		Set<String> retval = new LinkedHashSet<>();
+		int start = getNode(id);
+		if (start < 0) {
+			return retval;
+		}
+		boolean[] visited = new boolean[ids.length];
+		int[] queue = new int[ids.length];
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = start;
+		while (head < tail) {
+			int node = queue[head++];
+			for (Adjacency adjacency:adjacencies) {
+				for (int i = adjacency.offsets[node]; i < adjacency.offsets[node + 1]; i++) {
+					int next = adjacency.neighbors[i];
+					if (!visited[next]) {
+						visited[next] = true;
+						retval.add(ids[next]);
+						if (next != start) {
+							queue[tail++] = next;
+						}
+					}
+				}
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @param fromId ID of the source element
+	 * @param toId ID of the target element
+	 * @param relationshipTypes relationship types to follow
+	 * @return IDs of the elements on a path with the fewest relationships from the source to the target, including
+	 * both; empty if the target can not be reached
+	 */
+	public List<String> shortestPath(String fromId, String toId, RelationshipType... relationshipTypes) {
+		int from = getNode(fromId);
+		int to = getNode(toId);
+		if (from < 0 || to < 0) {
+			return Collections.emptyList();
+		}
+		if (from == to) {
+			return Collections.singletonList(fromId);
+		}
+		Adjacency[] adjacencies = select(forward, relationshipTypes);
+		int[] previous = new int[ids.length];
+		Arrays.fill(previous, -1);
+		previous[from] = from;
+		int[] queue = new int[ids.length];
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = from;
+		while (head < tail && previous[to] < 0) {
+			int node = queue[head++];
+			for (Adjacency adjacency:adjacencies) {
+				for (int i = adjacency.offsets[node]; i < adjacency.offsets[node + 1]; i++) {
+					int next = adjacency.neighbors[i];
+					if (previous[next] < 0) {
+						previous[next] = node;
+						queue[tail++] = next;
+					}
+				}
+			}
+		}
+		if (previous[to] < 0) {
+			return Collections.emptyList();
+		}
+		List<String> retval = new ArrayList<>();
+		for (int node = to; node != from; node = previous[node]) {
+			retval.add(ids[node]);
+		}
+		retval.add(fromId);
+		Collections.reverse(retval);
+		return retval;
+	}
+
+	/**
+	 * Order the elements so that every element comes before the elements it has a relationship to
+	 * @param relationshipTypes relationship types to follow
+	 * @return IDs of all elements in the graph in topological order
+	 * @throws InvalidSPDXAnalysisException if the relationships contain a cycle
+	 */
+	public List<String> topologicalOrder(RelationshipType... relationshipTypes) throws InvalidSPDXAnalysisException {
+		Adjacency[] adjacencies = select(forward, relationshipTypes);
+		int[] inDegree = new int[ids.length];
+		for (Adjacency adjacency:adjacencies) {
+			for (int next:adjacency.neighbors) {
+				inDegree[next]++;
+			}
+		}
+		int[] queue = new int[ids.length];
+		int head = 0;
+		int tail = 0;
+		for (int node = 0; node < ids.length; node++) {
+			if (inDegree[node] == 0) {
+				queue[tail++] = node;
+			}
+		}
+		while (head < tail) {
+			int node = queue[head++];
+			for (Adjacency adjacency:adjacencies) {
+				for (int i = adjacency.offsets[node]; i < adjacency.offsets[node + 1]; i++) {
+					int next = adjacency.neighbors[i];
+					if (--inDegree[next] == 0) {
+						queue[tail++] = next;
+					}
+				}
+			}
+		}
+		if (tail < ids.length) {
+			for (int node = 0; node < ids.length; node++) {
+				if (inDegree[node] > 0) {
+					throw new InvalidSPDXAnalysisException("Relationship cycle found including element "+ids[node]);
+				}
+			}
+		}
+		List<String> retval = new ArrayList<>(ids.length);
+		for (int i = 0; i < tail; i++) {
+			retval.add(ids[queue[i]]);
+		}
+		return retval;
+	}
+}
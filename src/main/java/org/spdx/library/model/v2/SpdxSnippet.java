@@ -181,6 +181,7 @@ public class SpdxSnippet extends SpdxItem implements Comparable<SpdxSnippet> {
 				lineRange.get().getEndPointer().setReference(snippetFromFile);
 			}
 		}
+		snippetChanged();
 		return this;
 	}
 
@@ -228,6 +229,7 @@ public class SpdxSnippet extends SpdxItem implements Comparable<SpdxSnippet> {
 		}
 		allRanges.removeAll(existing);
 		allRanges.add(byteRange);
+		snippetChanged();
 		return this;
 	}
 	
@@ -278,10 +280,23 @@ public class SpdxSnippet extends SpdxItem implements Comparable<SpdxSnippet> {
 			setPointerReferences(lineRange);
 			allRanges.add(lineRange);
 		}
+		snippetChanged();
 		return this;
 	}
 	
 	
+	/**
+	 * Record a change and update any open document index after the ranges or file for this snippet change
+	 * @throws InvalidSPDXAnalysisException on errors reading the ranges
+	 */
+	private void snippetChanged() throws InvalidSPDXAnalysisException {
+		markChanged();
+		SpdxDocumentIndex index = SpdxDocumentIndex.indexFor(this);
+		if (Objects.nonNull(index)) {
+			index.snippetChanged(this);
+		}
+	}
+	
 	/**
 	 * Set the reference for the pointers to the snippetFromFile
 	 * @param pointer
@@ -613,7 +628,12 @@ public class SpdxSnippet extends SpdxItem implements Comparable<SpdxSnippet> {
 		public SpdxSnippet build() throws InvalidSPDXAnalysisException {
 			IModelStoreLock lock = modelStore.enterCriticalSection(false);
 			try {
-				return new SpdxSnippet(this);
+				boolean indexCreation = SpdxDocumentIndex.isCreationIndexed(modelStore, documentUri, id, SpdxConstantsCompatV2.CLASS_SPDX_SNIPPET);
+				SpdxSnippet retval = new SpdxSnippet(this);
+				if (indexCreation) {
+					SpdxDocumentIndex.elementCreated(retval);
+				}
+				return retval;
 			} finally {
 				modelStore.leaveCriticalSection(lock);
 			}
@@ -90,6 +90,10 @@ public class SpdxVerificationHelper {
 	static final Pattern EXTERNAL_DOC_REF_PATTERN = Pattern.compile(".*" + SpdxConstantsCompatV2.EXTERNAL_DOC_REF_PRENUM+"([0-9a-zA-Z\\.\\-\\+]+)$");; 
 	
 	public static String verifyNonStdLicenseid(String licenseUri) {
+		return VerificationRecorder.check(VerificationRule.NON_STD_LICENSE_ID, SpdxVerificationHelper::checkNonStdLicenseid, licenseUri);
+	}
+
+	private static String checkNonStdLicenseid(String licenseUri) {
 		if (LICENSE_ID_PATTERN.matcher(licenseUri).matches()) {
 			return null;
 		} else {
@@ -104,6 +108,10 @@ public class SpdxVerificationHelper {
 	 * @return
 	 */
 	public static String verifyCreator(String creator) {
+		return VerificationRecorder.check(VerificationRule.CREATOR, SpdxVerificationHelper::checkCreator, creator);
+	}
+
+	private static String checkCreator(String creator) {
 		boolean ok = false;
 		for (int i = 0; i < VALID_CREATOR_PREFIXES.length; i++) {
 			if (creator.startsWith(VALID_CREATOR_PREFIXES[i])) {
@@ -130,7 +138,7 @@ public class SpdxVerificationHelper {
 	 * @return
 	 */
 	public static String verifyOriginator(String originator) {
-		return verifyOriginatorOrSupplier(originator);
+		return VerificationRecorder.check(VerificationRule.ORIGINATOR, SpdxVerificationHelper::verifyOriginatorOrSupplier, originator);
 	}
 	
 	/**
@@ -139,7 +147,7 @@ public class SpdxVerificationHelper {
 	 * @return
 	 */
 	public static String verifySupplier(String supplier) {
-		return verifyOriginatorOrSupplier(supplier);
+		return VerificationRecorder.check(VerificationRule.SUPPLIER, SpdxVerificationHelper::verifyOriginatorOrSupplier, supplier);
 	}
 
 	/**
@@ -173,6 +181,10 @@ public class SpdxVerificationHelper {
 	 * @return error message or null if no error
 	 */
 	public static String verifyDate(String creationDate) {
+		return VerificationRecorder.check(VerificationRule.DATE, SpdxVerificationHelper::checkDate, creationDate);
+	}
+
+	private static String checkDate(String creationDate) {
 		try {
 			Instant.parse(creationDate);
 		} catch (DateTimeParseException e) {
@@ -186,6 +198,10 @@ public class SpdxVerificationHelper {
 	 * @return
 	 */
 	public static String verifyReviewer(String reviewer) {
+		return VerificationRecorder.check(VerificationRule.REVIEWER, SpdxVerificationHelper::checkReviewer, reviewer);
+	}
+
+	private static String checkReviewer(String reviewer) {
 		if (!reviewer.startsWith("Person:") && !reviewer.startsWith("Tool:") &&
 				!reviewer.startsWith("Organization:")) {
 			return "Reviewer does not start with Person:, Organization:, or Tool:";
@@ -247,6 +263,10 @@ public class SpdxVerificationHelper {
 	 * @return
 	 */
 	public static String verifyAnnotator(String annotator) {
+		return VerificationRecorder.check(VerificationRule.ANNOTATOR, SpdxVerificationHelper::checkAnnotator, annotator);
+	}
+
+	private static String checkAnnotator(String annotator) {
 		if (!annotator.startsWith("Person:") && !annotator.startsWith("Tool:") &&
 				!annotator.startsWith("Organization:")) {
 			return "Annotator does not start with Person:, Organization:, or Tool";
@@ -260,10 +280,15 @@ public class SpdxVerificationHelper {
 	 * @return
 	 */
 	public static boolean isValidExternalDocRef(String externalDocumentId) {
-		return EXTERNAL_DOC_REF_PATTERN.matcher(externalDocumentId).matches();
+		return VerificationRecorder.test(VerificationRule.EXTERNAL_DOC_REF, 
+				id -> EXTERNAL_DOC_REF_PATTERN.matcher(id).matches(), externalDocumentId);
 	}
 
 	public static boolean isValidUri(String uri) {
+		return VerificationRecorder.test(VerificationRule.URI, SpdxVerificationHelper::checkUri, uri);
+	}
+
+	private static boolean checkUri(String uri) {
 		try {
 			URI.create(uri);
 		} catch (Exception e) {
@@ -272,16 +297,53 @@ public class SpdxVerificationHelper {
 		return true;
 	}
 
-	public static String verifyChecksumString(String checksum, ChecksumAlgorithm algorithm, String specVersion) {		
+	public static String verifyChecksumString(String checksum, ChecksumAlgorithm algorithm, String specVersion) {
+		VerificationRecorder recorder = VerificationRecorder.current();
+		if (Objects.isNull(recorder)) {
+			return checkChecksumString(checksum, algorithm, specVersion);
+		}
+		long start = System.nanoTime();
+		String retval = checkChecksumString(checksum, algorithm, specVersion);
+		recorder.endCheck(VerificationRule.CHECKSUM_VALUE, start, retval);
+		return retval;
+	}
+
+	/**
+	 * Verify a checksum value which has already been parsed from a valid hex string
+	 * @param checksum binary checksum value
+	 * @param algorithm checksum algorithm
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @return null if valid otherwise a description of the error
+	 */
+	static String verifyChecksumValue(ChecksumValue checksum, ChecksumAlgorithm algorithm, String specVersion) {
+		VerificationRecorder recorder = VerificationRecorder.current();
+		if (Objects.isNull(recorder)) {
+			return checkChecksumLength(checksum.length() * 2, algorithm, specVersion);
+		}
+		long start = System.nanoTime();
+		String retval = checkChecksumLength(checksum.length() * 2, algorithm, specVersion);
+		recorder.endCheck(VerificationRule.CHECKSUM_VALUE, start, retval);
+		return retval;
+	}
+
+	private static String checkChecksumString(String checksum, ChecksumAlgorithm algorithm, String specVersion) {
 		for (int i = 0; i < checksum.length(); i++) {
-			char c = checksum.charAt(i);
-			if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+			if (ChecksumValue.hexValue(checksum.charAt(i)) < 0) {
 				return "Invalid checksum string character at position "+String.valueOf(i);
 			}
 		}
-		
+		return checkChecksumLength(checksum.length(), algorithm, specVersion);
+	}
+
+	/**
+	 * @param length number of hex characters in the checksum value
+	 * @param algorithm checksum algorithm
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @return null if valid otherwise a description of the error
+	 */
+	private static String checkChecksumLength(int length, ChecksumAlgorithm algorithm, String specVersion) {
 		Integer valueSize = CHECKSUM_VALUE_LENGTH.get(algorithm);
-		if (Objects.nonNull(valueSize) && checksum.length() != valueSize) {
+		if (Objects.nonNull(valueSize) && length != valueSize) {
 			return "Invalid number of characters for checksum";
 		}
 		if (versionLessThan(specVersion, SpdxConstantsCompatV2.SPEC_TWO_POINT_THREE_VERSION)) {
@@ -298,6 +360,10 @@ public class SpdxVerificationHelper {
 	 * @return null if a valid string otherwise a description of the error
 	 */
 	public static String verifyDownloadLocation(String downloadLocation) {
+		return VerificationRecorder.check(VerificationRule.DOWNLOAD_LOCATION, SpdxVerificationHelper::checkDownloadLocation, downloadLocation);
+	}
+
+	private static String checkDownloadLocation(String downloadLocation) {
 		if (Objects.isNull(downloadLocation)) {
 			return "Download location is null";
 		} else if (SpdxConstantsCompatV2.DOWNLOAD_LOCATION_PATTERN.matcher(downloadLocation).matches()) {
@@ -313,7 +379,8 @@ public class SpdxVerificationHelper {
 	 * @return true if the ID is a valid SPDX ID reference
 	 */
 	public static boolean verifySpdxId(String objectUri) {
-		return SPDX_ELEMENT_ID_PATTERN.matcher(objectUri).matches();
+		return VerificationRecorder.test(VerificationRule.SPDX_ID, 
+				uri -> SPDX_ELEMENT_ID_PATTERN.matcher(uri).matches(), objectUri);
 	}
 
 	/**
@@ -322,6 +389,10 @@ public class SpdxVerificationHelper {
 	 * @return null if no errors, otherwise a string error message
 	 */
 	public static String verifySpdxVersion(String spdxVersion) {
+		return VerificationRecorder.check(VerificationRule.SPDX_VERSION, SpdxVerificationHelper::checkSpdxVersion, spdxVersion);
+	}
+
+	private static String checkSpdxVersion(String spdxVersion) {
 		if (!spdxVersion.startsWith("SPDX-")) {
 			return "Invalid spdx version - must start with 'SPDX-'";
 		}
@@ -0,0 +1,197 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
+
+/**
+ * Cached verification results for the elements of an SPDX document used by <code>SpdxDocument.verifyIncremental</code>
+ *
+ * Each element is verified on its own - related elements are not verified as part of the element while
+ * the objects belonging to the element (annotations, relationships, checksums, licenses, ...) are.  The
+ * cached result for an element records the IDs of the objects verified with the element, and its messages
+ * hold a placeholder where the messages of a related element belong.  The placeholders are expanded in
+ * message order with the prefix and suffix the placeholder was formatted with, and each related element
+ * is expanded only the first time it is found, which gives the same messages in the same order as
+ * <code>verify()</code>.  When a model object records a change, the cached results for the element itself
+ * and for any element which verified the object are discarded.  The document is verified on every call
+ * since some of its checks depend on the other elements in the document.
+ *
+ * Caches are held per model store and document URI and are released when the model store is no longer
+ * referenced.
+ *
+ * @author Gary O'Neall
+ */
+final class VerificationCache {
+
+	private static final ModelStoreMap<Map<String, VerificationCache>> CACHES = new ModelStoreMap<>();
+
+	/**
+	 * Verification result for a single element
+	 */
+	private static final class Entry {
+		final List<String> messages;
+		final String[] verifiedIds;
+
+		Entry(List<String> messages, Set<String> verifiedIds) {
+			this.messages = messages.isEmpty() ? Collections.emptyList() : messages;
+			this.verifiedIds = verifiedIds.toArray(new String[verifiedIds.size()]);
+		}
+	}
+
+	private final Map<String, Entry> entries = new HashMap<>();
+	/**
+	 * IDs of the elements with a cached result by the ID of an object verified with the element
+	 */
+	private final Map<String, Set<String>> elementsByVerifiedId = new HashMap<>();
+	private final Set<String> changedIds = ConcurrentHashMap.newKeySet();
+	private String specVersion = null;
+
+	private VerificationCache() {
+		// created through forDocument
+	}
+
+	/**
+	 * @param document SPDX document
+	 * @return the verification cache for the document - created if it does not exist
+	 */
+	static VerificationCache forDocument(SpdxDocument document) {
+		return CACHES.computeIfAbsent(document.getModelStore(), store -> new ConcurrentHashMap<>())
+				.computeIfAbsent(document.getDocumentUri(), uri -> new VerificationCache());
+	}
+
+	/**
+	 * Called when the properties of a model object change
+	 * @param modelObject changed model object
+	 */
+	static void objectChanged(ModelObjectV2 modelObject) {
+		Map<String, VerificationCache> caches = CACHES.get(modelObject.getModelStore());
+		if (Objects.isNull(caches) || Objects.isNull(modelObject.getDocumentUri()) || Objects.isNull(modelObject.getId())) {
+			return;
+		}
+		VerificationCache cache = caches.get(modelObject.getDocumentUri());
+		if (Objects.nonNull(cache)) {
+			cache.changedIds.add(modelObject.getId());
+		}
+	}
+
+	/**
+	 * @param document document to verify
+	 * @param verifySpecVersion version of the SPDX spec to verify against
+	 * @return the verification errors and warnings for the document and each element reachable from the document
+	 */
+	synchronized List<String> verify(SpdxDocument document, String verifySpecVersion) {
+		if (!Objects.equals(verifySpecVersion, specVersion)) {
+			entries.clear();
+			elementsByVerifiedId.clear();
+			changedIds.clear();
+			specVersion = verifySpecVersion;
+		}
+		discardChanged();
+		IModelStore modelStore = document.getModelStore();
+		String documentUri = document.getDocumentUri();
+		Set<String> visited = new HashSet<>();
+		visited.add(document.getId());
+		return ElementVerifiedIds.expand(verifyElement(document, verifySpecVersion).messages, visited, id -> {
+			Entry entry = entries.get(id);
+			return Objects.nonNull(entry) ? entry.messages : 
+				verifyElement(modelStore, documentUri, document, id, verifySpecVersion).messages;
+		});
+	}
+
+	/**
+	 * Discard the cached results for the changed objects and the elements which verified them
+	 */
+	private void discardChanged() {
+		Iterator<String> iter = changedIds.iterator();
+		while (iter.hasNext()) {
+			String id = iter.next();
+			iter.remove();
+			discard(id);
+			Set<String> elementIds = elementsByVerifiedId.remove(id);
+			if (Objects.nonNull(elementIds)) {
+				for (String elementId:elementIds) {
+					discard(elementId);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param elementId ID of the element whose cached result is discarded
+	 */
+	private void discard(String elementId) {
+		Entry entry = entries.remove(elementId);
+		if (Objects.isNull(entry)) {
+			return;
+		}
+		for (String verifiedId:entry.verifiedIds) {
+			Set<String> elementIds = elementsByVerifiedId.get(verifiedId);
+			if (Objects.nonNull(elementIds)) {
+				elementIds.remove(elementId);
+				if (elementIds.isEmpty()) {
+					elementsByVerifiedId.remove(verifiedId);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Verify and cache the result for an element
+	 * @param modelStore model store containing the element
+	 * @param documentUri document URI for the element
+	 * @param document document containing the element
+	 * @param id ID of the element
+	 * @param verifySpecVersion version of the SPDX spec to verify against
+	 * @return the verification result
+	 */
+	private Entry verifyElement(IModelStore modelStore, String documentUri, SpdxDocument document,
+			String id, String verifySpecVersion) {
+		ModelObjectV2 element;
+		try {
+			Optional<TypedValue> tv = modelStore.getTypedValue(CompatibleModelStoreWrapper.documentUriIdToUri(documentUri, id, false));
+			if (!tv.isPresent()) {
+				// removed from the store since it was found - nothing to verify
+				return new Entry(Collections.emptyList(), Collections.emptySet());
+			}
+			element = SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, documentUri, id,
+					tv.get().getType(), document.getCopyManager(), false);
+		} catch (InvalidSPDXAnalysisException e) {
+			return new Entry(Collections.singletonList("Error getting element "+id+": "+e.getMessage()),
+					Collections.emptySet());
+		}
+		Entry retval = verifyElement(element, verifySpecVersion);
+		entries.put(id, retval);
+		for (String verifiedId:retval.verifiedIds) {
+			elementsByVerifiedId.computeIfAbsent(verifiedId, k -> new HashSet<>()).add(id);
+		}
+		return retval;
+	}
+
+	/**
+	 * @param element element to verify without verifying its related elements
+	 * @param verifySpecVersion version of the SPDX spec to verify against
+	 * @return the verification result
+	 */
+	private Entry verifyElement(ModelObjectV2 element, String verifySpecVersion) {
+		ElementVerifiedIds verifiedIds = new ElementVerifiedIds(element);
+		List<String> messages = element.verify(verifiedIds, verifySpecVersion);
+		return new Entry(messages, verifiedIds.verifiedIds);
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.Objects;
+
+/**
+ * An error or warning found verifying an element
+ *
+ * @author Gary O'Neall
+ */
+public final class VerificationFinding {
+
+	private final String elementId;
+	private final VerificationRule rule;
+	private final String message;
+
+	/**
+	 * @param elementId ID of the element being verified when the finding was made
+	 * @param rule rule for the check which produced the finding
+	 * @param message error or warning message
+	 */
+	public VerificationFinding(String elementId, VerificationRule rule, String message) {
+		this.elementId = Objects.requireNonNull(elementId, "Element ID can not be null");
+		this.rule = Objects.requireNonNull(rule, "Rule can not be null");
+		this.message = Objects.requireNonNull(message, "Message can not be null");
+	}
+
+	/**
+	 * @return ID of the element being verified when the finding was made - the finding may be for a model
+	 * object belonging to the element such as a checksum or license
+	 */
+	public String getElementId() {
+		return elementId;
+	}
+
+	/**
+	 * @return rule for the check which produced the finding
+	 */
+	public VerificationRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * @return error or warning message
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public boolean equals(Object comp) {
+		if (!(comp instanceof VerificationFinding)) {
+			return false;
+		}
+		VerificationFinding compFinding = (VerificationFinding)comp;
+		return elementId.equals(compFinding.elementId) && rule.equals(compFinding.rule) &&
+				message.equals(compFinding.message);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(elementId, rule, message);
+	}
+
+	@Override
+	public String toString() {
+		return elementId + " [" + rule.getId() + "]: " + message;
+	}
+}
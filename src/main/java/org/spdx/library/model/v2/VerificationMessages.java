@@ -0,0 +1,132 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * Verification messages which carry the rule that produced each message
+ *
+ * The <code>_verify</code> methods return the messages as a <code>List&lt;String&gt;</code>.  A message
+ * produced by a <code>VerificationRule</code> is added with <code>add(VerificationRule, String)</code> where
+ * the message is created.  The rule stays with the message when it is replaced with <code>set</code> - e.g. to
+ * add the name of the element - and when the messages are added to another <code>VerificationMessages</code>
+ * with <code>addAll</code>.  Messages added as plain strings, or added from another type of list, have no rule.
+ *
+ * @author Gary O'Neall
+ */
+public class VerificationMessages extends AbstractList<String> {
+
+	private final List<String> messages;
+	private final List<VerificationRule> rules;
+
+	public VerificationMessages() {
+		messages = new ArrayList<>();
+		rules = new ArrayList<>();
+	}
+
+	/**
+	 * @param messages messages to copy - the rules are copied if the messages are <code>VerificationMessages</code>
+	 */
+	public VerificationMessages(Collection<String> messages) {
+		this.messages = new ArrayList<>(messages.size());
+		this.rules = new ArrayList<>(messages.size());
+		addAll(messages);
+	}
+
+	/**
+	 * @param messages verification messages
+	 * @param index index of a message
+	 * @return the rule which produced the message or null if the message has no rule
+	 */
+	public static @Nullable VerificationRule ruleOf(List<String> messages, int index) {
+		return messages instanceof VerificationMessages ? ((VerificationMessages)messages).getRule(index) : null;
+	}
+
+	/**
+	 * Add a message produced by a rule to a list of verification messages
+	 * @param messages messages to add to - the rule is kept only if the messages are <code>VerificationMessages</code>
+	 * @param rule rule which produced the message
+	 * @param message message to add
+	 */
+	public static void addTo(List<String> messages, VerificationRule rule, String message) {
+		if (messages instanceof VerificationMessages) {
+			((VerificationMessages)messages).add(rule, message);
+		} else {
+			messages.add(message);
+		}
+	}
+
+	/**
+	 * @param rule rule which produced the message
+	 * @param message message to add
+	 * @return true
+	 */
+	public boolean add(VerificationRule rule, String message) {
+		Objects.requireNonNull(rule, "Rule can not be null");
+		messages.add(message);
+		rules.add(rule);
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * @param index index of a message
+	 * @return the rule which produced the message or null if the message has no rule
+	 */
+	public @Nullable VerificationRule getRule(int index) {
+		return rules.get(index);
+	}
+
+	@Override
+	public String get(int index) {
+		return messages.get(index);
+	}
+
+	@Override
+	public int size() {
+		return messages.size();
+	}
+
+	/**
+	 * Replace a message keeping the rule of the message replaced
+	 */
+	@Override
+	public String set(int index, String message) {
+		return messages.set(index, message);
+	}
+
+	@Override
+	public void add(int index, String message) {
+		messages.add(index, message);
+		rules.add(index, null);
+		modCount++;
+	}
+
+	@Override
+	public String remove(int index) {
+		rules.remove(index);
+		modCount++;
+		return messages.remove(index);
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends String> c) {
+		if (!(c instanceof VerificationMessages)) {
+			return super.addAll(c);
+		}
+		VerificationMessages other = (VerificationMessages)c;
+		messages.addAll(other.messages);
+		rules.addAll(other.rules);
+		modCount++;
+		return !other.isEmpty();
+	}
+}
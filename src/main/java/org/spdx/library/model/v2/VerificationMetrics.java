@@ -0,0 +1,99 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation counts, cumulative time and finding counts per verification rule
+ *
+ * Rules are identified by the ID of a <code>VerificationRule</code> for the checks made by
+ * <code>SpdxVerificationHelper</code> or by the type of a model object (e.g. <code>Package</code>) for the
+ * checks made directly by the <code>_verify</code> method of the type.  The time for a type excludes
+ * the time spent verifying the model objects it verifies and the time spent in the helper checks.
+ *
+ * Pass the metrics to a verification run with <code>VerificationOptions.setMetrics</code>.  The same
+ * metrics can be passed to several runs to accumulate the results.
+ *
+ * @author Gary O'Neall
+ */
+public class VerificationMetrics {
+
+	/**
+	 * Metrics for a single rule
+	 */
+	private static final class RuleMetrics {
+		final LongAdder invocations = new LongAdder();
+		final LongAdder nanos = new LongAdder();
+		final LongAdder findings = new LongAdder();
+	}
+
+	private final ConcurrentMap<String, RuleMetrics> rules = new ConcurrentHashMap<>();
+
+	/**
+	 * Record an invocation of a rule
+	 * @param ruleId ID of the rule
+	 * @param nanos time taken by the rule in nanoseconds
+	 * @param findings number of errors or warnings found by the rule
+	 */
+	void record(String ruleId, long nanos, int findings) {
+		RuleMetrics metrics = rules.get(ruleId);
+		if (Objects.isNull(metrics)) {
+			metrics = rules.computeIfAbsent(ruleId, id -> new RuleMetrics());
+		}
+		metrics.invocations.increment();
+		metrics.nanos.add(nanos);
+		if (findings > 0) {
+			metrics.findings.add(findings);
+		}
+	}
+
+	/**
+	 * @return IDs of the rules invoked, sorted by ID
+	 */
+	public Set<String> getRuleIds() {
+		return Collections.unmodifiableSet(new TreeSet<>(rules.keySet()));
+	}
+
+	/**
+	 * @param ruleId ID of the rule
+	 * @return number of times the rule was invoked
+	 */
+	public long getInvocationCount(String ruleId) {
+		RuleMetrics metrics = rules.get(ruleId);
+		return Objects.isNull(metrics) ? 0 : metrics.invocations.sum();
+	}
+
+	/**
+	 * @param ruleId ID of the rule
+	 * @return cumulative time taken by the rule in nanoseconds
+	 */
+	public long getNanos(String ruleId) {
+		RuleMetrics metrics = rules.get(ruleId);
+		return Objects.isNull(metrics) ? 0 : metrics.nanos.sum();
+	}
+
+	/**
+	 * @param ruleId ID of the rule
+	 * @return number of errors and warnings found by the rule
+	 */
+	public long getFindingCount(String ruleId) {
+		RuleMetrics metrics = rules.get(ruleId);
+		return Objects.isNull(metrics) ? 0 : metrics.findings.sum();
+	}
+
+	/**
+	 * Remove all recorded metrics
+	 */
+	public void reset() {
+		rules.clear();
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import javax.annotation.Nullable;
+
+/**
+ * Options controlling how much work a verification run does
+ *
+ * By default, every error and warning is collected and each message is formatted with the name of the
+ * element it was found in.  When only the validity of a document or the first few problems are needed,
+ * the run can stop once a maximum number of messages has been found, and the element names, which each
+ * require reading the name of the element from the model store, can be left out of the messages.
+ * Metrics for each verification rule can also be collected for the run.
+ *
+ * @author Gary O'Neall
+ */
+public class VerificationOptions {
+
+	public static final int UNLIMITED = Integer.MAX_VALUE;
+
+	private int maxErrors = UNLIMITED;
+	private boolean formatMessages = true;
+	private VerificationMetrics metrics = null;
+
+	/**
+	 * Create options which collect and format all messages
+	 */
+	public VerificationOptions() {
+		// defaults are set in the field declarations
+	}
+
+	/**
+	 * @param maxErrors maximum number of errors and warnings to collect - verification stops once this number is found
+	 * @return this to continue the configuration
+	 */
+	public VerificationOptions setMaxErrors(int maxErrors) {
+		if (maxErrors < 1) {
+			throw new IllegalArgumentException("Maximum number of errors must be at least 1");
+		}
+		this.maxErrors = maxErrors;
+		return this;
+	}
+
+	/**
+	 * Stop the verification at the first error or warning found
+	 * @return this to continue the configuration
+	 */
+	public VerificationOptions setStopAtFirstError() {
+		return setMaxErrors(1);
+	}
+
+	/**
+	 * @param formatMessages if false, the names of the elements are not added to the messages
+	 * @return this to continue the configuration
+	 */
+	public VerificationOptions setFormatMessages(boolean formatMessages) {
+		this.formatMessages = formatMessages;
+		return this;
+	}
+
+	/**
+	 * @param metrics metrics updated with the invocation counts, time and findings for each verification rule - null to not collect metrics
+	 * @return this to continue the configuration
+	 */
+	public VerificationOptions setMetrics(@Nullable VerificationMetrics metrics) {
+		this.metrics = metrics;
+		return this;
+	}
+
+	/**
+	 * @return maximum number of errors and warnings to collect
+	 */
+	public int getMaxErrors() {
+		return maxErrors;
+	}
+
+	/**
+	 * @return true if the verification stops before all errors and warnings are collected
+	 */
+	public boolean isLimited() {
+		return maxErrors != UNLIMITED;
+	}
+
+	/**
+	 * @return true if the names of the elements are added to the messages
+	 */
+	public boolean isFormatMessages() {
+		return formatMessages;
+	}
+
+	/**
+	 * @return metrics updated by the verification or null if no metrics are collected
+	 */
+	public @Nullable VerificationMetrics getMetrics() {
+		return metrics;
+	}
+}
@@ -0,0 +1,240 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * Records the verification rules invoked in the current thread during a verification run which collects metrics
+ *
+ * The recorder is installed for the duration of the run.  Outside of such a run, the checks only pay for a
+ * thread local lookup.  The rule which produced a finding is not recorded here - it is added with the message
+ * to the <code>VerificationMessages</code> where the message is created.
+ *
+ * The model objects verified once per run record the rule invocations of their cached result again when
+ * the cached result is used, with no time spent.
+ *
+ * @author Gary O'Neall
+ */
+final class VerificationRecorder {
+
+	private static final ThreadLocal<VerificationRecorder> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * State of the enclosing model object verification saved while a nested model object is verified
+	 */
+	static final class Frame {
+		final long startNanos;
+		final long childNanos;
+		final int nestedCount;
+
+		Frame(long startNanos, long childNanos, int nestedCount) {
+			this.startNanos = startNanos;
+			this.childNanos = childNanos;
+			this.nestedCount = nestedCount;
+		}
+	}
+
+	/**
+	 * Invocation of a rule or model object verification recorded in the metrics
+	 */
+	private static final class Invocation {
+		final String ruleId;
+		final int findings;
+
+		Invocation(String ruleId, int findings) {
+			this.ruleId = ruleId;
+			this.findings = findings;
+		}
+	}
+
+	/**
+	 * Rule invocations of a cached verification result
+	 */
+	static final class Capture {
+		private final Invocation[] invocations;
+		private final int nestedCount;
+
+		private Capture(Invocation[] invocations, int nestedCount) {
+			this.invocations = invocations;
+			this.nestedCount = nestedCount;
+		}
+	}
+
+	private final VerificationMetrics metrics;
+	/**
+	 * Invocations recorded while a verification result is captured
+	 */
+	private final List<Invocation> captured = new ArrayList<>();
+	private int captureDepth = 0;
+	/**
+	 * Time spent in the rules and model objects nested in the model object verification in progress
+	 */
+	private long childNanos = 0;
+	/**
+	 * Number of messages returned by the model objects nested in the model object verification in progress
+	 */
+	private int nestedCount = 0;
+
+	/**
+	 * @param metrics metrics to update
+	 */
+	VerificationRecorder(VerificationMetrics metrics) {
+		this.metrics = Objects.requireNonNull(metrics, "Metrics can not be null");
+	}
+
+	/**
+	 * @return the recorder for the current thread or null if no run is recording
+	 */
+	static @Nullable VerificationRecorder current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * @param recorder recorder to use for the current thread - null to remove the recorder
+	 * @return the recorder previously used for the current thread
+	 */
+	static @Nullable VerificationRecorder install(@Nullable VerificationRecorder recorder) {
+		VerificationRecorder previous = CURRENT.get();
+		if (Objects.isNull(recorder)) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(recorder);
+		}
+		return previous;
+	}
+
+	/**
+	 * Apply a check returning an error message
+	 * @param rule rule for the check
+	 * @param check check returning an error message or null if the value is valid
+	 * @param value value to check
+	 * @return the result of the check
+	 */
+	static String check(VerificationRule rule, Function<String, String> check, String value) {
+		VerificationRecorder recorder = CURRENT.get();
+		if (Objects.isNull(recorder)) {
+			return check.apply(value);
+		}
+		long start = System.nanoTime();
+		String retval = check.apply(value);
+		recorder.endCheck(rule, start, retval);
+		return retval;
+	}
+
+	/**
+	 * Apply a check returning true if the value is valid
+	 * @param rule rule for the check
+	 * @param check check returning true if the value is valid
+	 * @param value value to check
+	 * @return the result of the check
+	 */
+	static boolean test(VerificationRule rule, Predicate<String> check, String value) {
+		VerificationRecorder recorder = CURRENT.get();
+		if (Objects.isNull(recorder)) {
+			return check.test(value);
+		}
+		long start = System.nanoTime();
+		boolean retval = check.test(value);
+		recorder.endCheck(rule, start, !retval);
+		return retval;
+	}
+
+	/**
+	 * Record the end of a check
+	 * @param rule rule for the check
+	 * @param startNanos value of <code>System.nanoTime()</code> at the start of the check
+	 * @param message error message returned by the check or null if the value is valid
+	 */
+	void endCheck(VerificationRule rule, long startNanos, @Nullable String message) {
+		endCheck(rule, startNanos, Objects.nonNull(message));
+	}
+
+	/**
+	 * @param rule rule for the check
+	 * @param startNanos value of <code>System.nanoTime()</code> at the start of the check
+	 * @param found true if the check found an error
+	 */
+	private void endCheck(VerificationRule rule, long startNanos, boolean found) {
+		long elapsed = System.nanoTime() - startNanos;
+		childNanos += elapsed;
+		record(rule.getId(), elapsed, found ? 1 : 0);
+	}
+
+	/**
+	 * @param ruleId rule or model object type invoked
+	 * @param nanos time spent
+	 * @param findings number of findings
+	 */
+	private void record(String ruleId, long nanos, int findings) {
+		metrics.record(ruleId, nanos, findings);
+		if (captureDepth > 0) {
+			captured.add(new Invocation(ruleId, findings));
+		}
+	}
+
+	/**
+	 * Called before verifying a model object
+	 * @return state to be passed to <code>endObject</code>
+	 */
+	Frame startObject() {
+		Frame retval = new Frame(System.nanoTime(), childNanos, nestedCount);
+		childNanos = 0;
+		nestedCount = 0;
+		return retval;
+	}
+
+	/**
+	 * Called after verifying a model object
+	 * @param type type of the model object
+	 * @param frame value returned by the matching <code>startObject</code>
+	 * @param messages messages returned by the verification
+	 */
+	void endObject(String type, Frame frame, List<String> messages) {
+		long elapsed = System.nanoTime() - frame.startNanos;
+		record(type, elapsed - childNanos, messages.size() - nestedCount);
+		childNanos = frame.childNanos + elapsed;
+		nestedCount = frame.nestedCount + messages.size();
+	}
+
+	/**
+	 * Start capturing the rule invocations of a verification whose result is cached
+	 * @return value to pass to <code>endCapture</code>
+	 */
+	int startCapture() {
+		captureDepth++;
+		return captured.size();
+	}
+
+	/**
+	 * @param mark value returned by the matching <code>startCapture</code>
+	 * @return the rule invocations since the matching <code>startCapture</code>
+	 */
+	Capture endCapture(int mark) {
+		Invocation[] invocations = captured.subList(mark, captured.size()).toArray(new Invocation[captured.size() - mark]);
+		captureDepth--;
+		if (captureDepth == 0) {
+			captured.clear();
+		}
+		return new Capture(invocations, nestedCount);
+	}
+
+	/**
+	 * Record the rule invocations of a cached result in place of repeating the verification
+	 * @param capture value returned by <code>endCapture</code> when the result was cached
+	 */
+	void replay(Capture capture) {
+		for (Invocation invocation:capture.invocations) {
+			record(invocation.ruleId, 0, invocation.findings);
+		}
+		nestedCount += capture.nestedCount;
+	}
+}
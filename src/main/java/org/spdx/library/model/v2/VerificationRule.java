@@ -0,0 +1,41 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+/**
+ * Rules for the checks made by <code>SpdxVerificationHelper</code>
+ *
+ * The ID of a rule is the name of the constant.  The checks made directly by the <code>_verify</code>
+ * method of a model object are reported under <code>MODEL_OBJECT</code>.
+ *
+ * @author Gary O'Neall
+ */
+public enum VerificationRule {
+	NON_STD_LICENSE_ID,
+	CREATOR,
+	ORIGINATOR,
+	SUPPLIER,
+	DATE,
+	REVIEWER,
+	ANNOTATOR,
+	EXTERNAL_DOC_REF,
+	URI,
+	CHECKSUM_VALUE,
+	DOWNLOAD_LOCATION,
+	SPDX_ID,
+	SPDX_VERSION,
+	/**
+	 * Checks made directly by the <code>_verify</code> method of a model object - e.g. for a missing required property
+	 */
+	MODEL_OBJECT,
+	;
+
+	/**
+	 * @return stable ID for the rule
+	 */
+	public String getId() {
+		return name();
+	}
+}
@@ -0,0 +1,411 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.v2;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import org.spdx.core.CoreModelObject;
+import org.spdx.storage.IModelStore;
+
+/**
+ * Set of the IDs of elements verified during a verification run
+ * 
+ * Checksums, licenses and the other model objects whose verification does not verify any elements are
+ * often reached through many paths - e.g. an extracted license referenced by every file.  The messages
+ * for these objects are kept per model store, object URI and spec version for the duration of the run,
+ * so each one is verified only once.  When the run records the verification rules, the rule invocations
+ * and the rules which produced the messages are kept with the messages and recorded again each time
+ * the messages are re-used.
+ * 
+ * For a parallel verification, each element is verified by its own fork join task with its own set.  When
+ * the verification of an element finds another element, it returns a placeholder message in its place and
+ * a task is started for the element found unless another task has already claimed it, so each element is
+ * verified exactly once.  Since the elements are not verified within them, the items of a collection do not
+ * depend on each other and are verified as independent fork join tasks sharing the set of the element.  Once
+ * all tasks are complete, the placeholders are expanded in message order, each element the first time it
+ * is found.  This produces the same messages in the same order as verifying serially without repeating
+ * any verification.
+ * 
+ * If the verification options limit the number of messages, the number of messages produced by each
+ * model object, excluding those of the model objects it verifies, is counted for the whole run and
+ * the remaining verifications are skipped once the limit is reached.
+ * 
+ * @author Gary O'Neall
+ */
+class VerifiedIdSet extends AbstractSet<String> {
+	
+	/**
+	 * Key for the verification messages of a model object
+	 */
+	private static final class VerificationKey {
+		final IModelStore modelStore;
+		final String objectUri;
+		final String specVersion;
+		final int hash;
+		
+		VerificationKey(IModelStore modelStore, String objectUri, @Nullable String specVersion) {
+			this.modelStore = modelStore;
+			this.objectUri = objectUri;
+			this.specVersion = specVersion;
+			this.hash = 31 * (31 * System.identityHashCode(modelStore) + objectUri.hashCode()) + Objects.hashCode(specVersion);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object comp) {
+			if (!(comp instanceof VerificationKey)) {
+				return false;
+			}
+			VerificationKey compKey = (VerificationKey)comp;
+			return modelStore == compKey.modelStore && objectUri.equals(compKey.objectUri) &&
+					Objects.equals(specVersion, compKey.specVersion);
+		}
+	}
+	
+	/**
+	 * Verification messages of a model object and the rules which produced them
+	 */
+	private static final class VerifiedMessages {
+		final List<String> messages;
+		final VerificationRecorder.Capture capture;
+		
+		VerifiedMessages(List<String> messages, @Nullable VerificationRecorder.Capture capture) {
+			this.messages = messages;
+			this.capture = capture;
+		}
+	}
+	
+	private final ForkJoinPool pool;
+	private final Set<String> ids;
+	/**
+	 * Verification messages for the objects verified once per run - shared by all child sets
+	 */
+	private final Map<VerificationKey, VerifiedMessages> verified;
+	private final VerificationOptions options;
+	/**
+	 * Number of messages produced in the run - shared by all child sets
+	 */
+	private final AtomicInteger messageCount;
+	/**
+	 * Tasks verifying the elements of a parallel verification by element ID - shared by all sets of the run
+	 */
+	private final Map<String, ElementTask> elementTasks;
+	/**
+	 * ID of the element verified with this set in a parallel verification
+	 */
+	private final String elementId;
+	/**
+	 * Tasks for the elements first found by the verification with this set
+	 */
+	private final Queue<ElementTask> found;
+	/**
+	 * Number of messages returned by the verifications nested in the verification in progress for this set
+	 */
+	private int nestedCount = 0;
+	
+	/**
+	 * Create a set for a verification in the calling thread
+	 */
+	VerifiedIdSet() {
+		this(new VerificationOptions());
+	}
+	
+	/**
+	 * Create a set for a verification in the calling thread
+	 * @param options options for the verification run
+	 */
+	VerifiedIdSet(VerificationOptions options) {
+		this(null, new HashSet<>(), new ConcurrentHashMap<>(),
+				Objects.requireNonNull(options, "Verification options can not be null"), new AtomicInteger(), null, null);
+	}
+	
+	private VerifiedIdSet(@Nullable ForkJoinPool pool, Set<String> ids, Map<VerificationKey, VerifiedMessages> verified, 
+			VerificationOptions options, AtomicInteger messageCount, @Nullable Map<String, ElementTask> elementTasks,
+			@Nullable String elementId) {
+		this.pool = pool;
+		this.ids = ids;
+		this.verified = verified;
+		this.options = options;
+		this.messageCount = messageCount;
+		this.elementTasks = elementTasks;
+		this.elementId = elementId;
+		this.found = Objects.isNull(pool) ? null : new ConcurrentLinkedQueue<>();
+	}
+	
+	/**
+	 * @return options for the verification run
+	 */
+	VerificationOptions getOptions() {
+		return options;
+	}
+	
+	/**
+	 * @param verifiedIds set of verified IDs passed to a verification
+	 * @return the options for the verification or null if the set does not carry any options
+	 */
+	static @Nullable VerificationOptions optionsOf(Set<String> verifiedIds) {
+		if (verifiedIds instanceof VerifiedIdSet) {
+			return ((VerifiedIdSet)verifiedIds).options;
+		} else if (verifiedIds instanceof ElementVerifiedIds) {
+			return ((ElementVerifiedIds)verifiedIds).getOptions();
+		} else {
+			return null;
+		}
+	}
+	
+	/**
+	 * @return true if the maximum number of messages has been reached and the remaining verifications are skipped
+	 */
+	boolean isStopped() {
+		return options.isLimited() && messageCount.get() >= options.getMaxErrors();
+	}
+	
+	/**
+	 * Called before verifying a model object with this set
+	 * @return state to be passed to <code>endVerify</code>
+	 */
+	int startVerify() {
+		int retval = nestedCount;
+		nestedCount = 0;
+		return retval;
+	}
+	
+	/**
+	 * Called after verifying a model object with this set
+	 * @param outerNestedCount value returned by the matching <code>startVerify</code>
+	 * @param resultCount number of messages returned by the verification
+	 */
+	void endVerify(int outerNestedCount, int resultCount) {
+		messageCount.addAndGet(resultCount - nestedCount);
+		nestedCount = outerNestedCount + resultCount;
+	}
+	
+	/**
+	 * @return pool used to run the verification tasks or null if the verification is not parallel
+	 */
+	@Nullable ForkJoinPool getPool() {
+		return pool;
+	}
+	
+	/**
+	 * @return true if collections are verified in parallel
+	 */
+	boolean isParallel() {
+		return Objects.nonNull(pool);
+	}
+	
+	/**
+	 * @param verifiedElementId ID of the element to be verified with the set
+	 * @return a new set of the same parallel verification for verifying an element
+	 */
+	private VerifiedIdSet forElement(String verifiedElementId) {
+		return new VerifiedIdSet(pool, ConcurrentHashMap.newKeySet(), verified, options, messageCount, 
+				elementTasks, verifiedElementId);
+	}
+	
+	/**
+	 * In a parallel verification, the elements other than the one verified with this set are verified by their own task
+	 * @param modelObject model object to verify
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @return a placeholder for the messages of the model object if it is verified by its own task or null if the 
+	 * model object is verified with this set
+	 */
+	@Nullable List<String> deferred(ModelObjectV2 modelObject, String specVersion) {
+		String id = modelObject.getId();
+		if (Objects.isNull(elementTasks) || Objects.isNull(id) || 
+				!SpdxDocumentIndex.INDEXED_TYPES.contains(modelObject.getType()) ||
+				(id.equals(elementId) && !ids.contains(id))) {
+			return null;
+		}
+		if (!elementTasks.containsKey(id)) {
+			ElementTask task = new ElementTask(modelObject, forElement(id), specVersion);
+			if (Objects.isNull(elementTasks.putIfAbsent(id, task))) {
+				found.add(task);
+			}
+		}
+		return ElementVerifiedIds.placeholder(id);
+	}
+	
+	/**
+	 * Verify a model object whose verification does not verify any elements, re-using the messages
+	 * if the object has already been verified in this run
+	 * @param modelObject model object to verify
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @return the verification messages for the model object
+	 */
+	List<String> verifyOnce(ModelObjectV2 modelObject, String specVersion) {
+		if (Objects.isNull(modelObject.getObjectUri())) {
+			return modelObject._verify(this, specVersion);
+		}
+		VerificationKey key = new VerificationKey(modelObject.getModelStore(), modelObject.getObjectUri(), specVersion);
+		VerificationRecorder recorder = VerificationRecorder.current();
+		VerifiedMessages cached = verified.get(key);
+		if (Objects.nonNull(cached)) {
+			if (Objects.nonNull(recorder) && Objects.nonNull(cached.capture)) {
+				recorder.replay(cached.capture);
+			}
+			return new VerificationMessages(cached.messages);
+		}
+		// not computeIfAbsent - license sets recursively verify their members
+		int mark = Objects.isNull(recorder) ? 0 : recorder.startCapture();
+		List<String> retval = modelObject._verify(this, specVersion);
+		VerificationRecorder.Capture capture = Objects.isNull(recorder) ? null : recorder.endCapture(mark);
+		verified.putIfAbsent(key, new VerifiedMessages(retval.isEmpty() ? Collections.emptyList() :
+			new VerificationMessages(retval), capture));
+		return retval;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return ids.contains(o);
+	}
+
+	@Override
+	public boolean add(String id) {
+		return ids.add(id);
+	}
+
+	@Override
+	public Iterator<String> iterator() {
+		return Collections.unmodifiableSet(ids).iterator();
+	}
+
+	@Override
+	public int size() {
+		return ids.size();
+	}
+	
+	/**
+	 * Task verifying an element of a parallel verification followed by the elements it found first
+	 */
+	private static final class ElementTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final ModelObjectV2 element;
+		private final VerifiedIdSet verifiedIds;
+		private final String specVersion;
+		private List<String> messages = Collections.emptyList();
+		
+		ElementTask(ModelObjectV2 element, VerifiedIdSet verifiedIds, String specVersion) {
+			this.element = element;
+			this.verifiedIds = verifiedIds;
+			this.specVersion = specVersion;
+		}
+
+		@Override
+		protected void compute() {
+			messages = element.verify(verifiedIds, specVersion);
+			invokeAll(verifiedIds.found);
+		}
+	}
+	
+	/**
+	 * Task verifying a range of items with the set of the element being verified
+	 */
+	private static final class VerifyTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		private final List<? extends CoreModelObject> items;
+		private final String specVersion;
+		private final VerifiedIdSet verifiedIds;
+		private final List<List<String>> results;
+		private final int start;
+		private final int end;
+		
+		VerifyTask(List<? extends CoreModelObject> items, String specVersion, VerifiedIdSet verifiedIds,
+				List<List<String>> results, int start, int end) {
+			this.items = items;
+			this.specVersion = specVersion;
+			this.verifiedIds = verifiedIds;
+			this.results = results;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if (end - start == 1) {
+				results.set(start, items.get(start).verify(verifiedIds, specVersion));
+			} else {
+				int middle = (start + end) >>> 1;
+				invokeAll(new VerifyTask(items, specVersion, verifiedIds, results, start, middle),
+						new VerifyTask(items, specVersion, verifiedIds, results, middle, end));
+			}
+		}
+	}
+	
+	/**
+	 * Verify a model object, verifying each element it finds by its own fork join task
+	 * @param modelObject model object to verify
+	 * @param pool pool used to run the verification tasks
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @return the same verification messages, in the same order, as verifying the model object serially
+	 */
+	static List<String> verifyParallel(ModelObjectV2 modelObject, ForkJoinPool pool, String specVersion) {
+		Map<String, ElementTask> elementTasks = new ConcurrentHashMap<>();
+		VerifiedIdSet verifiedIds = new VerifiedIdSet(Objects.requireNonNull(pool, "Fork join pool can not be null"),
+				ConcurrentHashMap.newKeySet(), new ConcurrentHashMap<>(), new VerificationOptions(), new AtomicInteger(),
+				elementTasks, modelObject.getId());
+		ElementTask task = new ElementTask(modelObject, verifiedIds, specVersion);
+		pool.invoke(task);
+		return ElementVerifiedIds.expand(task.messages, new HashSet<>(verifiedIds.ids), id -> elementTasks.get(id).messages);
+	}
+	
+	/**
+	 * Verify each of the items, in parallel if <code>verifiedIds</code> is a parallel <code>VerifiedIdSet</code>
+	 * @param items items to verify
+	 * @param verifiedIds IDs of the elements already verified - updated with the IDs of the elements verified
+	 * @param specVersion version of the SPDX spec to verify against
+	 * @return the verification messages for each of the items in the same order as the items
+	 */
+	static List<List<String>> verifyAll(Collection<? extends CoreModelObject> items, Set<String> verifiedIds, String specVersion) {
+		boolean limited = verifiedIds instanceof VerifiedIdSet && ((VerifiedIdSet)verifiedIds).getOptions().isLimited();
+		if (limited && ((VerifiedIdSet)verifiedIds).isStopped()) {
+			return new ArrayList<>();
+		}
+		if (!(verifiedIds instanceof VerifiedIdSet) || !((VerifiedIdSet)verifiedIds).isParallel() || items.size() < 2) {
+			List<List<String>> retval = new ArrayList<>();
+			for (CoreModelObject item:items) {
+				if (limited && ((VerifiedIdSet)verifiedIds).isStopped()) {
+					break;
+				}
+				retval.add(item.verify(verifiedIds, specVersion));
+			}
+			return retval;
+		}
+		VerifiedIdSet elementSet = (VerifiedIdSet)verifiedIds;
+		List<? extends CoreModelObject> itemList = new ArrayList<>(items);
+		List<List<String>> retval = new ArrayList<>(Collections.nCopies(itemList.size(), Collections.<String>emptyList()));
+		VerifyTask task = new VerifyTask(itemList, specVersion, elementSet, retval, 0, itemList.size());
+		if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == elementSet.pool) {
+			task.invoke();
+		} else {
+			elementSet.pool.invoke(task);
+		}
+		return retval;
+	}
+}
@@ -70,6 +70,14 @@ public abstract class AnyLicenseInfo extends ModelObjectV2 {
 		super(modelStore, documentUri, id, copyManager, create);
 	}
 	
+	/**
+	 * Licenses only contain other licenses, so the same license reached from many elements is verified once
+	 */
+	@Override
+	protected boolean isVerificationShareable() {
+		return true;
+	}
+	
 	// force subclasses to implement toString
 	@Override
     public abstract String toString();
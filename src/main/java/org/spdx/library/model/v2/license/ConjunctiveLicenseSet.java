@@ -17,9 +17,9 @@
 package org.spdx.library.model.v2.license;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -95,40 +95,23 @@ public class ConjunctiveLicenseSet extends LicenseSet {
 	 * @throws SpdxInvalidTypeException 
 	 */
 	public List<AnyLicenseInfo> getFlattenedMembers() throws InvalidSPDXAnalysisException {
-		HashSet<AnyLicenseInfo> retval = new HashSet<>();	// Use a set since any duplicated elements would be still considered equal
-		Iterator<AnyLicenseInfo> iter = this.getMembers().iterator();
-		while (iter.hasNext()) {
-			AnyLicenseInfo li = iter.next();
-			if (li instanceof ConjunctiveLicenseSet) {
-				// we need to flatten this out
-				List<AnyLicenseInfo> members = ((ConjunctiveLicenseSet)li).getFlattenedMembers();
-				for (int i = 0; i < members.size(); i++) {
-					retval.add(members.get(i));
-				}
-			} else {
-				retval.add(li);
-			}
-		}
-		List<AnyLicenseInfo> retvallist = new ArrayList<>();
-		retvallist.addAll(retval);
-		return retvallist;
+		return new ArrayList<>(getCanonicalForm().getMembers());
+	}
+	
+	@Override
+	protected boolean isFlattenable(AnyLicenseInfo member) {
+		return member instanceof ConjunctiveLicenseSet;
 	}
 
 	@Override
 	public int hashCode() {
 		// We override equals and hashcode to take into account flattening of the license set
 		// Calculate a hashcode by XOR'ing all of the hashcodes of the license set
-		int retval = 41;	// Prime number
-		List<AnyLicenseInfo> allMembers;
 		try {
-			allMembers = this.getFlattenedMembers();
+			return 41 ^ getCanonicalForm().getHashCode();	// 41 is a prime number seed
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException("Error getting license set members",e);
 		}
-		for (AnyLicenseInfo licenseInfo:allMembers) {
-			retval = retval ^ licenseInfo.hashCode();
-		}
-		return retval;
 	}
 
 	/* (non-Javadoc)
@@ -145,27 +128,19 @@ public class ConjunctiveLicenseSet extends LicenseSet {
 			return false;
 		}
 		ConjunctiveLicenseSet comp = (ConjunctiveLicenseSet)o;
-		List<AnyLicenseInfo> compInfos;
+		CanonicalForm compForm;
+		CanonicalForm myForm;
 		try {
-			compInfos = comp.getFlattenedMembers();
-		} catch (InvalidSPDXAnalysisException e) {
-			throw new RuntimeException("Error getting compare license set members",e);
-		}
-		List<AnyLicenseInfo> myInfos;
-		try {
-			myInfos = this.getFlattenedMembers();
+			compForm = comp.getCanonicalForm();
+			myForm = this.getCanonicalForm();
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException("Error getting license set members",e);
 		}
-		if (compInfos.size() != myInfos.size()) {
+		if (compForm.getHashCode() != myForm.getHashCode() || 
+				compForm.getMemberSet().size() != myForm.getMemberSet().size()) {
 			return false;
 		}
-		for (AnyLicenseInfo myInfo:myInfos) {
-			if (!compInfos.contains(myInfo)) {
-				return false;
-			}
-		}
-		return true;
+		return compForm.getMemberSet().containsAll(myForm.getMemberSet());
 	}
 	
 	/* (non-Javadoc)
@@ -180,15 +155,15 @@ public class ConjunctiveLicenseSet extends LicenseSet {
 	}
 
 	protected boolean setsEquivalent(ConjunctiveLicenseSet compare) throws InvalidSPDXAnalysisException {
-		List<AnyLicenseInfo> compInfos;
+		Set<AnyLicenseInfo> compInfos;
 		try {
-			compInfos = compare.getFlattenedMembers();
+			compInfos = compare.getCanonicalForm().getMemberSet();
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException("Error getting compare license set members",e);
 		}
-		List<AnyLicenseInfo> myInfos;
+		Set<AnyLicenseInfo> myInfos;
 		try {
-			myInfos = this.getFlattenedMembers();
+			myInfos = this.getCanonicalForm().getMemberSet();
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException("Error getting license set members",e);
 		}
@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2.license;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,6 +24,7 @@ import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import org.spdx.library.model.v2.VerificationMessages;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v2.ModelObjectV2;
@@ -96,7 +96,7 @@ public class CrossRef extends ModelObjectV2 {
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		Optional<String> url;
 		try {
 			url = getStringPropertyValue(SpdxConstantsCompatV2.PROP_CROSS_REF_URL);
@@ -109,6 +109,11 @@ public class CrossRef extends ModelObjectV2 {
 		return retval;
 	}
 
+	@Override
+	protected boolean isVerificationShareable() {
+		return true;
+	}
+
 	/**
 	 * @return the match
 	 * @throws InvalidSPDXAnalysisException 
@@ -17,9 +17,9 @@
 package org.spdx.library.model.v2.license;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -88,17 +88,13 @@ public class DisjunctiveLicenseSet extends LicenseSet {
 	
 	@Override
 	public int hashCode() {
-		int retval = 41;	// Prime number
-		List<AnyLicenseInfo> allMembers;
+		// We override equals and hashcode to take into account flattening of the license set
+		// Calculate a hashcode by XOR'ing all of the hashcodes of the license set
 		try {
-			allMembers = this.getFlattenedMembers();
+			return 41 ^ getCanonicalForm().getHashCode();	// 41 is a prime number seed
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException(e);
 		}
-		for (AnyLicenseInfo member:allMembers) {
-			retval = retval ^ member.hashCode();
-		}
-		return retval;
 	}
 	
 	/* (non-Javadoc)
@@ -114,27 +110,19 @@ public class DisjunctiveLicenseSet extends LicenseSet {
 			return false;
 		}
 		DisjunctiveLicenseSet comp = (DisjunctiveLicenseSet)o;
-		List<AnyLicenseInfo> compInfos;
-		try {
-			compInfos = comp.getFlattenedMembers();
-		} catch (InvalidSPDXAnalysisException e) {
-			throw new RuntimeException(e);
-		}
-		List<AnyLicenseInfo> myInfos;
+		CanonicalForm compForm;
+		CanonicalForm myForm;
 		try {
-			myInfos = this.getFlattenedMembers();
+			compForm = comp.getCanonicalForm();
+			myForm = this.getCanonicalForm();
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException(e);
 		}
-		if (compInfos.size() != myInfos.size()) {
+		if (compForm.getHashCode() != myForm.getHashCode() || 
+				compForm.getMemberSet().size() != myForm.getMemberSet().size()) {
 			return false;
 		}
-		for (AnyLicenseInfo myInfo:myInfos) {
-			if (!compInfos.contains(myInfo)) {
-				return false;
-			}
-		}
-		return true;
+		return compForm.getMemberSet().containsAll(myForm.getMemberSet());
 	}
 	
 	/**
@@ -145,20 +133,12 @@ public class DisjunctiveLicenseSet extends LicenseSet {
 	 * @throws SpdxInvalidTypeException 
 	 */
 	protected List<AnyLicenseInfo> getFlattenedMembers() throws InvalidSPDXAnalysisException {
-		HashSet<AnyLicenseInfo> retval = new HashSet<>();	// Use a set since any duplicated elements would be still considered equal
-		Iterator<AnyLicenseInfo> iter = this.getMembers().iterator();
-		while (iter.hasNext()) {
-			AnyLicenseInfo li = iter.next();
-			if (li instanceof DisjunctiveLicenseSet) {
-				// we need to flatten this out
-				retval.addAll(((DisjunctiveLicenseSet)li).getFlattenedMembers());
-			} else {
-				retval.add(li);
-			}
-		}
-		ArrayList<AnyLicenseInfo> retvallist = new ArrayList<>();
-		retvallist.addAll(retval);
-		return retvallist;
+		return new ArrayList<>(getCanonicalForm().getMembers());
+	}
+	
+	@Override
+	protected boolean isFlattenable(AnyLicenseInfo member) {
+		return member instanceof DisjunctiveLicenseSet;
 	}
 
 	/* (non-Javadoc)
@@ -173,15 +153,15 @@ public class DisjunctiveLicenseSet extends LicenseSet {
 	}
 
 	private boolean setsEquivalent(DisjunctiveLicenseSet compare) throws InvalidSPDXAnalysisException {
-		List<AnyLicenseInfo> compInfos;
+		Set<AnyLicenseInfo> compInfos;
 		try {
-			compInfos = compare.getFlattenedMembers();
+			compInfos = compare.getCanonicalForm().getMemberSet();
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException("Error getting compare license set members",e);
 		}
-		List<AnyLicenseInfo> myInfos;
+		Set<AnyLicenseInfo> myInfos;
 		try {
-			myInfos = this.getFlattenedMembers();
+			myInfos = this.getCanonicalForm().getMemberSet();
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException("Error getting license set members",e);
 		}
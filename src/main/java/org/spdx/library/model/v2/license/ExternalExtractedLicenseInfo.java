@@ -38,6 +38,7 @@ import org.spdx.library.model.v2.ExternalDocumentRef;
 import org.spdx.library.model.v2.ExternalSpdxElement;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.VerificationMessages;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
 
@@ -167,7 +168,7 @@ public class ExternalExtractedLicenseInfo extends AbstractExtractedLicenseInfo i
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
 		// we don't want to call super.verify since we really don't require those fields
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		Matcher matcher = SpdxConstantsCompatV2.EXTERNAL_EXTRACTED_LICENSE_URI_PATTERN.matcher(getObjectUri());
 		if (!matcher.matches()) {				
 			retval.add("Invalid objectUri format for an external document reference.  Must be of the form "+SpdxConstantsCompatV2.EXTERNAL_EXTRACTED_LICENSE_URI_PATTERN.pattern());
@@ -18,7 +18,6 @@
 */
 package org.spdx.library.model.v2.license;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -31,6 +30,8 @@ import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxVerificationHelper;
+import org.spdx.library.model.v2.VerificationMessages;
+import org.spdx.library.model.v2.VerificationRule;
 import org.spdx.licenseTemplate.LicenseTextHelper;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
@@ -118,14 +119,14 @@ public class ExtractedLicenseInfo extends AbstractExtractedLicenseInfo {
 	 */
 	@Override
     protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		VerificationMessages retval = new VerificationMessages();
 		String id = this.getLicenseId();
 		if (id == null || id.isEmpty()) {
 			retval.add("Missing required license ID");
 		} else {
 			String idError = SpdxVerificationHelper.verifyNonStdLicenseid(id);
 			if (idError != null && !idError.isEmpty()) {
-				retval.add(idError);
+				retval.add(VerificationRule.NON_STD_LICENSE_ID, idError);
 			}
 		}
 		try {
@@ -16,7 +16,6 @@
 */
 package org.spdx.library.model.v2.license;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +23,7 @@ import java.util.Set;
 import javax.annotation.Nullable;
 
 import org.apache.commons.lang3.StringEscapeUtils;
+import org.spdx.library.model.v2.VerificationMessages;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
@@ -180,7 +180,7 @@ public abstract class License extends SimpleLicensingInfo {
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		String id = this.getLicenseId();
 		if (id == null || id.isEmpty()) {
 			retval.add("Missing required license ID");
@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2.license;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +24,7 @@ import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import org.spdx.library.model.v2.VerificationMessages;
 import org.spdx.core.DefaultModelStore;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.IndividualUriValue;
@@ -273,7 +273,7 @@ public abstract class LicenseException extends ModelObjectV2 {
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		String id = this.getLicenseExceptionId();
 		if (id == null || id.isEmpty()) {
 			retval.add("Missing required exception ID");
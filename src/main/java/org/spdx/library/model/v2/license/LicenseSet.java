@@ -16,6 +16,7 @@
 */
 package org.spdx.library.model.v2.license;
 
+import org.spdx.library.model.v2.VerificationMessages;
 import org.spdx.core.DefaultModelStore;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
@@ -25,7 +26,10 @@ import org.spdx.storage.IModelStore.IdType;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -44,6 +48,59 @@ public abstract class LicenseSet extends AnyLicenseInfo {
 	
 	Collection<AnyLicenseInfo> members;
 	
+	/**
+	 * Flattened members of a license set sorted by their string representation along with
+	 * the hash code computed from the members
+	 */
+	protected static class CanonicalForm {
+		private final List<AnyLicenseInfo> members;
+		private final Set<AnyLicenseInfo> memberSet;
+		private final int hashCode;
+		/**
+		 * Number of changes recorded in the model store before the members were read
+		 */
+		private final long storeModificationCount;
+		
+		CanonicalForm(Set<AnyLicenseInfo> flattenedMembers, long storeModificationCount) {
+			this.storeModificationCount = storeModificationCount;
+			List<AnyLicenseInfo> sorted = new ArrayList<>(flattenedMembers);
+			sorted.sort(Comparator.comparing(AnyLicenseInfo::toString));
+			this.members = Collections.unmodifiableList(sorted);
+			this.memberSet = Collections.unmodifiableSet(flattenedMembers);
+			int hash = 0;
+			for (AnyLicenseInfo member:flattenedMembers) {
+				hash = hash ^ member.hashCode();
+			}
+			this.hashCode = hash;
+		}
+
+		/**
+		 * @return the flattened members sorted by their string representation
+		 */
+		public List<AnyLicenseInfo> getMembers() {
+			return members;
+		}
+
+		/**
+		 * @return the flattened members as a set
+		 */
+		public Set<AnyLicenseInfo> getMemberSet() {
+			return memberSet;
+		}
+
+		/**
+		 * @return XOR of the hash codes of the flattened members
+		 */
+		public int getHashCode() {
+			return hashCode;
+		}
+	}
+	
+	/**
+	 * Cached canonical form - only valid while no change is recorded for a model object in the model store,
+	 * since the members, nested license sets and other instances for this set can all be modified
+	 */
+	private volatile CanonicalForm canonicalForm = null;
 	
 	/**
 	 * @throws InvalidSPDXAnalysisException
@@ -108,10 +165,44 @@ public abstract class LicenseSet extends AnyLicenseInfo {
 		Objects.requireNonNull(member, "Member can not be null");
 		members.remove(member);
 	}
+	
+	@Override
+	protected void markChanged() {
+		super.markChanged();
+		canonicalForm = null;
+	}
+	
+	/**
+	 * @param member member of this license set
+	 * @return true if the members of <code>member</code> can be treated as direct members of this set
+	 */
+	protected abstract boolean isFlattenable(AnyLicenseInfo member);
+	
+	/**
+	 * @return the canonical form of this set, computing it if it is not already cached
+	 * @throws InvalidSPDXAnalysisException on errors reading the members
+	 */
+	protected CanonicalForm getCanonicalForm() throws InvalidSPDXAnalysisException {
+		CanonicalForm retval = canonicalForm;
+		long storeModificationCount = getStoreModificationCount();
+		if (Objects.isNull(retval) || retval.storeModificationCount != storeModificationCount) {
+			Set<AnyLicenseInfo> flattened = new LinkedHashSet<>();	// Use a set since any duplicated elements would be still considered equal
+			for (AnyLicenseInfo member:getMembers()) {
+				if (isFlattenable(member)) {
+					flattened.addAll(((LicenseSet)member).getCanonicalForm().getMemberSet());
+				} else {
+					flattened.add(member);
+				}
+			}
+			retval = new CanonicalForm(flattened, storeModificationCount);
+			canonicalForm = retval;
+		}
+		return retval;
+	}
 
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		Iterator<AnyLicenseInfo> iter;
 		try {
 			iter = getMembers().iterator();
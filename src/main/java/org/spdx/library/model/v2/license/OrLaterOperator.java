@@ -16,7 +16,6 @@
 */
 package org.spdx.library.model.v2.license;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,6 +23,7 @@ import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import org.spdx.library.model.v2.VerificationMessages;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.core.SpdxInvalidTypeException;
@@ -107,7 +107,7 @@ public class OrLaterOperator extends AnyLicenseInfo {
 
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		SimpleLicensingInfo license;
 		try {
 			license = getLicense();
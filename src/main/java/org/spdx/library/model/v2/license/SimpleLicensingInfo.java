@@ -46,9 +46,7 @@ public abstract class SimpleLicensingInfo extends AnyLicenseInfo {
 	 */
 	SimpleLicensingInfo(String id) throws InvalidSPDXAnalysisException {
 		super(id);
-        if (!(this instanceof IndividualUriValue)) {
-            setPropertyValue(SpdxConstantsCompatV2.PROP_LICENSE_ID, id);  // Needs to be set as a property per spec
-        }
+		setLicenseIdProperty(id);
 	}
 
 	/**
@@ -64,8 +62,19 @@ public abstract class SimpleLicensingInfo extends AnyLicenseInfo {
 			@Nullable IModelCopyManager copyManager, boolean create)
 			throws InvalidSPDXAnalysisException {
 		super(modelStore, documentUri, id, copyManager, create);
-		if (!(this instanceof IndividualUriValue)) {
-		    setPropertyValue(SpdxConstantsCompatV2.PROP_LICENSE_ID, id);  // Needs to be set as a property per spec
+		setLicenseIdProperty(id);
+	}
+
+	/**
+	 * Set the license ID as a property unless it is already stored - the license is typically opened
+	 * many times, so this avoids rewriting the same value and recording a change each time
+	 * @param id license ID
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void setLicenseIdProperty(String id) throws InvalidSPDXAnalysisException {
+		if (!(this instanceof IndividualUriValue) &&
+				!Optional.of(id).equals(getStringPropertyValue(SpdxConstantsCompatV2.PROP_LICENSE_ID))) {
+			setPropertyValue(SpdxConstantsCompatV2.PROP_LICENSE_ID, id);  // Needs to be set as a property per spec
 		}
 	}
 	
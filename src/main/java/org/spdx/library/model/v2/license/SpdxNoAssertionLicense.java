@@ -18,6 +18,7 @@ package org.spdx.library.model.v2.license;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.spdx.core.IndividualUriValue;
@@ -36,6 +37,8 @@ import org.spdx.storage.IModelStore.IdType;
 public class SpdxNoAssertionLicense extends AnyLicenseInfo implements IndividualUriValue {
 	
 	static final String NOASSERTION_LICENSE_ID = "NOASSERTION_LICENSE_ID";
+
+	private static volatile SpdxNoAssertionLicense instance = null;
 	
 	/**
 	 * Create a new No Assertion license with the default store and default document URI
@@ -50,6 +53,20 @@ public class SpdxNoAssertionLicense extends AnyLicenseInfo implements Individual
 		super(modelStore, documentUri, modelStore.getNextId(IdType.Anonymous), null, true);
 	}
 	
+	/**
+	 * @return shared NOASSERTION license held in a NullModelStore - see <code>SpdxNoneLicense.getInstance()</code>
+	 * for the getters returning NOASSERTION when no value is stored
+	 * @throws InvalidSPDXAnalysisException on errors creating the instance
+	 */
+	public static SpdxNoAssertionLicense getInstance() throws InvalidSPDXAnalysisException {
+		SpdxNoAssertionLicense retval = instance;
+		if (Objects.isNull(retval)) {
+			retval = new SpdxNoAssertionLicense();
+			instance = retval;
+		}
+		return retval;
+	}
+	
 	@Override
 	public boolean isExternal() {
 		return true;
@@ -18,6 +18,7 @@ package org.spdx.library.model.v2.license;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.spdx.core.IndividualUriValue;
@@ -36,6 +37,8 @@ import org.spdx.storage.IModelStore.IdType;
 public class SpdxNoneLicense extends AnyLicenseInfo implements IndividualUriValue {
 	
 	static final String NONE_LICENSE_NAME = "SPDX_NONE_LICENSE";
+
+	private static volatile SpdxNoneLicense instance = null;
 	
 	/**
 	 * Create a new NoneLicense with the default store and default document URI
@@ -50,6 +53,23 @@ public class SpdxNoneLicense extends AnyLicenseInfo implements IndividualUriValu
 		super(modelStore, documentUri, modelStore.getNextId(IdType.Anonymous), null, true);
 	}
 	
+	/**
+	 * The NONE license has no properties, so a single instance held in a NullModelStore
+	 * can be returned for every NONE license property value.  A getter returning NONE when no
+	 * value is stored, such as <code>SpdxDocument.getDataLicense()</code>, returns a NONE license
+	 * in the model store and document of the object instead
+	 * @return shared NONE license
+	 * @throws InvalidSPDXAnalysisException on errors creating the instance
+	 */
+	public static SpdxNoneLicense getInstance() throws InvalidSPDXAnalysisException {
+		SpdxNoneLicense retval = instance;
+		if (Objects.isNull(retval)) {
+			retval = new SpdxNoneLicense();	// concurrent callers may create equal instances which is harmless
+			instance = retval;
+		}
+		return retval;
+	}
+	
 	@Override
 	public boolean isExternal() {
 		return true;
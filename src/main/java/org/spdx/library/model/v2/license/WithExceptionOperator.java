@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2.license;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,6 +24,7 @@ import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import org.spdx.library.model.v2.VerificationMessages;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.core.SpdxInvalidTypeException;
@@ -144,7 +144,7 @@ public class WithExceptionOperator extends AnyLicenseInfo {
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		List<String> retval = new ArrayList<>();
+		List<String> retval = new VerificationMessages();
 		try {
 			Optional<Object> license = getObjectPropertyValue(SpdxConstantsCompatV2.PROP_LICENSE_SET_MEMEBER);
 			if (license.isPresent()) {
@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2.pointer;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,6 +24,7 @@ import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import org.spdx.library.model.v2.VerificationMessages;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.core.SpdxInvalidTypeException;
@@ -103,7 +103,7 @@ public abstract class CompoundPointer extends ModelObjectV2 {
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		ArrayList<String> retval = new ArrayList<String>();
+		List<String> retval = new VerificationMessages();
 		try {
 			SinglePointer startPointer = getStartPointer();
 			if (startPointer == null) {
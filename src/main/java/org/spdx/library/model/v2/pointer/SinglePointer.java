@@ -17,7 +17,6 @@
  */
 package org.spdx.library.model.v2.pointer;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -33,6 +32,7 @@ import org.spdx.core.SpdxInvalidTypeException;
 import org.spdx.library.model.v2.ModelObjectV2;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxElement;
+import org.spdx.library.model.v2.VerificationMessages;
 import org.spdx.storage.IModelStore;
 
 /**
@@ -107,7 +107,7 @@ public abstract class SinglePointer extends ModelObjectV2 implements Comparable<
 	 */
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
-		ArrayList<String> retval = new ArrayList<String>();
+		List<String> retval = new VerificationMessages();
 		SpdxElement reference;
 		try {
 			reference = getReference();
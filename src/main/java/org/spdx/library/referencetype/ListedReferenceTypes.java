@@ -21,9 +21,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -50,9 +53,13 @@ public class ListedReferenceTypes {
 	private static final String LISTED_REFERENCE_TYPE_PROPERTIES_FILENAME = LISTED_REFERENCE_TYPE__RDF_LOCAL_DIR + "/" + "listedreferencetypes.properties";
 	private static final String LISTED_REFERENCE_TYPE_PROPERTIES_CLASS_PATH = "org/spdx/library/referencetype/listedreferencetypes.properties";
 	private static final String PROPERTY_LISTED_REFERENCE_TYPES = "listedReferenceTypes";
-	private static ListedReferenceTypes listedReferenceTypes;
+	private static volatile ListedReferenceTypes listedReferenceTypes;
 	private Properties listedReferenceTypeProperties;
-	List<String> listedReferenceNames = new ArrayList<String>();
+	/**
+	 * Map of the full listed reference type URI to the listed reference type name
+	 */
+	private Map<String, String> listedReferenceUriToName = Collections.emptyMap();
+	Set<String> listedReferenceNames = Collections.emptySet();
 	ConcurrentMap<String, ReferenceType> listedReferenceTypeCache = new ConcurrentHashMap<>();
 	
 	private ListedReferenceTypes() {
@@ -100,9 +107,13 @@ public class ListedReferenceTypes {
 		try {
 			String referenceTypeNamesStr = this.listedReferenceTypeProperties.getProperty(PROPERTY_LISTED_REFERENCE_TYPES);
 			String[] referenceTypeNamesAr = referenceTypeNamesStr.split(",", -1);
+			Map<String, String> uriToName = new HashMap<>();
 			for (String name:referenceTypeNamesAr) {
-				this.listedReferenceNames.add(name.trim());
+				String trimmedName = name.trim();
+				uriToName.put(SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + trimmedName, trimmedName);
 			}
+			this.listedReferenceUriToName = Collections.unmodifiableMap(uriToName);
+			this.listedReferenceNames = Collections.unmodifiableSet(new HashSet<>(uriToName.values()));
 		} finally {
 			listedReferenceTypesModificationLock.readLock().unlock();
 		}
@@ -112,6 +123,10 @@ public class ListedReferenceTypes {
 	 * @return the listed reference types as maintained by the SPDX workgroup
 	 */
 	public static ListedReferenceTypes getListedReferenceTypes() {
+		ListedReferenceTypes retval = listedReferenceTypes;
+		if (retval != null) {
+			return retval;	// no locking once initialized
+		}
     	listedReferenceTypesModificationLock.writeLock().lock();
         try {
             if (listedReferenceTypes == null) {
@@ -145,12 +160,16 @@ public class ListedReferenceTypes {
      * @return
      */
     public boolean isListedReferenceType(URI uri) {
-    	if (uri.toString().startsWith(SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX)) {
-    		String referenceTypeName = uri.toString().substring(SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX.length());
-    		return this.listedReferenceNames.contains(referenceTypeName);
-    	} else {
-    		return false;
-    	}
+    	return isListedReferenceType(uri.toString());
+    }
+    
+    /**
+     * Returns true if the URI string references a valid SPDX listed reference type
+     * @param uri string form of the URI
+     * @return true if the URI is a listed reference type URI
+     */
+    public boolean isListedReferenceType(String uri) {
+    	return this.listedReferenceUriToName.containsKey(uri);
     }
     
     /**
@@ -193,10 +212,11 @@ public class ListedReferenceTypes {
      * @throws InvalidSPDXAnalysisException
      */
     public String getListedReferenceName(URI uri) throws InvalidSPDXAnalysisException {
-    	if (!this.isListedReferenceType(uri)) {
+    	String retval = this.listedReferenceUriToName.get(uri.toString());
+    	if (Objects.isNull(retval)) {
     		throw new InvalidSPDXAnalysisException(uri.toString() + " is not a valid URI for an SPDX listed reference type.");
     	}
-    	return uri.toString().substring(SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX.length());
+    	return retval;
     }
     
     //TODO: Implement accessing the SPDX reference type pages directly similar to the SpdxListedLicenses class
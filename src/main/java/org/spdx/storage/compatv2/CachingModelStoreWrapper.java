@@ -0,0 +1,247 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.storage.compatv2;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.PropertyDescriptor;
+
+/**
+ * Compatible model store wrapper which caches the results of <code>getValue</code>
+ *
+ * Values are cached per object URI and property descriptor in a size bounded cache which evicts the
+ * least recently used entry.  An entry is invalidated by any <code>setValue</code>, <code>removeProperty</code>
+ * or collection update for the same object URI and property made through this wrapper, and the whole
+ * cache is cleared when an object is deleted.  Updates made directly to the base store are not seen -
+ * use <code>invalidateAll</code> after making such updates.
+ *
+ * The cache is intended for base stores where reading a property is expensive (e.g. stores backed by
+ * an RDF model or a database).  A cache hit costs a lock and a key allocation, which is more than a
+ * read from a hash map based in-memory store.
+ *
+ * @author Gary O'Neall
+ */
+public class CachingModelStoreWrapper extends CompatibleModelStoreWrapper {
+
+	public static final int DEFAULT_MAX_ENTRIES = 65536;
+
+	/**
+	 * Cache key for a property of an object
+	 */
+	private static final class PropertyKey {
+		final String objectUri;
+		final PropertyDescriptor propertyDescriptor;
+		final int hash;
+
+		PropertyKey(String objectUri, PropertyDescriptor propertyDescriptor) {
+			this.objectUri = objectUri;
+			this.propertyDescriptor = propertyDescriptor;
+			this.hash = 31 * objectUri.hashCode() + propertyDescriptor.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object comp) {
+			if (this == comp) {
+				return true;
+			}
+			if (!(comp instanceof PropertyKey)) {
+				return false;
+			}
+			PropertyKey compKey = (PropertyKey)comp;
+			return hash == compKey.hash && objectUri.equals(compKey.objectUri) &&
+					propertyDescriptor.equals(compKey.propertyDescriptor);
+		}
+	}
+
+	private final Map<PropertyKey, Optional<Object>> cache;
+
+	/**
+	 * Incremented on every invalidation so that a value read from the base store concurrently with an
+	 * update is not cached
+	 */
+	private long invalidationCount = 0;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * @param baseStore store to wrap
+	 */
+	public CachingModelStoreWrapper(IModelStore baseStore) {
+		this(baseStore, DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * @param baseStore store to wrap
+	 * @param maxEntries maximum number of property values cached
+	 */
+	@SuppressWarnings("serial")
+	public CachingModelStoreWrapper(IModelStore baseStore, int maxEntries) {
+		super(baseStore);
+		if (maxEntries < 1) {
+			throw new IllegalArgumentException("Maximum number of entries must be at least 1");
+		}
+		this.cache = new LinkedHashMap<PropertyKey, Optional<Object>>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<PropertyKey, Optional<Object>> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	@Override
+	public Optional<Object> getValue(String objectUri,
+			PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		PropertyKey key = new PropertyKey(objectUri, propertyDescriptor);
+		long invalidations;
+		synchronized (cache) {
+			Optional<Object> cached = cache.get(key);
+			if (Objects.nonNull(cached)) {
+				hitCount.incrementAndGet();
+				return cached;
+			}
+			invalidations = invalidationCount;
+		}
+		missCount.incrementAndGet();
+		Optional<Object> retval = super.getValue(objectUri, propertyDescriptor);
+		synchronized (cache) {
+			if (invalidations == invalidationCount) {
+				cache.put(key, retval);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Remove any cached value for the property
+	 * @param objectUri object URI
+	 * @param propertyDescriptor property descriptor
+	 */
+	private void invalidate(String objectUri, PropertyDescriptor propertyDescriptor) {
+		PropertyKey key = new PropertyKey(objectUri, propertyDescriptor);
+		synchronized (cache) {
+			invalidationCount++;
+			cache.remove(key);
+		}
+	}
+
+	/**
+	 * Remove all cached values
+	 */
+	public void invalidateAll() {
+		synchronized (cache) {
+			invalidationCount++;
+			cache.clear();
+		}
+	}
+
+	@Override
+	public void setValue(String objectUri,
+			PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		try {
+			super.setValue(objectUri, propertyDescriptor, value);
+		} finally {
+			invalidate(objectUri, propertyDescriptor);
+		}
+	}
+
+	@Override
+	public void removeProperty(String objectUri,
+			PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		try {
+			super.removeProperty(objectUri, propertyDescriptor);
+		} finally {
+			invalidate(objectUri, propertyDescriptor);
+		}
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String objectUri,
+			PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		try {
+			return super.removeValueFromCollection(objectUri, propertyDescriptor, value);
+		} finally {
+			invalidate(objectUri, propertyDescriptor);
+		}
+	}
+
+	@Override
+	public void clearValueCollection(String objectUri,
+			PropertyDescriptor propertyDescriptor)
+			throws InvalidSPDXAnalysisException {
+		try {
+			super.clearValueCollection(objectUri, propertyDescriptor);
+		} finally {
+			invalidate(objectUri, propertyDescriptor);
+		}
+	}
+
+	@Override
+	public boolean addValueToCollection(String objectUri,
+			PropertyDescriptor propertyDescriptor, Object value)
+			throws InvalidSPDXAnalysisException {
+		try {
+			return super.addValueToCollection(objectUri, propertyDescriptor, value);
+		} finally {
+			invalidate(objectUri, propertyDescriptor);
+		}
+	}
+
+	@Override
+	public void delete(String objectUri)
+			throws InvalidSPDXAnalysisException {
+		try {
+			super.delete(objectUri);
+		} finally {
+			invalidateAll();
+		}
+	}
+
+	/**
+	 * @return number of <code>getValue</code> calls answered from the cache
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * @return number of <code>getValue</code> calls read from the base store
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return number of property values currently cached
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Reset the hit and miss counts to zero
+	 */
+	public void resetStatistics() {
+		hitCount.set(0);
+		missCount.set(0);
+	}
+}
@@ -17,6 +17,8 @@
  */
 package org.spdx.storage.compatv2;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -35,6 +38,7 @@ import org.spdx.core.SpdxCoreConstants;
 import org.spdx.core.SpdxInvalidIdException;
 import org.spdx.core.SpdxInvalidTypeException;
 import org.spdx.core.TypedValue;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.PropertyDescriptor;
 
@@ -87,6 +91,67 @@ public class CompatibleModelStoreWrapper implements IModelStore {
 		PROP_NAME_TO_NON_SPDX_NS = Collections.unmodifiableMap(nameToNS);
 	}
 	
+	/**
+	 * Property descriptor shared between callers of <code>propNameToPropDescriptor</code> which can not be modified
+	 */
+	static final class SharedPropertyDescriptor extends PropertyDescriptor {
+
+		SharedPropertyDescriptor(String name, String nameSpace) {
+			super(name, nameSpace);
+		}
+
+		@Override
+		public void setName(String name) {
+			throw new UnsupportedOperationException("Shared property descriptors can not be modified");
+		}
+
+		@Override
+		public void setNameSpace(String nameSpace) {
+			throw new UnsupportedOperationException("Shared property descriptors can not be modified");
+		}
+	}
+	
+	/**
+	 * Shared property descriptors for all property names declared in <code>SpdxConstantsCompatV2</code>
+	 */
+	static final Map<String, PropertyDescriptor> PROP_NAME_TO_DESCRIPTOR;
+	
+	static {
+		Map<String, PropertyDescriptor> nameToDescriptor = new HashMap<>();
+		for (Field field:SpdxConstantsCompatV2.class.getFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) || !PropertyDescriptor.class.equals(field.getType())) {
+				continue;
+			}
+			PropertyDescriptor declared;
+			try {
+				declared = (PropertyDescriptor)field.get(null);
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException("Unable to access property descriptor "+field.getName(), e);
+			}
+			String nameSpace = PROP_NAME_TO_NON_SPDX_NS.getOrDefault(declared.getName(), SPDX_NAMESPACE);
+			nameToDescriptor.putIfAbsent(declared.getName(), new SharedPropertyDescriptor(declared.getName(), nameSpace));
+		}
+		PROP_NAME_TO_DESCRIPTOR = Collections.unmodifiableMap(nameToDescriptor);
+	}
+	
+	/**
+	 * Property descriptors created for property names not declared in <code>SpdxConstantsCompatV2</code>
+	 */
+	static final Map<String, PropertyDescriptor> UNDECLARED_PROP_NAME_TO_DESCRIPTOR = new ConcurrentHashMap<>();
+
+	static final int MAX_CACHED_DOCUMENT_URIS = 256;
+	static final int MAX_CACHED_IDS_PER_DOCUMENT_URI = 65536;
+	
+	/**
+	 * Cache of document URI and ID to object URI for non-anonymous IDs
+	 */
+	static final UriConversionCache OBJECT_URI_CACHE = new UriConversionCache(MAX_CACHED_DOCUMENT_URIS, MAX_CACHED_IDS_PER_DOCUMENT_URI);
+	
+	/**
+	 * Cache of document URI and object URI to ID for non-anonymous object URIs
+	 */
+	static final UriConversionCache ID_CACHE = new UriConversionCache(MAX_CACHED_DOCUMENT_URIS, MAX_CACHED_IDS_PER_DOCUMENT_URI);
+	
 	private IModelStore baseStore;
 	
 	public CompatibleModelStoreWrapper(IModelStore baseStore) {
@@ -94,9 +159,22 @@ public class CompatibleModelStoreWrapper implements IModelStore {
 		this.baseStore = baseStore;
 	}
 	
+	/**
+	 * @param propName SPDX 2 property name
+	 * @return a property descriptor for the property name - the descriptor is shared by all callers for the
+	 * same property name and its <code>setName</code> and <code>setNameSpace</code> methods throw
+	 * <code>UnsupportedOperationException</code>
+	 */
 	public static PropertyDescriptor propNameToPropDescriptor(String propName) {
-		return new PropertyDescriptor(propName, 
-				PROP_NAME_TO_NON_SPDX_NS.getOrDefault(propName, SPDX_NAMESPACE));
+		if (Objects.isNull(propName)) {
+			return new PropertyDescriptor(propName, SPDX_NAMESPACE);
+		}
+		PropertyDescriptor retval = PROP_NAME_TO_DESCRIPTOR.get(propName);
+		if (Objects.isNull(retval)) {
+			retval = UNDECLARED_PROP_NAME_TO_DESCRIPTOR.computeIfAbsent(propName, name -> 
+					new SharedPropertyDescriptor(name, PROP_NAME_TO_NON_SPDX_NS.getOrDefault(name, SPDX_NAMESPACE)));
+		}
+		return retval;
 	}
 
 	@Override
@@ -138,7 +216,17 @@ public class CompatibleModelStoreWrapper implements IModelStore {
 	 * @return a URI based on the document URI and ID - if anonymous is true, the ID is returned
 	 */
 	public static String documentUriIdToUri(String documentUri, String id, boolean anonymous) {
-		return anonymous ? id : documentUriToNamespace(documentUri) + id;
+		if (anonymous) {
+			return id;
+		}
+		if (Objects.isNull(documentUri) || Objects.isNull(id)) {
+			return documentUriToNamespace(documentUri) + id;
+		}
+		String objectUri = OBJECT_URI_CACHE.get(documentUri, id);
+		if (Objects.isNull(objectUri)) {
+			objectUri = OBJECT_URI_CACHE.put(documentUri, id, documentUriToNamespace(documentUri) + id);
+		}
+		return objectUri;
 	}
 	
 	/**
@@ -194,6 +282,23 @@ public class CompatibleModelStoreWrapper implements IModelStore {
 		if (anon) {
 			return objectUri;
 		}
+		if (Objects.isNull(documentUri)) {
+			return nonAnonObjectUriToId(objectUri, documentUri);
+		}
+		String id = ID_CACHE.get(documentUri, objectUri);
+		if (Objects.isNull(id)) {
+			id = ID_CACHE.put(documentUri, objectUri, nonAnonObjectUriToId(objectUri, documentUri));
+		}
+		return id;
+	}
+	
+	/**
+	 * @param objectUri Object URI for a non-anonymous object
+	 * @param documentUri SPDX 2 document URI for the ID
+	 * @return the SPDX 2 compatible ID
+	 * @throws InvalidSPDXAnalysisException if the object URI is not within the document URI namespace
+	 */
+	private static String nonAnonObjectUriToId(String objectUri, String documentUri) throws InvalidSPDXAnalysisException {
 		if (objectUri.startsWith(SpdxCoreConstants.LISTED_LICENSE_URL)) {
 			return objectUri.substring(SpdxCoreConstants.LISTED_LICENSE_URL.length());
 		}
@@ -0,0 +1,141 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.storage.compatv2;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded concurrent cache for the conversions between SPDX 2 document URI / ID pairs and object URIs
+ *
+ * Entries are grouped by document URI so that a lookup does not need to allocate a composite key.
+ * The cached value is the single instance returned for all lookups of the same key.
+ * When the number of document URIs or the number of entries for a document URI exceeds the limit,
+ * a single entry is evicted using the clock (second chance) algorithm: entries are evicted in the
+ * order they were added, except that an entry looked up since the clock last passed it is kept for
+ * another round.  Frequently converted IDs therefore stay cached while a document is larger than the limit.
+ *
+ * @author Gary O'Neall
+ */
+class UriConversionCache {
+
+	/**
+	 * Concurrent map bounded by clock eviction
+	 */
+	private static final class ClockMap<V> {
+
+		private static final class Entry<V> {
+			final V value;
+			volatile boolean referenced = false;
+
+			Entry(V value) {
+				this.value = value;
+			}
+		}
+
+		private final int maxSize;
+		private final ConcurrentHashMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+		/**
+		 * Keys in the order the clock visits them
+		 */
+		private final Queue<String> clock = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+
+		ClockMap(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		V get(String key) {
+			Entry<V> entry = entries.get(key);
+			if (Objects.isNull(entry)) {
+				return null;
+			}
+			if (!entry.referenced) {
+				entry.referenced = true;
+			}
+			return entry.value;
+		}
+
+		/**
+		 * @return the value for the key - the existing value if the key is already in the map
+		 */
+		V putIfAbsent(String key, V value) {
+			Entry<V> entry = new Entry<>(value);
+			Entry<V> existing = entries.putIfAbsent(key, entry);
+			if (Objects.nonNull(existing)) {
+				return existing.value;
+			}
+			clock.offer(key);
+			if (size.incrementAndGet() > maxSize) {
+				evict();
+			}
+			return value;
+		}
+
+		/**
+		 * Evict the first entry passed by the clock which has not been referenced since the clock last passed it
+		 */
+		private void evict() {
+			// after a full round every entry has been given its second chance
+			for (int visited = 0; ; visited++) {
+				String key = clock.poll();
+				if (Objects.isNull(key)) {
+					return;
+				}
+				Entry<V> entry = entries.get(key);
+				if (Objects.isNull(entry)) {
+					continue;
+				}
+				if (entry.referenced && visited < maxSize) {
+					entry.referenced = false;
+					clock.offer(key);
+				} else {
+					entries.remove(key);
+					size.decrementAndGet();
+					return;
+				}
+			}
+		}
+	}
+
+	private final int maxEntriesPerDocumentUri;
+	private final ClockMap<ClockMap<String>> cache;
+
+	/**
+	 * @param maxDocumentUris maximum number of document URIs cached
+	 * @param maxEntriesPerDocumentUri maximum number of entries cached for each document URI
+	 */
+	UriConversionCache(int maxDocumentUris, int maxEntriesPerDocumentUri) {
+		this.maxEntriesPerDocumentUri = maxEntriesPerDocumentUri;
+		this.cache = new ClockMap<>(maxDocumentUris);
+	}
+
+	/**
+	 * @param documentUri document URI for the entry
+	 * @param key key within the document URI
+	 * @return the cached value or null if not cached
+	 */
+	String get(String documentUri, String key) {
+		ClockMap<String> entries = cache.get(documentUri);
+		return Objects.isNull(entries) ? null : entries.get(key);
+	}
+
+	/**
+	 * @param documentUri document URI for the entry
+	 * @param key key within the document URI
+	 * @param value value to cache
+	 * @return the value cached for the key - this may be a value cached concurrently by another thread
+	 */
+	String put(String documentUri, String key, String value) {
+		ClockMap<String> entries = cache.get(documentUri);
+		if (Objects.isNull(entries)) {
+			entries = cache.putIfAbsent(documentUri, new ClockMap<>(maxEntriesPerDocumentUri));
+		}
+		return entries.putIfAbsent(key, value);
+	}
+}
@@ -0,0 +1,129 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.spdx.core.DefaultModelStore;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelRegistry;
+import org.spdx.library.model.v2.AnonymousIdAllocator;
+import org.spdx.library.model.v2.Checksum;
+import org.spdx.library.model.v2.GenericModelObject;
+import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IdType;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class AnonymousIdAllocatorTest extends TestCase {
+
+	static final String SHA1 = "0123456789abcdef0123456789abcdef01234567";
+
+	GenericModelObject gmo;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		ModelRegistry.getModelRegistry().registerModel(new SpdxModelInfoV2_X());
+		DefaultModelStore.initialize(new MockModelStore(), "http://defaultdocument", new MockCopyManager());
+		gmo = new GenericModelObject();
+	}
+
+	protected void tearDown() throws Exception {
+		AnonymousIdAllocator.release();
+		super.tearDown();
+	}
+
+	public void testNextId() throws InvalidSPDXAnalysisException {
+		IModelStore store = gmo.getModelStore();
+		String first = AnonymousIdAllocator.nextId(store);
+		String second = AnonymousIdAllocator.nextId(store);
+		assertFalse(first.equals(second));
+		assertTrue(store.isAnon(first));
+		assertEquals(IdType.Anonymous, store.getIdType(second));
+		// IDs handed out by the store are not in any block
+		assertFalse(store.getNextId(IdType.Anonymous).equals(AnonymousIdAllocator.nextId(store)));
+		Checksum checksum = gmo.createChecksum(ChecksumAlgorithm.SHA1, SHA1);
+		assertTrue(store.isAnon(checksum.getId()));
+		assertEquals(SHA1, checksum.getValue());
+	}
+
+	public void testAlternatingStores() throws InvalidSPDXAnalysisException {
+		IModelStore store = gmo.getModelStore();
+		IModelStore otherStore = new MockModelStore();
+		String first = AnonymousIdAllocator.nextId(store);
+		String other = AnonymousIdAllocator.nextId(otherStore);
+		String second = AnonymousIdAllocator.nextId(store);
+		// the block for the first store is kept while the other store is used
+		assertEquals(first.substring(0, first.lastIndexOf('-')), second.substring(0, second.lastIndexOf('-')));
+		assertFalse(first.equals(second));
+		assertTrue(otherStore.isAnon(other));
+	}
+
+	public void testThreads() throws InterruptedException {
+		IModelStore store = gmo.getModelStore();
+		Set<String> ids = ConcurrentHashMap.newKeySet();
+		List<Thread> threads = new ArrayList<>();
+		List<Throwable> errors = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			threads.add(new Thread(() -> {
+				try {
+					for (int j = 0; j < 1000; j++) {
+						ids.add(AnonymousIdAllocator.nextId(store));
+					}
+				} catch (InvalidSPDXAnalysisException e) {
+					synchronized (errors) {
+						errors.add(e);
+					}
+				}
+			}));
+		}
+		for (Thread thread:threads) {
+			thread.start();
+		}
+		for (Thread thread:threads) {
+			thread.join();
+		}
+		assertTrue(errors.isEmpty());
+		assertEquals(4000, ids.size());
+	}
+
+	public void testUnsupportedStore() throws InvalidSPDXAnalysisException {
+		IModelStore store = new MockModelStore() {
+			@Override
+			public boolean isAnon(String objectUri) {
+				return super.isAnon(objectUri) && !objectUri.contains("-");
+			}
+		};
+		String id = AnonymousIdAllocator.nextId(store);
+		assertTrue(store.isAnon(id));
+		assertTrue(store.isAnon(AnonymousIdAllocator.nextId(store)));
+	}
+
+	public void testBlockSize() throws InvalidSPDXAnalysisException {
+		int blockSize = AnonymousIdAllocator.getBlockSize();
+		try {
+			AnonymousIdAllocator.setBlockSize(1);
+			IModelStore store = gmo.getModelStore();
+			assertFalse(AnonymousIdAllocator.nextId(store).contains("-"));
+			try {
+				AnonymousIdAllocator.setBlockSize(0);
+				fail("Block size of 0 should fail");
+			} catch (IllegalArgumentException ex) {
+				// expected
+			}
+		} finally {
+			AnonymousIdAllocator.setBlockSize(blockSize);
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.spdx.core.DefaultModelStore;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelRegistry;
+import org.spdx.library.model.v2.Checksum;
+import org.spdx.library.model.v2.ChecksumCalculator;
+import org.spdx.library.model.v2.ChecksumDigester;
+import org.spdx.library.model.v2.GenericModelObject;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.storage.IModelStore.IdType;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ChecksumCalculatorTest extends TestCase {
+
+	static final String ABC_SHA1 = "a9993e364706816aba3e25717850c26c9cd0d89d";
+	static final String ABC_MD5 = "900150983cd24fb0d6963f7d28e17f72";
+	static final String ABC_ADLER32 = "024d0127";
+	static final String ABC_SHA256 = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+	GenericModelObject gmo;
+	Path tempDir;
+	ChecksumCalculator calculator;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		ModelRegistry.getModelRegistry().registerModel(new SpdxModelInfoV2_X());
+		DefaultModelStore.initialize(new MockModelStore(), "http://defaultdocument", new MockCopyManager());
+		gmo = new GenericModelObject();
+		tempDir = Files.createTempDirectory("spdxchecksum");
+		calculator = new ChecksumCalculator(2);
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		calculator.close();
+		try (java.util.stream.Stream<Path> files = Files.list(tempDir)) {
+			for (Path file:(Iterable<Path>)files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(tempDir);
+	}
+
+	private Path writeFile(String name, byte[] content) throws IOException {
+		return Files.write(tempDir.resolve(name), content);
+	}
+
+	private static String hex(byte[] value) {
+		StringBuilder sb = new StringBuilder();
+		for (byte b:value) {
+			sb.append(String.format("%02x", b));
+		}
+		return sb.toString();
+	}
+
+	public void testCalculate() throws InvalidSPDXAnalysisException, IOException {
+		Path abc = writeFile("abc", "abc".getBytes(StandardCharsets.US_ASCII));
+		Map<ChecksumAlgorithm, String> result = calculator.calculate(abc, Arrays.asList(ChecksumAlgorithm.SHA1,
+				ChecksumAlgorithm.MD5, ChecksumAlgorithm.ADLER32, ChecksumAlgorithm.SHA256));
+		assertEquals(Arrays.asList(ChecksumAlgorithm.SHA1, ChecksumAlgorithm.MD5, ChecksumAlgorithm.ADLER32,
+				ChecksumAlgorithm.SHA256), Arrays.asList(result.keySet().toArray()));
+		assertEquals(ABC_SHA1, result.get(ChecksumAlgorithm.SHA1));
+		assertEquals(ABC_MD5, result.get(ChecksumAlgorithm.MD5));
+		assertEquals(ABC_ADLER32, result.get(ChecksumAlgorithm.ADLER32));
+		assertEquals(ABC_SHA256, result.get(ChecksumAlgorithm.SHA256));
+	}
+
+	public void testCalculateLargeFile() throws Exception {
+		byte[] content = new byte[200 * 1024 + 17];
+		new Random(42).nextBytes(content);
+		Path large = writeFile("large", content);
+		Map<ChecksumAlgorithm, String> result = calculator.calculate(large, Arrays.asList(ChecksumAlgorithm.SHA1,
+				ChecksumAlgorithm.SHA512, ChecksumAlgorithm.ADLER32));
+		assertEquals(hex(MessageDigest.getInstance("SHA-1").digest(content)), result.get(ChecksumAlgorithm.SHA1));
+		assertEquals(hex(MessageDigest.getInstance("SHA-512").digest(content)), result.get(ChecksumAlgorithm.SHA512));
+		java.util.zip.Adler32 adler32 = new java.util.zip.Adler32();
+		adler32.update(content);
+		assertEquals(String.format("%08x", adler32.getValue()), result.get(ChecksumAlgorithm.ADLER32));
+	}
+
+	public void testCalculateAll() throws Exception {
+		Map<Path, byte[]> contents = new LinkedHashMap<>();
+		Random random = new Random(7);
+		for (int i = 0; i < 10; i++) {
+			byte[] content = new byte[random.nextInt(100000)];
+			random.nextBytes(content);
+			contents.put(writeFile("file" + i, content), content);
+		}
+		Map<Path, Map<ChecksumAlgorithm, String>> result = calculator.calculateAll(contents.keySet(),
+				Arrays.asList(ChecksumAlgorithm.SHA256));
+		assertEquals(Arrays.asList(contents.keySet().toArray()), Arrays.asList(result.keySet().toArray()));
+		for (Map.Entry<Path, byte[]> entry:contents.entrySet()) {
+			assertEquals(hex(MessageDigest.getInstance("SHA-256").digest(entry.getValue())),
+					result.get(entry.getKey()).get(ChecksumAlgorithm.SHA256));
+		}
+	}
+
+	public void testRegisterAlgorithm() throws InvalidSPDXAnalysisException, IOException {
+		Path abc = writeFile("abc", "abc".getBytes(StandardCharsets.US_ASCII));
+		assertFalse(calculator.isSupported(ChecksumAlgorithm.BLAKE3));
+		try {
+			calculator.calculate(abc, Arrays.asList(ChecksumAlgorithm.BLAKE3));
+			fail("Unsupported algorithm should fail");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		// stand-in digester which counts the bytes
+		calculator.registerAlgorithm(ChecksumAlgorithm.BLAKE3, () -> new ChecksumDigester() {
+			long count = 0;
+
+			@Override
+			public void update(ByteBuffer buffer) {
+				count += buffer.remaining();
+				buffer.position(buffer.limit());
+			}
+
+			@Override
+			public String getValue() {
+				return Long.toHexString(count);
+			}
+		});
+		assertTrue(calculator.isSupported(ChecksumAlgorithm.BLAKE3));
+		Map<ChecksumAlgorithm, String> result = calculator.calculate(abc, Arrays.asList(ChecksumAlgorithm.BLAKE3,
+				ChecksumAlgorithm.SHA1));
+		assertEquals("3", result.get(ChecksumAlgorithm.BLAKE3));
+		assertEquals(ABC_SHA1, result.get(ChecksumAlgorithm.SHA1));
+	}
+
+	public void testMissingFile() {
+		try {
+			calculator.calculate(tempDir.resolve("missing"), Arrays.asList(ChecksumAlgorithm.SHA1));
+			fail("Missing file should fail");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		try {
+			calculator.calculateAll(Arrays.asList(tempDir.resolve("missing")), Arrays.asList(ChecksumAlgorithm.SHA1));
+			fail("Missing file should fail");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+	}
+
+	public void testAddChecksums() throws InvalidSPDXAnalysisException, IOException {
+		Path abc = writeFile("abc", "abc".getBytes(StandardCharsets.US_ASCII));
+		SpdxFile spdxFile = gmo.createSpdxFile(gmo.getModelStore().getNextId(IdType.SpdxId), "./abc",
+				new SpdxNoAssertionLicense(), Arrays.asList(new SpdxNoAssertionLicense()), "Copyright",
+				gmo.createChecksum(ChecksumAlgorithm.SHA1, ABC_SHA1)).build();
+		List<Checksum> added = calculator.addChecksums(spdxFile, abc, Arrays.asList(ChecksumAlgorithm.MD5,
+				ChecksumAlgorithm.SHA256));
+		assertEquals(2, added.size());
+		assertEquals(3, spdxFile.getChecksums().size());
+		assertTrue(spdxFile.getChecksums().containsAll(added));
+		assertEquals(ABC_SHA1, spdxFile.getSha1());
+		boolean foundMd5 = false;
+		for (Checksum checksum:spdxFile.getChecksums()) {
+			if (ChecksumAlgorithm.MD5.equals(checksum.getAlgorithm())) {
+				assertEquals(ABC_MD5, checksum.getValue());
+				foundMd5 = true;
+			}
+		}
+		assertTrue(foundMd5);
+		assertTrue(spdxFile.verify().isEmpty());
+	}
+}
@@ -24,6 +24,7 @@ import org.spdx.core.DefaultModelStore;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.core.ModelRegistry;
 import org.spdx.library.model.v2.Checksum;
+import org.spdx.library.model.v2.ChecksumValue;
 import org.spdx.library.model.v2.GenericModelObject;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxModelInfoV2_X;
@@ -226,5 +227,50 @@ public class ChecksumTest extends TestCase {
 		assertEquals(1, gmo.createChecksum(ChecksumAlgorithm.SHA3_512, SHA3_512_VALUE1)
 				.verify(Version.TWO_POINT_TWO_VERSION).size());
 	}
-
+	
+	public void testChecksumValue() throws InvalidSPDXAnalysisException {
+		Checksum checksum = gmo.createChecksum(ChecksumAlgorithm.SHA256, SHA256_VALUE1.toUpperCase());
+		ChecksumValue value = checksum.getChecksumValue();
+		assertEquals(32, value.length());
+		assertEquals(SHA256_VALUE1.toLowerCase(), value.toHex());
+		assertTrue(value.matches(SHA256_VALUE1));
+		assertFalse(value.matches(SHA256_VALUE2));
+		assertSame(value, checksum.getChecksumValue());
+		// the parsed value is shared by the checksums in the model store and does not depend on the string instance
+		Checksum sameValue = gmo.createChecksum(ChecksumAlgorithm.SHA256, new String(SHA256_VALUE1.toUpperCase()));
+		assertSame(value, sameValue.getChecksumValue());
+		assertEquals(value, ChecksumValue.fromBytes(value.toBytes()));
+		assertEquals(value.hashCode(), ChecksumValue.fromHex(SHA256_VALUE1).hashCode());
+		assertTrue(ChecksumValue.fromHex(SHA256_VALUE2).compareTo(value) != 0);
+		Checksum binary = gmo.createChecksum(ChecksumAlgorithm.SHA256, ChecksumValue.fromHex(SHA256_VALUE2));
+		assertEquals(SHA256_VALUE2.toLowerCase(), binary.getValue());
+		assertEquals(0, binary.verify().size());
+		assertTrue(ChecksumValue.fromHex(SHA256_VALUE2).equals(binary.getChecksumValue()));
+		binary.setPropertyValue(SpdxConstantsCompatV2.PROP_CHECKSUM_VALUE, "Bad value");
+		try {
+			binary.getChecksumValue();
+			fail("Invalid hex value");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		assertEquals(1, binary.verify().size());
+		try {
+			ChecksumValue.fromHex("abc");
+			fail("Odd length");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+	}
+	
+	public void testChecksumValueOrder() throws InvalidSPDXAnalysisException {
+		String[] values = new String[] {"0f", "f0", "7f", "80", "00ff", "ff00"};
+		for (String a:values) {
+			for (String b:values) {
+				if (a.length() == b.length()) {
+					assertEquals(Integer.signum(a.compareTo(b)),
+							Integer.signum(ChecksumValue.fromHex(a).compareTo(ChecksumValue.fromHex(b))));
+				}
+			}
+		}
+	}
 }
@@ -754,6 +754,22 @@ public class ModelObjectTest extends TestCase {
 		addTestValues(gmo3);
 		assertTrue(gmo.equals(gmo3));
 		assertTrue(gmo3.equals(gmo));
+		// anonymous ID's are only equal within the same store
+		String anonId = store.getNextId(IdType.Anonymous);
+		GenericModelObject anon1 = new GenericModelObject(store, docUri, anonId, copyManager, true);
+		GenericModelObject anon2 = new GenericModelObject(store, docUri, anonId, copyManager, false);
+		GenericModelObject anon3 = new GenericModelObject(store2, docUri, anonId, copyManager, true);
+		assertTrue(anon1.equals(anon2));
+		assertFalse(anon1.equals(anon3));
+	}
+	
+	public void testHashCode() throws InvalidSPDXAnalysisException {
+		GenericModelObject gmo = new GenericModelObject(store, docUri, TEST_ID, copyManager, true);
+		int hash = gmo.hashCode();
+		assertEquals(hash, gmo.hashCode());
+		assertEquals(hash, new GenericModelObject(new MockModelStore(), docUri, TEST_ID, copyManager, true).hashCode());
+		assertEquals(hash, new GenericModelObject(store, docUri, TEST_ID.toUpperCase(), copyManager, true).hashCode());
+		assertFalse(hash == new GenericModelObject(store, docUri, "TestId2", copyManager, true).hashCode());
 	}
 
 	/**
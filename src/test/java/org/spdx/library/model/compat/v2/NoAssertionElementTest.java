@@ -69,6 +69,7 @@ public class NoAssertionElementTest extends TestCase {
 		rel.setRelatedSpdxElement(new SpdxNoAssertionElement());
 		SpdxElement expected = new SpdxNoAssertionElement();
 		assertEquals(expected, rel.getRelatedSpdxElement().get());
+		assertSame(SpdxNoAssertionElement.getInstance(), rel.getRelatedSpdxElement().get());
 	}
 
 }
@@ -29,6 +29,7 @@ import org.spdx.core.ModelRegistry;
 import org.spdx.library.model.v2.GenericSpdxElement;
 import org.spdx.library.model.v2.RelatedElementCollection;
 import org.spdx.library.model.v2.Relationship;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxElement;
 import org.spdx.library.model.v2.SpdxModelInfoV2_X;
 import org.spdx.library.model.v2.Version;
@@ -375,4 +376,86 @@ public class RelatedElementCollectionTest extends TestCase {
 		assertFalse(allCollection2.equals(describesCollection2));
 	}
 
+	public void testIndexed() throws InvalidSPDXAnalysisException {
+		RelatedElementCollection describesCollection = new RelatedElementCollection(element, RelationshipType.DESCRIBES, 
+				null, Version.CURRENT_SPDX_VERSION, true);
+		RelatedElementCollection allCollection = new RelatedElementCollection(element, null, 
+				null, Version.CURRENT_SPDX_VERSION, true);
+		assertTrue(describesCollection.isIndexed());
+		assertEquals(relatedDescribesOfElements.size(), describesCollection.size());
+		assertEquals(allRelatedElements.size(), allCollection.size());
+		for (SpdxElement related:relatedDescribesOfElements) {
+			assertTrue(describesCollection.contains(related));
+		}
+		for (SpdxElement related:allRelatedElements) {
+			assertTrue(allCollection.contains(related));
+		}
+		assertFalse(describesCollection.contains(relatedAmendsElements.get(0)));
+		assertListsSame(relatedDescribesOfElements, describesCollection.toImmutableList());
+		
+		// add and remove through the collection
+		SpdxElement added = new GenericSpdxElement();
+		added.setName("added");
+		assertFalse(describesCollection.contains(added));
+		assertTrue(describesCollection.add(added));
+		assertFalse(describesCollection.add(added));
+		assertTrue(describesCollection.contains(added));
+		assertEquals(relatedDescribesOfElements.size() + 1, describesCollection.size());
+		assertTrue(allCollection.contains(added));
+		assertEquals(allRelatedElements.size() + 1, allCollection.size());
+		assertTrue(describesCollection.remove(added));
+		assertFalse(describesCollection.remove(added));
+		assertFalse(describesCollection.contains(added));
+		assertEquals(relatedDescribesOfElements.size(), describesCollection.size());
+		assertFalse(allCollection.contains(added));
+		
+		// relationships modified outside of the collection
+		SpdxElement outside = new GenericSpdxElement();
+		outside.setName("outside");
+		Relationship relationship = element.createRelationship(outside, RelationshipType.DESCRIBES, null);
+		element.addRelationship(relationship);
+		assertTrue(describesCollection.contains(outside));
+		assertEquals(relatedDescribesOfElements.size() + 1, describesCollection.size());
+		element.removeRelationship(relationship);
+		assertFalse(describesCollection.contains(outside));
+		assertEquals(relatedDescribesOfElements.size(), describesCollection.size());
+		
+		// relationship replaced through another model object for the element - the number of relationships is unchanged
+		GenericSpdxElement sameElement = new GenericSpdxElement(element.getModelStore(), element.getDocumentUri(),
+				element.getId(), element.getCopyManager(), false);
+		SpdxElement replaced = relatedDescribesOfElements.get(0);
+		Relationship replacedRelationship = null;
+		for (Relationship existing:sameElement.getRelationships()) {
+			if (RelationshipType.DESCRIBES.equals(existing.getRelationshipType()) &&
+					replaced.equals(existing.getRelatedSpdxElement().get())) {
+				replacedRelationship = existing;
+			}
+		}
+		assertNotNull(replacedRelationship);
+		sameElement.removeRelationship(replacedRelationship);
+		sameElement.addRelationship(sameElement.createRelationship(outside, RelationshipType.DESCRIBES, null));
+		assertFalse(describesCollection.contains(replaced));
+		assertTrue(describesCollection.contains(outside));
+		assertEquals(relatedDescribesOfElements.size(), describesCollection.size());
+		
+		describesCollection.clear();
+		assertTrue(describesCollection.isEmpty());
+		assertEquals(allRelatedElements.size()-relatedDescribesOfElements.size(), allCollection.size());
+	}
+	
+	public void testIndexedElementTypeFilter() throws InvalidSPDXAnalysisException {
+		SpdxElement ge = new GenericSpdxElement();
+		RelatedElementCollection genericCollection = new RelatedElementCollection(ge, RelationshipType.CONTAINS, 
+				GenericSpdxElement.GENERIC_SPDX_ELEMENT_TYPE, Version.CURRENT_SPDX_VERSION, true);
+		RelatedElementCollection fileCollection = new RelatedElementCollection(ge, RelationshipType.CONTAINS, 
+				SpdxConstantsCompatV2.CLASS_SPDX_FILE, Version.CURRENT_SPDX_VERSION, true);
+		assertTrue(genericCollection.isEmpty());
+		SpdxElement related = new GenericSpdxElement();
+		related.setName("related");
+		genericCollection.add(related);
+		assertEquals(1, genericCollection.size());
+		assertTrue(fileCollection.isEmpty());
+		assertEquals(0, fileCollection.toImmutableList().size());
+	}
+
 }
@@ -0,0 +1,284 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.spdx.core.DefaultModelStore;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelRegistry;
+import org.spdx.core.TypedValue;
+import org.spdx.library.model.v2.GenericModelObject;
+import org.spdx.library.model.v2.Relationship;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.SpdxDocumentIndex;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.library.model.v2.SpdxModelFactoryCompatV2;
+import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.library.model.v2.SpdxPackage;
+import org.spdx.library.model.v2.SpdxSnippet;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.enumerations.FileType;
+import org.spdx.library.model.v2.enumerations.Purpose;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class SpdxDocumentIndexTest extends TestCase {
+
+	static final String SHA1_1 = "0123456789abcdef0123456789abcdef01234567";
+	static final String SHA1_2 = "f123456789abcdef0123456789abcdef01234567";
+	static final String SHA256 = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+	GenericModelObject gmo;
+	SpdxDocument doc;
+	/**
+	 * Number of typed values read from the model store
+	 */
+	int typedValueReads = 0;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		ModelRegistry.getModelRegistry().registerModel(new SpdxModelInfoV2_X());
+		DefaultModelStore.initialize(new MockModelStore() {
+			@Override
+			public Optional<TypedValue> getTypedValue(String objectUri) throws InvalidSPDXAnalysisException {
+				typedValueReads++;
+				return super.getTypedValue(objectUri);
+			}
+		}, "http://defaultdocument", new MockCopyManager());
+		gmo = new GenericModelObject();
+		doc = new SpdxDocument(gmo.getModelStore(), gmo.getDocumentUri(), gmo.getCopyManager(), true);
+	}
+
+	private SpdxFile createFile(String id, String name, String sha1) throws InvalidSPDXAnalysisException {
+		return gmo.createSpdxFile(id, name, new SpdxNoAssertionLicense(), Arrays.asList(new SpdxNoAssertionLicense()),
+				"Copyright", gmo.createChecksum(ChecksumAlgorithm.SHA1, sha1))
+				.addFileType(FileType.SOURCE)
+				.build();
+	}
+
+	private SpdxPackage createPackage(String id, String name) throws InvalidSPDXAnalysisException {
+		return gmo.createPackage(id, name, new SpdxNoAssertionLicense(), "Copyright", new SpdxNoAssertionLicense())
+				.setDownloadLocation("NOASSERTION")
+				.setFilesAnalyzed(false)
+				.setPrimaryPurpose(Purpose.LIBRARY)
+				.build();
+	}
+
+	public void testBuild() throws InvalidSPDXAnalysisException {
+		createFile("SPDXRef-file1", "./file1", SHA1_1);
+		createFile("SPDXRef-file2", "./file2", SHA1_2);
+		createFile("SPDXRef-file3", "./file1", SHA1_1);
+		createPackage("SPDXRef-pkg", "package");
+		try (SpdxDocumentIndex index = SpdxDocumentIndex.build(doc)) {
+			assertTrue(index.isOpen());
+			assertSame(index, SpdxDocumentIndex.getIndex(doc).get());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file1", "SPDXRef-file3")), index.getIdsByName("./file1"));
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file2")), index.getIdsByName("./file2"));
+			assertTrue(index.getIdsByName("./none").isEmpty());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file1", "SPDXRef-file3")),
+					index.getIdsByChecksum(ChecksumAlgorithm.SHA1, SHA1_1.toUpperCase()));
+			assertTrue(index.getIdsByChecksum(ChecksumAlgorithm.SHA256, SHA1_1).isEmpty());
+			assertEquals(3, index.getIdsByFileType(FileType.SOURCE).size());
+			assertEquals(3, index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_FILE).size());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg")), index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_PACKAGE));
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg")), index.getIdsByPurpose(Purpose.LIBRARY));
+			assertEquals(1, index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_DOCUMENT).size());
+		}
+		assertFalse(SpdxDocumentIndex.getIndex(doc).isPresent());
+	}
+
+	public void testIncrementalUpdate() throws InvalidSPDXAnalysisException {
+		SpdxFile file1 = createFile("SPDXRef-file1", "./file1", SHA1_1);
+		SpdxPackage pkg = createPackage("SPDXRef-pkg", "package");
+		SpdxDocumentIndex index = SpdxDocumentIndex.build(doc);
+		try {
+			file1.setName("./renamed");
+			assertTrue(index.getIdsByName("./file1").isEmpty());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file1")), index.getIdsByName("./renamed"));
+			file1.addChecksum(gmo.createChecksum(ChecksumAlgorithm.SHA256, SHA256));
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file1")), index.getIdsByChecksum(ChecksumAlgorithm.SHA256, SHA256));
+			file1.addFileType(FileType.TEXT);
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file1")), index.getIdsByFileType(FileType.TEXT));
+			pkg.setPrimaryPurpose(Purpose.APPLICATION);
+			assertTrue(index.getIdsByPurpose(Purpose.LIBRARY).isEmpty());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg")), index.getIdsByPurpose(Purpose.APPLICATION));
+			pkg.addChecksum(gmo.createChecksum(ChecksumAlgorithm.SHA1, SHA1_2));
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg")), index.getIdsByChecksum(ChecksumAlgorithm.SHA1, SHA1_2));
+			createFile("SPDXRef-file2", "./file2", SHA1_1);
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file1", "SPDXRef-file2")),
+					index.getIdsByChecksum(ChecksumAlgorithm.SHA1, SHA1_1));
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file2")), index.getIdsByName("./file2"));
+			assertEquals(2, index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_FILE).size());
+		} finally {
+			index.close();
+		}
+		assertFalse(index.isOpen());
+		file1.setName("./closed");
+		assertTrue(index.getIdsByName("./closed").isEmpty());
+		assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file1")), index.getIdsByName("./renamed"));
+	}
+
+	public void testStaleEntries() throws InvalidSPDXAnalysisException {
+		SpdxFile file1 = createFile("SPDXRef-file1", "./file1", SHA1_1);
+		SpdxFile file2 = createFile("SPDXRef-file2", "./file2", SHA1_1);
+		try (SpdxDocumentIndex index = SpdxDocumentIndex.build(doc)) {
+			// changes which are not tracked are found on lookup
+			file1.getChecksums().clear();
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file2")), index.getIdsByChecksum(ChecksumAlgorithm.SHA1, SHA1_1));
+			file2.getChecksums().iterator().next().setValue(SHA1_2);
+			assertTrue(index.getIdsByChecksum(ChecksumAlgorithm.SHA1, SHA1_1).isEmpty());
+			file1.getFileTypes().remove(FileType.SOURCE);
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file2")), index.getIdsByFileType(FileType.SOURCE));
+		}
+	}
+
+	public void testLookupChecksOnlyChangedElements() throws InvalidSPDXAnalysisException {
+		SpdxFile file1 = createFile("SPDXRef-file1", "./file1", SHA1_1);
+		createFile("SPDXRef-file2", "./file2", SHA1_2);
+		createPackage("SPDXRef-pkg", "package");
+		try (SpdxDocumentIndex index = SpdxDocumentIndex.build(doc)) {
+			file1.addFileType(FileType.TEXT);
+			typedValueReads = 0;
+			assertEquals(2, index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_FILE).size());
+			assertEquals(2, index.getIdsByFileType(FileType.SOURCE).size());
+			assertEquals(1, index.getIdsByPurpose(Purpose.LIBRARY).size());
+			assertEquals(0, typedValueReads);
+			// the file with a file type removed is checked
+			file1.getFileTypes().remove(FileType.TEXT);
+			typedValueReads = 0;
+			assertEquals(2, index.getIdsByFileType(FileType.SOURCE).size());
+			assertTrue(typedValueReads > 0);
+			assertTrue(index.getIdsByFileType(FileType.TEXT).isEmpty());
+			typedValueReads = 0;
+			assertEquals(2, index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_FILE).size());
+			assertEquals(0, typedValueReads);
+		}
+	}
+
+	public void testCreatedElements() throws InvalidSPDXAnalysisException {
+		createFile("SPDXRef-file1", "./file1", SHA1_1);
+		try (SpdxDocumentIndex index = SpdxDocumentIndex.build(doc)) {
+			// created through the model factory
+			SpdxModelFactoryCompatV2.createModelObjectV2(gmo.getModelStore(), gmo.getDocumentUri(), "SPDXRef-pkg",
+					SpdxConstantsCompatV2.CLASS_SPDX_PACKAGE, gmo.getCopyManager());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg")), index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_PACKAGE));
+			// opening an existing element does not change the index
+			SpdxModelFactoryCompatV2.createModelObjectV2(gmo.getModelStore(), gmo.getDocumentUri(), "SPDXRef-file1",
+					SpdxConstantsCompatV2.CLASS_SPDX_FILE, gmo.getCopyManager());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file1")), index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_FILE));
+			// created by calling the constructor - found once the index is rebuilt
+			new SpdxFile(gmo.getModelStore(), gmo.getDocumentUri(), "SPDXRef-file2", gmo.getCopyManager(), true);
+			assertEquals(1, index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_FILE).size());
+		}
+		try (SpdxDocumentIndex index = SpdxDocumentIndex.build(doc)) {
+			assertEquals(2, index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_FILE).size());
+		}
+	}
+
+	public void testRebuildReplaces() throws InvalidSPDXAnalysisException {
+		createFile("SPDXRef-file1", "./file1", SHA1_1);
+		SpdxDocumentIndex first = SpdxDocumentIndex.build(doc);
+		SpdxDocumentIndex second = SpdxDocumentIndex.build(doc);
+		assertFalse(first.isOpen());
+		assertTrue(second.isOpen());
+		assertSame(second, SpdxDocumentIndex.getIndex(doc).get());
+		first.close();
+		assertSame(second, SpdxDocumentIndex.getIndex(doc).get());
+		second.close();
+		assertFalse(SpdxDocumentIndex.getIndex(doc).isPresent());
+	}
+
+	public void testRelationshipIndex() throws InvalidSPDXAnalysisException {
+		SpdxFile file1 = createFile("SPDXRef-file1", "./file1", SHA1_1);
+		SpdxFile file2 = createFile("SPDXRef-file2", "./file2", SHA1_2);
+		SpdxPackage pkg1 = createPackage("SPDXRef-pkg1", "package1");
+		SpdxPackage pkg2 = createPackage("SPDXRef-pkg2", "package2");
+		pkg1.addRelationship(gmo.createRelationship(file1, RelationshipType.CONTAINS, null));
+		pkg2.addRelationship(gmo.createRelationship(file1, RelationshipType.CONTAINS, null));
+		pkg2.addRelationship(gmo.createRelationship(pkg1, RelationshipType.DEPENDS_ON, null));
+		try (SpdxDocumentIndex index = SpdxDocumentIndex.build(doc)) {
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg1", "SPDXRef-pkg2")),
+					index.getIdsWithRelationshipTo("SPDXRef-file1", RelationshipType.CONTAINS));
+			assertTrue(index.getIdsWithRelationshipTo("SPDXRef-file1", RelationshipType.DEPENDS_ON).isEmpty());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg2")),
+					index.getIdsWithRelationshipTo("SPDXRef-pkg1", RelationshipType.DEPENDS_ON));
+			// maintained after the first lookup
+			Relationship contains = gmo.createRelationship(file2, RelationshipType.CONTAINS, null);
+			pkg1.addRelationship(contains);
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg1")),
+					index.getIdsWithRelationshipTo("SPDXRef-file2", RelationshipType.CONTAINS));
+			Relationship duplicate = gmo.createRelationship(file2, RelationshipType.CONTAINS, "duplicate");
+			pkg1.addRelationship(duplicate);
+			pkg1.removeRelationship(contains);
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg1")),
+					index.getIdsWithRelationshipTo("SPDXRef-file2", RelationshipType.CONTAINS));
+			pkg1.removeRelationship(duplicate);
+			assertTrue(index.getIdsWithRelationshipTo("SPDXRef-file2", RelationshipType.CONTAINS).isEmpty());
+			pkg2.getFiles().remove(file1);
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg1")),
+					index.getIdsWithRelationshipTo("SPDXRef-file1", RelationshipType.CONTAINS));
+			file2.setRelationships(Arrays.asList(gmo.createRelationship(file1, RelationshipType.GENERATES, null)));
+			Map<RelationshipType, Set<String>> toFile1 = index.getRelationshipsTo("SPDXRef-file1");
+			assertEquals(2, toFile1.size());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-file2")), toFile1.get(RelationshipType.GENERATES));
+		}
+	}
+
+	private SpdxSnippet createSnippet(String id, SpdxFile file, int startByte, int endByte, int startLine, int endLine) throws InvalidSPDXAnalysisException {
+		return gmo.createSpdxSnippet(id, id, new SpdxNoAssertionLicense(), Arrays.asList(new SpdxNoAssertionLicense()),
+				"Copyright", file, startByte, endByte)
+				.setLineRange(startLine, endLine)
+				.build();
+	}
+
+	public void testSnippetRangeIndex() throws InvalidSPDXAnalysisException {
+		SpdxFile file1 = createFile("SPDXRef-file1", "./file1", SHA1_1);
+		SpdxFile file2 = createFile("SPDXRef-file2", "./file2", SHA1_2);
+		createSnippet("SPDXRef-snippet1", file1, 0, 99, 1, 10);
+		SpdxSnippet snippet2 = createSnippet("SPDXRef-snippet2", file1, 50, 149, 5, 15);
+		createSnippet("SPDXRef-snippet3", file1, 200, 299, 20, 30);
+		createSnippet("SPDXRef-snippet4", file2, 0, 999, 1, 100);
+		try (SpdxDocumentIndex index = SpdxDocumentIndex.build(doc)) {
+			assertEquals(Arrays.asList("SPDXRef-snippet1", "SPDXRef-snippet2"),
+					index.getSnippetIdsOverlappingBytes("SPDXRef-file1", 60, 70));
+			assertEquals(Arrays.asList("SPDXRef-snippet2", "SPDXRef-snippet3"),
+					index.getSnippetIdsOverlappingBytes("SPDXRef-file1", 149, 200));
+			assertTrue(index.getSnippetIdsOverlappingBytes("SPDXRef-file1", 150, 199).isEmpty());
+			assertEquals(Arrays.asList("SPDXRef-snippet2"), index.getSnippetIdsContainingBytes("SPDXRef-file1", 60, 120));
+			assertTrue(index.getSnippetIdsContainingBytes("SPDXRef-file1", 60, 250).isEmpty());
+			assertEquals(Arrays.asList("SPDXRef-snippet1", "SPDXRef-snippet2"),
+					index.getSnippetIdsContainingLines("SPDXRef-file1", 5, 10));
+			assertEquals(Arrays.asList("SPDXRef-snippet4"), index.getSnippetIdsOverlappingLines("SPDXRef-file2", 50, 200));
+			assertTrue(index.getSnippetIdsOverlappingLines("SPDXRef-unknown", 1, 10).isEmpty());
+			// maintained after the first lookup
+			snippet2.setByteRange(300, 399);
+			assertEquals(Arrays.asList("SPDXRef-snippet1"), index.getSnippetIdsOverlappingBytes("SPDXRef-file1", 60, 70));
+			assertEquals(Arrays.asList("SPDXRef-snippet3", "SPDXRef-snippet2"),
+					index.getSnippetIdsOverlappingBytes("SPDXRef-file1", 250, 350));
+			snippet2.setLineRange(40, 50);
+			assertEquals(Collections.singletonList("SPDXRef-snippet2"), index.getSnippetIdsOverlappingLines("SPDXRef-file1", 35, 45));
+			snippet2.setSnippetFromFile(file2);
+			assertEquals(Arrays.asList("SPDXRef-snippet4", "SPDXRef-snippet2"),
+					index.getSnippetIdsOverlappingBytes("SPDXRef-file2", 350, 360));
+			assertTrue(index.getSnippetIdsOverlappingBytes("SPDXRef-file1", 300, 399).isEmpty());
+			createSnippet("SPDXRef-snippet5", file1, 10, 19, 2, 3);
+			assertEquals(Arrays.asList("SPDXRef-snippet1", "SPDXRef-snippet5"),
+					index.getSnippetIdsContainingLines("SPDXRef-file1", 2, 3));
+		}
+	}
+}
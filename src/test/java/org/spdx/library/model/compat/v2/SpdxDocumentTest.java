@@ -21,7 +21,10 @@ package org.spdx.library.model.compat.v2;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import org.spdx.core.DefaultModelStore;
 import org.spdx.core.IModelCopyManager;
@@ -33,6 +36,7 @@ import org.spdx.library.model.v2.ExternalDocumentRef;
 import org.spdx.library.model.v2.GenericModelObject;
 import org.spdx.library.model.v2.GenericSpdxElement;
 import org.spdx.library.model.v2.Relationship;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxCreatorInformation;
 import org.spdx.library.model.v2.SpdxDocument;
 import org.spdx.library.model.v2.SpdxElement;
@@ -41,6 +45,11 @@ import org.spdx.library.model.v2.SpdxItem;
 import org.spdx.library.model.v2.SpdxModelFactoryCompatV2;
 import org.spdx.library.model.v2.SpdxModelInfoV2_X;
 import org.spdx.library.model.v2.SpdxPackage;
+import org.spdx.library.model.v2.SpdxVerificationHelper;
+import org.spdx.library.model.v2.VerificationFinding;
+import org.spdx.library.model.v2.VerificationMetrics;
+import org.spdx.library.model.v2.VerificationOptions;
+import org.spdx.library.model.v2.VerificationRule;
 import org.spdx.library.model.v2.Version;
 import org.spdx.library.model.v2.enumerations.AnnotationType;
 import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
@@ -52,6 +61,7 @@ import org.spdx.library.model.v2.license.SimpleLicensingInfo;
 import org.spdx.library.model.v2.license.SpdxListedLicense;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.PropertyDescriptor;
 import org.spdx.storage.compatv2.CompatibleModelStoreWrapper;
 
 import junit.framework.TestCase;
@@ -387,6 +397,366 @@ public class SpdxDocumentTest extends TestCase {
 		assertEquals(2, result.size());
 	}
 
+	public void testVerifyParallel() throws InvalidSPDXAnalysisException {
+		SpdxDocument doc = new SpdxDocument(DefaultModelStore.getDefaultModelStore(), DefaultModelStore.getDefaultDocumentUri(), gmo.getCopyManager(), true);
+		doc.setStrict(false);
+		doc.setAnnotations(Arrays.asList(new Annotation[] {ANNOTATION1, ANNOTATION2}));
+		doc.setCreationInfo(CREATIONINFO1);
+		doc.setDataLicense(new SpdxListedLicense("AFL-3.0"));
+		doc.setExtractedLicenseInfos(Arrays.asList(new ExtractedLicenseInfo[] {LICENSE1, LICENSE2, LICENSE3}));
+		doc.setName(DOC_NAME1);
+		doc.setRelationships(Arrays.asList(new Relationship[] {RELATIONSHIP1, RELATIONSHIP2}));
+		// FILE1 and FILE3 are reachable from more than one described element
+		doc.setDocumentDescribes(Arrays.asList(new SpdxItem[] {FILE1, FILE2, PACKAGE1, PACKAGE2, PACKAGE3}));
+		doc.setSpecVersion(Version.TWO_POINT_THREE_VERSION);
+		FILE3.setStrict(false);
+		FILE3.setName(null);
+		PACKAGE3.setStrict(false);
+		PACKAGE3.setDownloadLocation(null);
+		RELATED_ELEMENT2.setStrict(false);
+		RELATED_ELEMENT2.setName(null);
+		List<String> expected = doc.verify();
+		assertFalse(expected.isEmpty());
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int i = 0; i < 10; i++) {
+				assertEquals(expected, doc.verifyParallel(pool));
+			}
+			assertEquals(doc.verify(Version.TWO_POINT_ONE_VERSION), doc.verifyParallel(pool, Version.TWO_POINT_ONE_VERSION));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	public void testVerifyIncremental() throws InvalidSPDXAnalysisException {
+		SpdxDocument doc = new SpdxDocument(DefaultModelStore.getDefaultModelStore(), DefaultModelStore.getDefaultDocumentUri(), gmo.getCopyManager(), true);
+		doc.setStrict(false);
+		doc.setAnnotations(Arrays.asList(new Annotation[] {ANNOTATION1, ANNOTATION2}));
+		doc.setCreationInfo(CREATIONINFO1);
+		doc.setDataLicense(CCO_DATALICENSE);
+		doc.setName(DOC_NAME1);
+		doc.setRelationships(Arrays.asList(new Relationship[] {RELATIONSHIP1, RELATIONSHIP2}));
+		doc.setDocumentDescribes(Arrays.asList(new SpdxItem[] {FILE1, FILE2, PACKAGE1, PACKAGE2}));
+		doc.setSpecVersion(Version.TWO_POINT_THREE_VERSION);
+		assertEquals(0, doc.verify().size());
+		assertEquals(0, doc.verifyIncremental().size());
+		// changes through the setters are picked up
+		FILE1.setStrict(false);
+		FILE1.setName(null);
+		List<String> result = doc.verifyIncremental();
+		assertFalse(result.isEmpty());
+		assertEquals(doc.verify(), result);
+		int errorCount = result.size();
+		// changes made directly to the store are not
+		FILE2.getModelStore().removeProperty(FILE2.getObjectUri(), SpdxConstantsCompatV2.PROP_NAME);
+		assertEquals(errorCount, doc.verifyIncremental().size());
+		FILE2.setStrict(false);
+		FILE2.setName(null);
+		assertEquals(errorCount + 1, doc.verifyIncremental().size());
+		assertEquals(doc.verify(), doc.verifyIncremental());
+		FILE2.setName("FileName2");
+		assertEquals(errorCount, doc.verifyIncremental().size());
+		assertEquals(doc.verify(), doc.verifyIncremental());
+		// changes to an object owned by an element re-verify the element
+		Annotation annotation = gmo.createAnnotation(ANNOTATOR1, ANNOTATION_TYPE1, DATE1, ANNOTATION_COMMENT1);
+		PACKAGE1.addAnnotation(annotation);
+		assertEquals(errorCount, doc.verifyIncremental().size());
+		annotation.setStrict(false);
+		annotation.setAnnotator("Not an annotator");
+		assertEquals(errorCount + 1, doc.verifyIncremental().size());
+		assertEquals(doc.verify(), doc.verifyIncremental());
+		FILE1.setName("FileName1");
+		assertEquals(1, doc.verifyIncremental().size());
+		assertEquals(doc.verify(), doc.verifyIncremental());
+		// spec version changes re-verify all elements
+		assertEquals(doc.verify(Version.TWO_POINT_ONE_VERSION), doc.verifyIncremental(Version.TWO_POINT_ONE_VERSION));
+	}
+
+	public void testVerifyTo() throws InvalidSPDXAnalysisException {
+		SpdxDocument doc = new SpdxDocument(DefaultModelStore.getDefaultModelStore(), DefaultModelStore.getDefaultDocumentUri(), gmo.getCopyManager(), true);
+		doc.setStrict(false);
+		doc.setAnnotations(Arrays.asList(new Annotation[] {ANNOTATION1, ANNOTATION2}));
+		doc.setCreationInfo(CREATIONINFO1);
+		doc.setDataLicense(CCO_DATALICENSE);
+		doc.setName(DOC_NAME1);
+		doc.setRelationships(Arrays.asList(new Relationship[] {RELATIONSHIP1, RELATIONSHIP2}));
+		doc.setDocumentDescribes(Arrays.asList(new SpdxItem[] {FILE1, FILE2, PACKAGE1, PACKAGE2}));
+		doc.setSpecVersion(Version.TWO_POINT_THREE_VERSION);
+		List<VerificationFinding> findings = new ArrayList<>();
+		assertEquals(0, doc.verifyTo(findings::add));
+		assertTrue(findings.isEmpty());
+		FILE1.setStrict(false);
+		FILE1.setName(null);
+		FILE2.setStrict(false);
+		FILE2.setName(null);
+		assertEquals(2, doc.verifyTo(findings::add));
+		assertEquals(2, findings.size());
+		assertEquals(FILE1.getId(), findings.get(0).getElementId());
+		assertEquals(FILE2.getId(), findings.get(1).getElementId());
+		List<String> messages = new ArrayList<>();
+		for (VerificationFinding finding:findings) {
+			assertEquals(VerificationRule.MODEL_OBJECT, finding.getRule());
+			messages.add(finding.getMessage());
+		}
+		// the messages of the related elements are not prefixed with the context of the referencing element
+		List<String> incremental = doc.verifyIncremental();
+		assertEquals(messages.size(), incremental.size());
+		for (int i = 0; i < messages.size(); i++) {
+			assertTrue(incremental.get(i).contains(messages.get(i)));
+		}
+		// only the elements reachable from the file are verified
+		findings.clear();
+		assertEquals(1, FILE2.verifyTo(findings::add));
+		assertEquals(FILE2.getId(), findings.get(0).getElementId());
+		FILE1.setName("FileName1");
+		FILE2.setName("FileName2");
+	}
+
+	public void testVerifyRules() throws InvalidSPDXAnalysisException {
+		SpdxDocument doc = new SpdxDocument(DefaultModelStore.getDefaultModelStore(), DefaultModelStore.getDefaultDocumentUri(), gmo.getCopyManager(), true);
+		doc.setStrict(false);
+		doc.setCreationInfo(CREATIONINFO1);
+		doc.setDataLicense(CCO_DATALICENSE);
+		doc.setName(DOC_NAME1);
+		doc.setDocumentDescribes(Arrays.asList(new SpdxItem[] {FILE1, PACKAGE1}));
+		doc.setSpecVersion(Version.TWO_POINT_THREE_VERSION);
+		Annotation annotation = gmo.createAnnotation(ANNOTATOR1, ANNOTATION_TYPE1, DATE1, ANNOTATION_COMMENT1);
+		annotation.setStrict(false);
+		annotation.setAnnotationDate("Not a date");
+		PACKAGE1.addAnnotation(annotation);
+		FILE1.setStrict(false);
+		FILE1.setName(null);
+		VerificationMetrics metrics = new VerificationMetrics();
+		List<String> result = doc.verify(new VerificationOptions().setMetrics(metrics));
+		assertEquals(doc.verify(), result);
+		assertEquals(2, result.size());
+		assertEquals(1, metrics.getFindingCount(VerificationRule.DATE.getId()));
+		assertTrue(metrics.getInvocationCount(VerificationRule.DATE.getId()) > 1);
+		assertEquals(0, metrics.getFindingCount(VerificationRule.SPDX_ID.getId()));
+		assertTrue(metrics.getInvocationCount(VerificationRule.SPDX_ID.getId()) > 1);
+		assertEquals(1, metrics.getFindingCount(SpdxConstantsCompatV2.CLASS_SPDX_FILE));
+		assertEquals(0, metrics.getFindingCount(SpdxConstantsCompatV2.CLASS_SPDX_PACKAGE));
+		assertTrue(metrics.getRuleIds().contains(SpdxConstantsCompatV2.CLASS_SPDX_DOCUMENT));
+		long dateInvocations = metrics.getInvocationCount(VerificationRule.DATE.getId());
+		// checks made outside of a verification run are not recorded
+		SpdxVerificationHelper.verifyDate(DATE1);
+		assertEquals(dateInvocations, metrics.getInvocationCount(VerificationRule.DATE.getId()));
+		// findings are attributed to the most specific rule
+		List<VerificationFinding> findings = new ArrayList<>();
+		metrics.reset();
+		assertEquals(2, doc.verifyTo(findings::add, new VerificationOptions().setMetrics(metrics)));
+		assertEquals(new VerificationFinding(FILE1.getId(), VerificationRule.MODEL_OBJECT, "Missing required file name"),
+				findings.get(0));
+		assertEquals(PACKAGE1.getId(), findings.get(1).getElementId());
+		assertEquals(VerificationRule.DATE, findings.get(1).getRule());
+		assertEquals(1, metrics.getFindingCount(VerificationRule.DATE.getId()));
+		findings.clear();
+		assertEquals(1, doc.verifyTo(findings::add, new VerificationOptions().setStopAtFirstError()));
+		assertEquals(1, findings.size());
+		FILE1.setName("FileName1");
+	}
+
+	public void testVerifyRulesCachedResults() throws InvalidSPDXAnalysisException {
+		String documentUri = "http://cached/rules/document";
+		IModelStore store = new MockModelStore();
+		IModelCopyManager copyManager = new MockCopyManager();
+		SpdxDocument doc = new SpdxDocument(store, documentUri, copyManager, true);
+		doc.setStrict(false);
+		doc.setCreationInfo(doc.createCreationInfo(Arrays.asList(CREATORS1), DATE1));
+		doc.setDataLicense(new SpdxListedLicense(store, documentUri, "CC0-1.0", copyManager, true));
+		doc.setName(DOC_NAME1);
+		doc.setSpecVersion(Version.TWO_POINT_THREE_VERSION);
+		ExtractedLicenseInfo license = new ExtractedLicenseInfo(store, documentUri, "LicenseRef-cached", copyManager, true);
+		license.setExtractedText("Shared license text");
+		doc.addExtractedLicenseInfos(license);
+		Checksum sharedChecksum = doc.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE1);
+		List<SpdxItem> files = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			files.add(doc.createSpdxFile("SPDXRef-file" + i, "file" + i, license, Arrays.asList(new AnyLicenseInfo[] {license}),
+					"Copyright", sharedChecksum).build());
+		}
+		doc.setDocumentDescribes(files);
+		sharedChecksum.setStrict(false);
+		sharedChecksum.setValue("not a checksum");
+		// the checksum is verified once per run but each use of its messages is recorded against the rule
+		VerificationMetrics metrics = new VerificationMetrics();
+		assertFalse(doc.verify(new VerificationOptions().setMetrics(metrics)).isEmpty());
+		VerificationMetrics walkMetrics = new VerificationMetrics();
+		List<VerificationFinding> first = new ArrayList<>();
+		doc.verifyTo(first::add, new VerificationOptions().setMetrics(walkMetrics));
+		assertTrue(metrics.getFindingCount(VerificationRule.CHECKSUM_VALUE.getId()) > files.size());
+		assertEquals(walkMetrics.getInvocationCount(VerificationRule.CHECKSUM_VALUE.getId()),
+				metrics.getInvocationCount(VerificationRule.CHECKSUM_VALUE.getId()));
+		assertEquals(walkMetrics.getFindingCount(VerificationRule.CHECKSUM_VALUE.getId()),
+				metrics.getFindingCount(VerificationRule.CHECKSUM_VALUE.getId()));
+		// the attribution does not change when the check results are cached by an earlier run
+		List<VerificationFinding> second = new ArrayList<>();
+		doc.verifyTo(second::add);
+		assertEquals(first, second);
+		assertTrue(first.stream().anyMatch(finding -> VerificationRule.CHECKSUM_VALUE.equals(finding.getRule())));
+		// a cached checksum value check is still recorded
+		Checksum checksum = doc.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE1);
+		checksum.setStrict(false);
+		checksum.setValue("not a checksum");
+		metrics.reset();
+		String error = checksum.verify(new VerificationOptions().setMetrics(metrics)).get(0);
+		assertEquals(error, checksum.verify(new VerificationOptions().setMetrics(metrics)).get(0));
+		assertEquals(2, metrics.getInvocationCount(VerificationRule.CHECKSUM_VALUE.getId()));
+		assertEquals(2, metrics.getFindingCount(VerificationRule.CHECKSUM_VALUE.getId()));
+	}
+
+	public void testVerifySharedLicenseOnce() throws InvalidSPDXAnalysisException {
+		String documentUri = "http://shared/license/document";
+		List<String> extractedTextReads = new ArrayList<>();
+		IModelStore store = new MockModelStore() {
+			@Override
+			public Optional<Object> getValue(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+				if (SpdxConstantsCompatV2.PROP_EXTRACTED_TEXT.equals(propertyDescriptor)) {
+					extractedTextReads.add(objectUri);
+				}
+				return super.getValue(objectUri, propertyDescriptor);
+			}
+		};
+		IModelCopyManager copyManager = new MockCopyManager();
+		SpdxDocument doc = new SpdxDocument(store, documentUri, copyManager, true);
+		doc.setStrict(false);
+		doc.setCreationInfo(doc.createCreationInfo(Arrays.asList(CREATORS1), DATE1));
+		doc.setDataLicense(new SpdxListedLicense(store, documentUri, "CC0-1.0", copyManager, true));
+		doc.setName(DOC_NAME1);
+		doc.setSpecVersion(Version.TWO_POINT_THREE_VERSION);
+		ExtractedLicenseInfo license = new ExtractedLicenseInfo(store, documentUri, "LicenseRef-shared", copyManager, true);
+		license.setExtractedText("Shared license text");
+		doc.addExtractedLicenseInfos(license);
+		List<SpdxItem> files = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			files.add(doc.createSpdxFile("SPDXRef-file" + i, "file" + i, license, Arrays.asList(new AnyLicenseInfo[] {license}),
+					"Copyright", doc.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE1)).build());
+		}
+		doc.setDocumentDescribes(files);
+		extractedTextReads.clear();
+		assertEquals(0, doc.verify().size());
+		assertEquals(1, extractedTextReads.size());
+		// each run verifies the license again
+		license.setExtractedText("");
+		List<String> result = doc.verify();
+		assertEquals(2, extractedTextReads.size());
+		// the messages are repeated for each file referencing the license
+		assertEquals(6, result.size());
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			assertEquals(result, doc.verifyParallel(pool));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	public void testVerifyParallelSharedElements() throws InvalidSPDXAnalysisException {
+		String documentUri = "http://shared/element/document";
+		List<String> copyrightReads = Collections.synchronizedList(new ArrayList<>());
+		IModelStore store = new MockModelStore() {
+			@Override
+			public Optional<Object> getValue(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+				if (SpdxConstantsCompatV2.PROP_COPYRIGHT_TEXT.equals(propertyDescriptor)) {
+					copyrightReads.add(objectUri);
+				}
+				return super.getValue(objectUri, propertyDescriptor);
+			}
+		};
+		IModelCopyManager copyManager = new MockCopyManager();
+		SpdxDocument doc = new SpdxDocument(store, documentUri, copyManager, true);
+		doc.setStrict(false);
+		doc.setCreationInfo(doc.createCreationInfo(Arrays.asList(CREATORS1), DATE1));
+		doc.setDataLicense(new SpdxListedLicense(store, documentUri, "CC0-1.0", copyManager, true));
+		doc.setName(DOC_NAME1);
+		doc.setSpecVersion(Version.TWO_POINT_THREE_VERSION);
+		ExtractedLicenseInfo license = new ExtractedLicenseInfo(store, documentUri, "LicenseRef-shared", copyManager, true);
+		license.setExtractedText("");
+		doc.addExtractedLicenseInfos(license);
+		// every file depends on the same library, which is not described by the document
+		SpdxFile library = doc.createSpdxFile("SPDXRef-library", "library", license, Arrays.asList(new AnyLicenseInfo[] {license}),
+				"Copyright", doc.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE1)).build();
+		library.setStrict(false);
+		library.setCopyrightText(null);
+		List<SpdxItem> files = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			SpdxFile file = doc.createSpdxFile("SPDXRef-file" + i, "file" + i, license, Arrays.asList(new AnyLicenseInfo[] {license}),
+					"Copyright", doc.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE1)).build();
+			file.addRelationship(doc.createRelationship(library, RelationshipType.DEPENDS_ON, null));
+			files.add(file);
+		}
+		doc.setDocumentDescribes(files);
+		copyrightReads.clear();
+		List<String> expected = doc.verify();
+		assertFalse(expected.isEmpty());
+		int serialReads = copyrightReads.size();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int i = 0; i < 5; i++) {
+				copyrightReads.clear();
+				assertEquals(expected, doc.verifyParallel(pool));
+				// each file is verified once - none of them are verified again because another task verified the library
+				assertEquals(serialReads, copyrightReads.size());
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	public void testVerifyOptions() throws InvalidSPDXAnalysisException {
+		String documentUri = "http://verify/options/document";
+		List<String> reads = new ArrayList<>();
+		IModelStore store = new MockModelStore() {
+			@Override
+			public Optional<Object> getValue(String objectUri, PropertyDescriptor propertyDescriptor) throws InvalidSPDXAnalysisException {
+				reads.add(objectUri);
+				return super.getValue(objectUri, propertyDescriptor);
+			}
+		};
+		IModelCopyManager copyManager = new MockCopyManager();
+		SpdxDocument doc = new SpdxDocument(store, documentUri, copyManager, true);
+		doc.setStrict(false);
+		doc.setCreationInfo(doc.createCreationInfo(Arrays.asList(CREATORS1), DATE1));
+		doc.setDataLicense(new SpdxListedLicense(store, documentUri, "CC0-1.0", copyManager, true));
+		doc.setName(DOC_NAME1);
+		doc.setSpecVersion(Version.TWO_POINT_THREE_VERSION);
+		ExtractedLicenseInfo license = new ExtractedLicenseInfo(store, documentUri, "LicenseRef-options", copyManager, true);
+		license.setExtractedText("");
+		doc.addExtractedLicenseInfos(license);
+		List<SpdxItem> files = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			SpdxFile file = doc.createSpdxFile("SPDXRef-file" + i, "file" + i, license, Arrays.asList(new AnyLicenseInfo[] {license}),
+					"Copyright", doc.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE1)).build();
+			files.add(file);
+		}
+		doc.setDocumentDescribes(files);
+		reads.clear();
+		List<String> result = doc.verify();
+		int fullReads = reads.size();
+		assertEquals(6, result.size());
+		assertEquals(result, doc.verify(new VerificationOptions()));
+		assertEquals(result, doc.verify(new VerificationOptions().setMaxErrors(100)));
+		assertEquals(result.subList(0, 3), doc.verify(new VerificationOptions().setMaxErrors(3)));
+		// the remaining files are not verified once the first error is found
+		reads.clear();
+		assertEquals(result.subList(0, 1), doc.verify(new VerificationOptions().setStopAtFirstError()));
+		assertTrue(reads.size() < fullReads);
+		// the element names are not read to format the messages
+		reads.clear();
+		List<String> unformatted = doc.verify(new VerificationOptions().setFormatMessages(false));
+		assertEquals(result.size(), unformatted.size());
+		assertTrue(reads.size() < fullReads);
+		for (int i = 0; i < result.size(); i++) {
+			assertTrue(result.get(i).startsWith(unformatted.get(i)));
+			assertFalse(unformatted.get(i).contains(" in file"));
+		}
+		try {
+			new VerificationOptions().setMaxErrors(0);
+			fail("Maximum number of errors must be at least 1");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
 	/**
 	 * Test method for {@link org.spdx.library.model.compat.v2.compat.v2.SpdxDocument#getDocumentDescribes()}.
 	 */
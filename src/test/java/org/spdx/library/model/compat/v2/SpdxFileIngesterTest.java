@@ -0,0 +1,133 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.spdx.core.DefaultModelStore;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelRegistry;
+import org.spdx.library.model.v2.ChecksumValue;
+import org.spdx.library.model.v2.GenericModelObject;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.SpdxDocumentIndex;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.library.model.v2.SpdxFileIngester;
+import org.spdx.library.model.v2.SpdxFileIngester.FileDescriptor;
+import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.library.model.v2.SpdxPackage;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.enumerations.FileType;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.library.model.v2.license.SpdxNoneLicense;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class SpdxFileIngesterTest extends TestCase {
+
+	GenericModelObject gmo;
+	SpdxDocument doc;
+	SpdxPackage pkg;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		ModelRegistry.getModelRegistry().registerModel(new SpdxModelInfoV2_X());
+		DefaultModelStore.initialize(new MockModelStore(), "http://defaultdocument", new MockCopyManager());
+		gmo = new GenericModelObject();
+		doc = new SpdxDocument(gmo.getModelStore(), gmo.getDocumentUri(), gmo.getCopyManager(), true);
+		pkg = gmo.createPackage("SPDXRef-pkg", "package", new SpdxNoAssertionLicense(), "Copyright", new SpdxNoAssertionLicense())
+				.setDownloadLocation("NOASSERTION")
+				.setPackageVerificationCode(gmo.createPackageVerificationCode("0000e1c67a2d28fced849ee1bb76e7391b93eb12",
+						new ArrayList<>()))
+				.build();
+	}
+
+	private static ChecksumValue sha1(int i) {
+		return ChecksumValue.fromBytes(ByteBuffer.allocate(20).putInt(16, i).array());
+	}
+
+	public void testIngest() throws InvalidSPDXAnalysisException {
+		SpdxFile existing = gmo.createSpdxFile("SPDXRef-existing", "./existing.c", new SpdxNoAssertionLicense(),
+				Arrays.asList(new SpdxNoAssertionLicense()), "Copyright", gmo.createChecksum(ChecksumAlgorithm.SHA1, sha1(99)))
+				.build();
+		pkg.addFile(existing);
+		SpdxFileIngester ingester = new SpdxFileIngester(pkg).setBatchSize(2).setIdBlockSize(2)
+				.setDefaultCopyrightText("Copyright (c) Ingest");
+		long count = ingester.ingest(Arrays.asList(
+				new FileDescriptor("./a.c", sha1(1)).addFileType(FileType.SOURCE)
+						.addChecksum(ChecksumAlgorithm.MD5, ChecksumValue.fromHex("0123456789abcdef0123456789abcdef")),
+				new FileDescriptor("./b.c", sha1(2)).setCopyrightText("Copyright (c) B"),
+				new FileDescriptor("./a.c", sha1(3)),
+				new FileDescriptor("./existing.c", sha1(4)),
+				new FileDescriptor("./c.c", sha1(5)).setComment("comment")).iterator());
+		assertEquals(3, count);
+		assertEquals(4, pkg.getFiles().size());
+		Set<String> ids = new HashSet<>();
+		for (SpdxFile file:pkg.getFiles()) {
+			assertTrue(ids.add(file.getId()));
+			if ("./a.c".equals(file.getName().get())) {
+				assertEquals(sha1(1).toHex(), file.getSha1());
+				assertEquals(2, file.getChecksums().size());
+				assertEquals(new HashSet<>(Arrays.asList(FileType.SOURCE)), new HashSet<>(file.getFileTypes()));
+				assertEquals("Copyright (c) Ingest", file.getCopyrightText());
+			} else if ("./b.c".equals(file.getName().get())) {
+				assertEquals("Copyright (c) B", file.getCopyrightText());
+				// same properties as a file created through the builder
+				assertEquals(new HashSet<>(existing.getPropertyValueDescriptors()), new HashSet<>(file.getPropertyValueDescriptors()));
+				assertEquals(1, file.getLicenseInfoFromFiles().size());
+				assertEquals(new SpdxNoAssertionLicense(), file.getLicenseConcluded());
+			} else if ("./c.c".equals(file.getName().get())) {
+				assertEquals("comment", file.getComment().get());
+			}
+			assertTrue(file.verify().isEmpty());
+		}
+		assertTrue(pkg.verify().isEmpty());
+	}
+
+	public void testIngestLicenses() throws InvalidSPDXAnalysisException {
+		SpdxFileIngester ingester = new SpdxFileIngester(pkg);
+		ingester.ingest(Arrays.asList(new FileDescriptor("./default.c", sha1(1)),
+				new FileDescriptor("./none.c", sha1(2)).setLicenseConcluded(new SpdxNoneLicense())
+						.setLicenseInfosFromFile(Arrays.asList(new SpdxNoneLicense()))).iterator());
+		ingester.setDefaultLicenseConcluded(new SpdxNoneLicense())
+				.setDefaultLicenseInfosFromFile(Arrays.asList(new SpdxNoneLicense()))
+				.ingest(Arrays.asList(new FileDescriptor("./changed.c", sha1(3))).iterator());
+		assertEquals(3, pkg.getFiles().size());
+		for (SpdxFile file:pkg.getFiles()) {
+			if ("./default.c".equals(file.getName().get())) {
+				assertEquals(new SpdxNoAssertionLicense(), file.getLicenseConcluded());
+				assertEquals(Arrays.asList(new SpdxNoAssertionLicense()), new ArrayList<>(file.getLicenseInfoFromFiles()));
+			} else {
+				assertEquals(new SpdxNoneLicense(), file.getLicenseConcluded());
+				assertEquals(Arrays.asList(new SpdxNoneLicense()), new ArrayList<>(file.getLicenseInfoFromFiles()));
+			}
+		}
+	}
+
+	public void testIngestAssumeUnique() throws InvalidSPDXAnalysisException {
+		try (SpdxDocumentIndex index = SpdxDocumentIndex.build(doc)) {
+			long count = new SpdxFileIngester(pkg).setAssumeUnique(true).setBatchSize(7).setIdBlockSize(5)
+					.ingest(IntStream.range(0, 100).mapToObj(i -> new FileDescriptor("./file" + i + ".c", sha1(i))));
+			assertEquals(100, count);
+			assertEquals(100, pkg.getFiles().size());
+			assertEquals(100, index.getIdsByType(SpdxConstantsCompatV2.CLASS_SPDX_FILE).size());
+			Set<String> fileIds = index.getIdsByChecksum(ChecksumAlgorithm.SHA1, sha1(42));
+			assertEquals(1, fileIds.size());
+			assertEquals(new HashSet<>(Arrays.asList("SPDXRef-pkg")),
+					index.getIdsWithRelationshipTo(fileIds.iterator().next(), RelationshipType.CONTAINS));
+		}
+	}
+}
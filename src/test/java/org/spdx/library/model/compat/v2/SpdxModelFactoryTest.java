@@ -12,9 +12,13 @@ import org.spdx.library.model.v2.Checksum;
 import org.spdx.library.model.v2.ModelObjectV2;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.SpdxFile;
 import org.spdx.library.model.v2.SpdxModelFactoryCompatV2;
 import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.library.model.v2.license.ConjunctiveLicenseSet;
+import org.spdx.library.model.v2.pointer.StartEndPointer;
 import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IdType;
 
 import junit.framework.TestCase;
 
@@ -83,4 +87,41 @@ public class SpdxModelFactoryTest extends TestCase {
 		assertFalse(result2.isPresent());
 	}
 
+	public void testGetModelObjectV2Types() throws InvalidSPDXAnalysisException {
+		ModelObjectV2 result = SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, DOCUMENT_URI, ID1, 
+				SpdxConstantsCompatV2.CLASS_SPDX_FILE, copyManager, true);
+		assertTrue(result instanceof SpdxFile);
+		assertEquals(ID1, result.getId());
+		result = SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, DOCUMENT_URI, modelStore.getNextId(IdType.Anonymous), 
+				SpdxConstantsCompatV2.CLASS_SPDX_CONJUNCTIVE_LICENSE_SET, copyManager, true);
+		assertTrue(result instanceof ConjunctiveLicenseSet);
+		result = SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, DOCUMENT_URI, modelStore.getNextId(IdType.Anonymous), 
+				SpdxConstantsCompatV2.CLASS_POINTER_START_END_POINTER, copyManager, true);
+		assertTrue(result instanceof StartEndPointer);
+		result = SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, DOCUMENT_URI, ID2, 
+				SpdxConstantsCompatV2.CLASS_SPDX_DOCUMENT, copyManager, true);
+		assertTrue(result instanceof SpdxDocument);
+		try {
+			SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, DOCUMENT_URI, ID2, 
+					SpdxConstantsCompatV2.CLASS_SPDX_ELEMENT, copyManager, true);
+			fail("Expected exception for an abstract class");
+		} catch(InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		try {
+			SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, DOCUMENT_URI, ID2, 
+					SpdxConstantsCompatV2.ENUM_FILE_TYPE, copyManager, true);
+			fail("Expected exception for an enumeration");
+		} catch(InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		try {
+			SpdxModelFactoryCompatV2.getModelObjectV2(modelStore, DOCUMENT_URI, ID2, 
+					"NotAType", copyManager, true);
+			fail("Expected exception for an unknown type");
+		} catch(InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+	}
+
 }
@@ -0,0 +1,146 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.spdx.core.DefaultModelStore;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelRegistry;
+import org.spdx.library.model.v2.GenericModelObject;
+import org.spdx.library.model.v2.SpdxFile;
+import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.library.model.v2.SpdxPackage;
+import org.spdx.library.model.v2.SpdxPackageVerificationCode;
+import org.spdx.library.model.v2.SpdxPackageVerificationCodeCalculator;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.storage.IModelStore.IdType;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class SpdxPackageVerificationCodeCalculatorTest extends TestCase {
+
+	static final String[] SHA1S = new String[] {"c1ef456789abcdab0123456789abcdef01234567",
+			"0123456789ABCDEF0123456789ABCDEF01234567", "9123456789abcdef0123456789abcdef01234567",
+			"f0ef456789abcdab0123456789abcdef01234567", "ab23456789abcdef0123456789abcdef01234567"};
+	static final String EXCLUDED_FILE_NAME = "./file4";
+	static final String UNKNOWN_CODE = "0000000000000000000000000000000000000000";
+
+	GenericModelObject gmo;
+	ForkJoinPool pool;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		ModelRegistry.getModelRegistry().registerModel(new SpdxModelInfoV2_X());
+		DefaultModelStore.initialize(new MockModelStore(), "http://defaultdocument", new MockCopyManager());
+		gmo = new GenericModelObject();
+		pool = new ForkJoinPool(2);
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		pool.shutdown();
+	}
+
+	private SpdxFile createFile(int index, String sha1) throws InvalidSPDXAnalysisException {
+		return createFile(index, ChecksumAlgorithm.SHA1, sha1);
+	}
+
+	private SpdxFile createFile(int index, ChecksumAlgorithm algorithm, String value) throws InvalidSPDXAnalysisException {
+		return gmo.createSpdxFile(gmo.getModelStore().getNextId(IdType.SpdxId), "./file" + index,
+				new SpdxNoAssertionLicense(), Arrays.asList(new SpdxNoAssertionLicense()), "Copyright",
+				gmo.createChecksum(algorithm, value)).build();
+	}
+
+	private SpdxPackage createPackage(List<SpdxFile> files) throws InvalidSPDXAnalysisException {
+		return gmo.createPackage(gmo.getModelStore().getNextId(IdType.SpdxId), "package",
+				new SpdxNoAssertionLicense(), "Copyright", new SpdxNoAssertionLicense())
+				.setDownloadLocation("NOASSERTION")
+				.setFiles(files)
+				.setPackageVerificationCode(gmo.createPackageVerificationCode(UNKNOWN_CODE, Collections.emptyList()))
+				.build();
+	}
+
+	/**
+	 * Straightforward implementation of the verification code algorithm from the SPDX spec
+	 */
+	private static String expectedCode(List<String> sha1s) throws NoSuchAlgorithmException {
+		List<String> sorted = new ArrayList<>();
+		for (String sha1:sha1s) {
+			sorted.add(sha1.toLowerCase());
+		}
+		Collections.sort(sorted);
+		StringBuilder sb = new StringBuilder();
+		for (String sha1:sorted) {
+			sb.append(sha1);
+		}
+		byte[] digest = MessageDigest.getInstance("SHA-1").digest(sb.toString().getBytes(StandardCharsets.US_ASCII));
+		StringBuilder retval = new StringBuilder();
+		for (byte b:digest) {
+			retval.append(String.format("%02x", b));
+		}
+		return retval.toString();
+	}
+
+	public void testCalculate() throws InvalidSPDXAnalysisException, NoSuchAlgorithmException {
+		List<SpdxFile> files = new ArrayList<>();
+		for (int i = 0; i < SHA1S.length; i++) {
+			files.add(createFile(i, SHA1S[i]));
+		}
+		SpdxPackage pkg = createPackage(files);
+		SpdxPackageVerificationCodeCalculator calculator = new SpdxPackageVerificationCodeCalculator(pool, 2);
+		String expected = expectedCode(Arrays.asList(SHA1S));
+		assertEquals(expected, calculator.calculate(pkg));
+		assertEquals(expected, new SpdxPackageVerificationCodeCalculator().calculate(pkg));
+		List<String> included = new ArrayList<>(Arrays.asList(SHA1S));
+		included.remove(4);
+		assertEquals(expectedCode(included), calculator.calculate(pkg, Arrays.asList(new String[] {EXCLUDED_FILE_NAME})));
+		assertEquals(expectedCode(included), calculator.calculate(files.iterator(), Arrays.asList(new String[] {EXCLUDED_FILE_NAME})));
+	}
+
+	public void testMatches() throws InvalidSPDXAnalysisException, NoSuchAlgorithmException {
+		List<SpdxFile> files = new ArrayList<>();
+		for (int i = 0; i < SHA1S.length; i++) {
+			files.add(createFile(i, SHA1S[i]));
+		}
+		SpdxPackage pkg = createPackage(files);
+		SpdxPackageVerificationCodeCalculator calculator = new SpdxPackageVerificationCodeCalculator(pool, 3);
+		assertFalse(calculator.matches(pkg));
+		List<String> included = new ArrayList<>(Arrays.asList(SHA1S));
+		included.remove(4);
+		SpdxPackageVerificationCode code = gmo.createPackageVerificationCode(expectedCode(included).toUpperCase(),
+				Arrays.asList(new String[] {EXCLUDED_FILE_NAME}));
+		pkg.setPackageVerificationCode(code);
+		assertTrue(calculator.matches(pkg));
+		assertEquals(expectedCode(included), calculator.calculate(pkg));
+		code.getExcludedFileNames().clear();
+		assertFalse(calculator.matches(pkg));
+	}
+
+	public void testMissingSha1() throws InvalidSPDXAnalysisException {
+		List<SpdxFile> files = new ArrayList<>();
+		files.add(createFile(0, SHA1S[0]));
+		files.add(createFile(1, ChecksumAlgorithm.SHA256, "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef"));
+		SpdxPackage pkg = createPackage(files);
+		try {
+			new SpdxPackageVerificationCodeCalculator(pool, 1).calculate(pkg);
+			fail("Missing SHA1 should fail");
+		} catch (InvalidSPDXAnalysisException ex) {
+			assertTrue(ex.getMessage(), ex.getMessage().contains("./file1"));
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.model.compat.v2;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.spdx.core.DefaultModelStore;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelRegistry;
+import org.spdx.library.model.v2.GenericModelObject;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.library.model.v2.SpdxPackage;
+import org.spdx.library.model.v2.SpdxRelationshipGraph;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class SpdxRelationshipGraphTest extends TestCase {
+
+	GenericModelObject gmo;
+	SpdxDocument doc;
+	SpdxPackage app;
+	SpdxPackage lib1;
+	SpdxPackage lib2;
+	SpdxPackage lib3;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		ModelRegistry.getModelRegistry().registerModel(new SpdxModelInfoV2_X());
+		DefaultModelStore.initialize(new MockModelStore(), "http://defaultdocument", new MockCopyManager());
+		gmo = new GenericModelObject();
+		doc = new SpdxDocument(gmo.getModelStore(), gmo.getDocumentUri(), gmo.getCopyManager(), true);
+		app = createPackage("SPDXRef-app");
+		lib1 = createPackage("SPDXRef-lib1");
+		lib2 = createPackage("SPDXRef-lib2");
+		lib3 = createPackage("SPDXRef-lib3");
+		// app -> lib1 -> lib2 -> lib3, app -> lib3 (dynamic link)
+		app.addRelationship(gmo.createRelationship(lib1, RelationshipType.DEPENDS_ON, null));
+		lib1.addRelationship(gmo.createRelationship(lib2, RelationshipType.DEPENDS_ON, null));
+		lib2.addRelationship(gmo.createRelationship(lib3, RelationshipType.DEPENDS_ON, null));
+		app.addRelationship(gmo.createRelationship(lib3, RelationshipType.DYNAMIC_LINK, null));
+		doc.getDocumentDescribes().add(app);
+	}
+
+	private SpdxPackage createPackage(String id) throws InvalidSPDXAnalysisException {
+		return gmo.createPackage(id, id, new SpdxNoAssertionLicense(), "Copyright", new SpdxNoAssertionLicense())
+				.setDownloadLocation("NOASSERTION")
+				.setFilesAnalyzed(false)
+				.build();
+	}
+
+	public void testBuild() throws InvalidSPDXAnalysisException {
+		SpdxRelationshipGraph graph = SpdxRelationshipGraph.build(doc);
+		assertEquals(5, graph.getNodeCount());
+		assertEquals(3, graph.getEdgeCount(RelationshipType.DEPENDS_ON));
+		assertEquals(1, graph.getEdgeCount(RelationshipType.DYNAMIC_LINK));
+		assertEquals(1, graph.getEdgeCount(RelationshipType.DESCRIBES));
+		assertEquals(0, graph.getEdgeCount(RelationshipType.CONTAINS));
+		int appNode = graph.getNode("SPDXRef-app");
+		assertEquals("SPDXRef-app", graph.getId(appNode));
+		assertEquals(-1, graph.getNode("SPDXRef-unknown"));
+		int[] targets = graph.getTargets(appNode, RelationshipType.DEPENDS_ON);
+		assertEquals(1, targets.length);
+		assertEquals("SPDXRef-lib1", graph.getId(targets[0]));
+		int[] sources = graph.getSources(graph.getNode("SPDXRef-lib3"), RelationshipType.DEPENDS_ON);
+		assertEquals(1, sources.length);
+		assertEquals("SPDXRef-lib2", graph.getId(sources[0]));
+
+		SpdxRelationshipGraph dependsOnly = SpdxRelationshipGraph.build(doc, Arrays.asList(RelationshipType.DEPENDS_ON));
+		assertEquals(4, dependsOnly.getNodeCount());
+		assertEquals(Collections.singleton(RelationshipType.DEPENDS_ON), dependsOnly.getRelationshipTypes());
+	}
+
+	public void testTransitiveClosure() throws InvalidSPDXAnalysisException {
+		SpdxRelationshipGraph graph = SpdxRelationshipGraph.build(doc);
+		assertEquals(new HashSet<>(Arrays.asList("SPDXRef-lib1", "SPDXRef-lib2", "SPDXRef-lib3")),
+				graph.transitiveClosure("SPDXRef-app", RelationshipType.DEPENDS_ON));
+		assertEquals(new HashSet<>(Arrays.asList("SPDXRef-lib3")),
+				graph.transitiveClosure("SPDXRef-app", RelationshipType.DYNAMIC_LINK));
+		assertEquals(new HashSet<>(Arrays.asList("SPDXRef-app", "SPDXRef-lib1", "SPDXRef-lib2")),
+				graph.reverseTransitiveClosure("SPDXRef-lib3", RelationshipType.DEPENDS_ON));
+		assertEquals(new HashSet<>(Arrays.asList("SPDXRef-app", "SPDXRef-lib1", "SPDXRef-lib2", "SPDXRef-DOCUMENT")),
+				graph.reverseTransitiveClosure("SPDXRef-lib3"));
+		assertTrue(graph.transitiveClosure("SPDXRef-lib3").isEmpty());
+		assertTrue(graph.transitiveClosure("SPDXRef-unknown").isEmpty());
+	}
+
+	public void testShortestPath() throws InvalidSPDXAnalysisException {
+		SpdxRelationshipGraph graph = SpdxRelationshipGraph.build(doc);
+		assertEquals(Arrays.asList("SPDXRef-app", "SPDXRef-lib1", "SPDXRef-lib2", "SPDXRef-lib3"),
+				graph.shortestPath("SPDXRef-app", "SPDXRef-lib3", RelationshipType.DEPENDS_ON));
+		assertEquals(Arrays.asList("SPDXRef-app", "SPDXRef-lib3"),
+				graph.shortestPath("SPDXRef-app", "SPDXRef-lib3", RelationshipType.DEPENDS_ON, RelationshipType.DYNAMIC_LINK));
+		assertTrue(graph.shortestPath("SPDXRef-lib3", "SPDXRef-app").isEmpty());
+		assertEquals(Arrays.asList("SPDXRef-lib1"), graph.shortestPath("SPDXRef-lib1", "SPDXRef-lib1"));
+	}
+
+	public void testTopologicalOrder() throws InvalidSPDXAnalysisException {
+		SpdxRelationshipGraph graph = SpdxRelationshipGraph.build(doc);
+		List<String> order = graph.topologicalOrder();
+		assertEquals(5, order.size());
+		assertTrue(order.indexOf("SPDXRef-DOCUMENT") < order.indexOf("SPDXRef-app"));
+		assertTrue(order.indexOf("SPDXRef-app") < order.indexOf("SPDXRef-lib1"));
+		assertTrue(order.indexOf("SPDXRef-lib1") < order.indexOf("SPDXRef-lib2"));
+		assertTrue(order.indexOf("SPDXRef-lib2") < order.indexOf("SPDXRef-lib3"));
+		lib3.addRelationship(gmo.createRelationship(app, RelationshipType.DEPENDS_ON, null));
+		SpdxRelationshipGraph cyclic = SpdxRelationshipGraph.build(doc);
+		assertTrue(cyclic.transitiveClosure("SPDXRef-app", RelationshipType.DEPENDS_ON).contains("SPDXRef-app"));
+		try {
+			cyclic.topologicalOrder(RelationshipType.DEPENDS_ON);
+			fail("Cycle should fail");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		assertEquals(5, cyclic.topologicalOrder(RelationshipType.DYNAMIC_LINK).size());
+	}
+}
@@ -126,4 +126,54 @@ public class ConjunctiveLicenseSetTest extends TestCase {
 		verify = cls.verify();
 		assertEquals(0, verify.size());
 	}
+	
+	public void testFlattenedMembersAndHashCode() throws InvalidSPDXAnalysisException {
+		ConjunctiveLicenseSet cls = new ConjunctiveLicenseSet(modelStore, DOCUMENT_URI, modelStore.getNextId(IdType.Anonymous), copyManager, true);
+		cls.setMembers(Arrays.asList(NON_STD_LICENSES[3], NON_STD_LICENSES[0]));
+		ConjunctiveLicenseSet nested = new ConjunctiveLicenseSet(modelStore, DOCUMENT_URI, modelStore.getNextId(IdType.Anonymous), copyManager, true);
+		nested.setMembers(Arrays.asList(NON_STD_LICENSES[2], NON_STD_LICENSES[1]));
+		cls.addMember(nested);
+		assertEquals(Arrays.asList(NON_STD_LICENSES), cls.getFlattenedMembers());
+		ConjunctiveLicenseSet flat = new ConjunctiveLicenseSet(modelStore, DOCUMENT_URI, modelStore.getNextId(IdType.Anonymous), copyManager, true);
+		flat.setMembers(Arrays.asList(NON_STD_LICENSES));
+		assertEquals(flat.hashCode(), cls.hashCode());
+		assertTrue(flat.equals(cls));
+		assertTrue(cls.equals(flat));
+		int hash = cls.hashCode();
+		cls.removeMember(nested);
+		assertFalse(hash == cls.hashCode());
+		assertFalse(flat.equals(cls));
+		assertEquals(2, cls.getFlattenedMembers().size());
+		cls.addMember(NON_STD_LICENSES[1]);
+		cls.addMember(NON_STD_LICENSES[2]);
+		assertEquals(hash, cls.hashCode());
+		assertTrue(flat.equals(cls));
+		cls.setMembers(Arrays.asList(NON_STD_LICENSES[0]));
+		assertEquals(1, cls.getFlattenedMembers().size());
+		assertFalse(flat.equals(cls));
+	}
+	
+	public void testCanonicalFormExternalChanges() throws InvalidSPDXAnalysisException {
+		String id = modelStore.getNextId(IdType.Anonymous);
+		ConjunctiveLicenseSet cls = new ConjunctiveLicenseSet(modelStore, DOCUMENT_URI, id, copyManager, true);
+		ConjunctiveLicenseSet nested = new ConjunctiveLicenseSet(modelStore, DOCUMENT_URI, modelStore.getNextId(IdType.Anonymous), copyManager, true);
+		nested.setMembers(Arrays.asList(NON_STD_LICENSES[1], NON_STD_LICENSES[2]));
+		cls.setMembers(Arrays.asList(NON_STD_LICENSES[0], nested));
+		ConjunctiveLicenseSet flat = new ConjunctiveLicenseSet(modelStore, DOCUMENT_URI, modelStore.getNextId(IdType.Anonymous), copyManager, true);
+		flat.setMembers(Arrays.asList(NON_STD_LICENSES[0], NON_STD_LICENSES[1], NON_STD_LICENSES[2]));
+		assertEquals(flat.hashCode(), cls.hashCode());
+		assertTrue(cls.equals(flat));
+		// change to a nested set
+		nested.addMember(NON_STD_LICENSES[3]);
+		assertEquals(4, cls.getFlattenedMembers().size());
+		assertFalse(cls.equals(flat));
+		flat.getMembers().add(NON_STD_LICENSES[3]);
+		assertEquals(flat.hashCode(), cls.hashCode());
+		assertTrue(cls.equals(flat));
+		// change through another instance for the same set
+		ConjunctiveLicenseSet cls2 = (ConjunctiveLicenseSet) SpdxModelFactoryCompatV2.createModelObjectV2(modelStore, DOCUMENT_URI, id, SpdxConstantsCompatV2.CLASS_SPDX_CONJUNCTIVE_LICENSE_SET, copyManager);
+		cls2.removeMember(nested);
+		assertEquals(Arrays.asList(NON_STD_LICENSES[0]), cls.getFlattenedMembers());
+		assertFalse(cls.equals(flat));
+	}
 }
@@ -1,13 +1,20 @@
 package org.spdx.library.model.compat.v2.license;
 
+import java.util.Arrays;
+
 import org.spdx.core.DefaultModelStore;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.core.ModelRegistry;
 import org.spdx.library.model.compat.v2.MockCopyManager;
 import org.spdx.library.model.compat.v2.MockModelStore;
+import org.spdx.library.model.v2.GenericModelObject;
+import org.spdx.library.model.v2.SpdxFile;
 import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.license.AnyLicenseInfo;
 import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
 import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IdType;
 
 import junit.framework.TestCase;
 
@@ -32,5 +39,30 @@ public class SpdxNoAssertionLicenseTest extends TestCase {
 		assertTrue(l1.equals(l2));
 		assertTrue(l2.equals(l1));
 	}
+	
+	public void testSharedInstance() throws InvalidSPDXAnalysisException {
+		GenericModelObject gmo = new GenericModelObject();
+		SpdxFile file = gmo.createSpdxFile(gmo.getModelStore().getNextId(IdType.SpdxId), "fileName", 
+				new SpdxNoAssertionLicense(gmo.getModelStore(), gmo.getDocumentUri()), 
+				Arrays.asList(new AnyLicenseInfo[] {new SpdxNoAssertionLicense()}), "Copyright", 
+				gmo.createChecksum(ChecksumAlgorithm.SHA1, "1123456789abcdef0123456789abcdef01234567")).build();
+		assertSame(SpdxNoAssertionLicense.getInstance(), file.getLicenseConcluded());
+		assertSame(file.getLicenseConcluded(), file.getLicenseConcluded());
+		assertSame(SpdxNoAssertionLicense.getInstance(), file.getLicenseInfoFromFiles().iterator().next());
+	}
 
+	public void testDefaultInstance() throws InvalidSPDXAnalysisException {
+		GenericModelObject gmo = new GenericModelObject();
+		SpdxFile file = gmo.createSpdxFile(gmo.getModelStore().getNextId(IdType.SpdxId), "fileName",
+				new SpdxNoAssertionLicense(), Arrays.asList(new AnyLicenseInfo[] {new SpdxNoAssertionLicense()}), "Copyright",
+				gmo.createChecksum(ChecksumAlgorithm.SHA1, "1123456789abcdef0123456789abcdef01234567")).build();
+		file.setStrict(false);
+		file.setLicenseConcluded(null);
+		// the NOASSERTION license returned when no value is stored belongs to the model store and document of the file
+		AnyLicenseInfo concluded = file.getLicenseConcluded();
+		assertEquals(new SpdxNoAssertionLicense(), concluded);
+		assertSame(file.getModelStore(), concluded.getModelStore());
+		assertEquals(file.getDocumentUri(), concluded.getDocumentUri());
+		assertSame(concluded, file.getLicenseConcluded());
+	}
 }
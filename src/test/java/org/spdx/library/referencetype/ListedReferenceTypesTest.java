@@ -0,0 +1,52 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.library.referencetype;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ListedReferenceTypesTest extends TestCase {
+	
+	static final String PURL_URI = SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "purl";
+
+	public void testGetListedReferenceTypes() {
+		ListedReferenceTypes listed = ListedReferenceTypes.getListedReferenceTypes();
+		assertSame(listed, ListedReferenceTypes.getListedReferenceTypes());
+		ListedReferenceTypes reset = ListedReferenceTypes.resetListedReferenceTypes();
+		assertSame(reset, ListedReferenceTypes.getListedReferenceTypes());
+	}
+	
+	public void testIsListedReferenceType() throws URISyntaxException {
+		ListedReferenceTypes listed = ListedReferenceTypes.getListedReferenceTypes();
+		assertTrue(listed.isListedReferenceType(new URI(PURL_URI)));
+		assertTrue(listed.isListedReferenceType(PURL_URI));
+		assertTrue(listed.isListedReferenceType(SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "maven-central"));
+		assertFalse(listed.isListedReferenceType(SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "notAType"));
+		assertFalse(listed.isListedReferenceType("http://example.com/purl"));
+		assertFalse(listed.isListedReferenceType(SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX));
+	}
+	
+	public void testGetListedReferenceName() throws URISyntaxException, InvalidSPDXAnalysisException {
+		ListedReferenceTypes listed = ListedReferenceTypes.getListedReferenceTypes();
+		assertEquals("purl", listed.getListedReferenceName(new URI(PURL_URI)));
+		try {
+			listed.getListedReferenceName(new URI("http://example.com/purl"));
+			fail("Non listed reference type URI should fail");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		assertEquals(new URI(PURL_URI), listed.getListedReferenceUri("purl"));
+		assertEquals(PURL_URI, listed.getListedReferenceTypeByName("purl").getIndividualURI());
+	}
+}
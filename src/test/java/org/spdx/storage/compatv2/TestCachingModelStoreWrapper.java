@@ -0,0 +1,125 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) 2024 Source Auditor Inc.
+ */
+package org.spdx.storage.compatv2;
+
+import static org.junit.Assert.*;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.core.ModelRegistry;
+import org.spdx.library.model.compat.v2.MockCopyManager;
+import org.spdx.library.model.compat.v2.MockModelStore;
+import org.spdx.library.model.v2.GenericSpdxElement;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.library.model.v2.SpdxModelInfoV2_X;
+import org.spdx.storage.IModelStore;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class TestCachingModelStoreWrapper {
+
+	static final String DOC_URI = "https://this/is/a/namespace";
+	static final String ID1 = "SPDXRef-1";
+	static final String ID2 = "SPDXRef-2";
+	static final String ID3 = "SPDXRef-3";
+
+	IModelStore baseStore;
+	CachingModelStoreWrapper wrapper;
+
+	@Before
+	public void setUp() throws InvalidSPDXAnalysisException {
+		ModelRegistry.getModelRegistry().registerModel(new SpdxModelInfoV2_X());
+		baseStore = new MockModelStore();
+		wrapper = new CachingModelStoreWrapper(baseStore, 2);
+		wrapper.create(DOC_URI, ID1, SpdxConstantsCompatV2.CLASS_SPDX_ELEMENT);
+		wrapper.create(DOC_URI, ID2, SpdxConstantsCompatV2.CLASS_SPDX_ELEMENT);
+		wrapper.create(DOC_URI, ID3, SpdxConstantsCompatV2.CLASS_SPDX_ELEMENT);
+	}
+
+	@Test
+	public void testGetValue() throws InvalidSPDXAnalysisException {
+		wrapper.setValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME, "name1");
+		assertEquals(Optional.of("name1"), wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME));
+		assertEquals(Optional.of("name1"), wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME));
+		assertFalse(wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.RDFS_PROP_COMMENT).isPresent());
+		assertFalse(wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.RDFS_PROP_COMMENT).isPresent());
+		assertEquals(2, wrapper.getHitCount());
+		assertEquals(2, wrapper.getMissCount());
+		wrapper.resetStatistics();
+		assertEquals(0, wrapper.getHitCount());
+		assertEquals(0, wrapper.getMissCount());
+	}
+
+	@Test
+	public void testInvalidation() throws InvalidSPDXAnalysisException {
+		wrapper.setValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME, "name1");
+		assertEquals(Optional.of("name1"), wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME));
+		wrapper.setValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME, "name2");
+		assertEquals(Optional.of("name2"), wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME));
+		wrapper.removeProperty(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME);
+		assertFalse(wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME).isPresent());
+		assertEquals(0, wrapper.getHitCount());
+
+		// updates made directly to the base store are only seen after invalidateAll
+		wrapper.setValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME, "name3");
+		assertEquals(Optional.of("name3"), wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME));
+		baseStore.setValue(CompatibleModelStoreWrapper.documentUriIdToUri(DOC_URI, ID1, false),
+				SpdxConstantsCompatV2.PROP_NAME, "name4");
+		assertEquals(Optional.of("name3"), wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME));
+		wrapper.invalidateAll();
+		assertEquals(Optional.of("name4"), wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME));
+	}
+
+	@Test
+	public void testCollectionInvalidation() throws InvalidSPDXAnalysisException {
+		wrapper.addValueToCollection(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_ATTRIBUTION_TEXT, "text1");
+		wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_ATTRIBUTION_TEXT);
+		assertEquals(1, wrapper.size());
+		wrapper.addValueToCollection(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_ATTRIBUTION_TEXT, "text2");
+		assertEquals(0, wrapper.size());
+		wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_ATTRIBUTION_TEXT);
+		wrapper.removeValueFromCollection(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_ATTRIBUTION_TEXT, "text1");
+		assertEquals(0, wrapper.size());
+		wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_ATTRIBUTION_TEXT);
+		wrapper.clearValueCollection(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_ATTRIBUTION_TEXT);
+		assertEquals(0, wrapper.size());
+		assertEquals(0, wrapper.collectionSize(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_ATTRIBUTION_TEXT));
+	}
+
+	@Test
+	public void testEviction() throws InvalidSPDXAnalysisException {
+		wrapper.setValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME, "name1");
+		wrapper.setValue(DOC_URI, ID2, SpdxConstantsCompatV2.PROP_NAME, "name2");
+		wrapper.setValue(DOC_URI, ID3, SpdxConstantsCompatV2.PROP_NAME, "name3");
+		wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME);
+		wrapper.getValue(DOC_URI, ID2, SpdxConstantsCompatV2.PROP_NAME);
+		wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME);	// ID2 is now least recently used
+		wrapper.getValue(DOC_URI, ID3, SpdxConstantsCompatV2.PROP_NAME);
+		assertEquals(2, wrapper.size());
+		wrapper.resetStatistics();
+		wrapper.getValue(DOC_URI, ID1, SpdxConstantsCompatV2.PROP_NAME);
+		assertEquals(1, wrapper.getHitCount());
+		wrapper.getValue(DOC_URI, ID2, SpdxConstantsCompatV2.PROP_NAME);
+		assertEquals(1, wrapper.getMissCount());
+	}
+
+	@Test
+	public void testModelObject() throws InvalidSPDXAnalysisException {
+		GenericSpdxElement element = new GenericSpdxElement(wrapper, DOC_URI, "SPDXRef-element", new MockCopyManager(), true);
+		element.setName("element");
+		assertEquals("element", element.getName().get());
+		assertEquals("element", element.getName().get());
+		assertEquals(1, wrapper.getHitCount());
+		element.setName("renamed");
+		assertEquals("renamed", element.getName().get());
+		wrapper.delete(DOC_URI, "SPDXRef-element");
+		assertEquals(0, wrapper.size());
+	}
+}
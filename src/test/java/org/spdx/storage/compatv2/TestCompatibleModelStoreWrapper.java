@@ -19,6 +19,7 @@ import org.spdx.library.model.compat.v2.MockModelStore;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxModelInfoV2_X;
 import org.spdx.storage.IModelStore;
+import org.spdx.storage.PropertyDescriptor;
 
 /**
  * @author Gary O'Neall
@@ -115,5 +116,63 @@ public class TestCompatibleModelStoreWrapper {
 		assertEquals(ID, CompatibleModelStoreWrapper.objectUriToId(false, OBJECT_URI, DOC_DOC_URI));
 		assertEquals(ANON_ID, CompatibleModelStoreWrapper.objectUriToId(true, ANON_ID, DOC_DOC_URI));
 	}
-
+	
+	@Test
+	public void testUriConversionCache() throws InvalidSPDXAnalysisException {
+		String objectUri = CompatibleModelStoreWrapper.documentUriIdToUri(DOC_DOC_URI, ID, false);
+		assertEquals(OBJECT_URI, objectUri);
+		assertSame(objectUri, CompatibleModelStoreWrapper.documentUriIdToUri(DOC_DOC_URI, new String(ID), false));
+		String id = CompatibleModelStoreWrapper.objectUriToId(false, OBJECT_URI, DOC_DOC_URI);
+		assertEquals(ID, id);
+		assertSame(id, CompatibleModelStoreWrapper.objectUriToId(false, new String(OBJECT_URI), DOC_DOC_URI));
+		try {
+			CompatibleModelStoreWrapper.objectUriToId(false, OBJECT_URI, LICENSE_DOC_URI2 + "other");
+			fail("Object URI outside of the document namespace should fail");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		UriConversionCache cache = new UriConversionCache(2, 2);
+		assertEquals("v1", cache.put("doc1", "k1", "v1"));
+		assertEquals("v1", cache.put("doc1", "k1", "other"));
+		cache.put("doc1", "k2", "v2");
+		cache.put("doc1", "k3", "v3");
+		assertNull(cache.get("doc1", "k1"));
+		assertEquals("v3", cache.get("doc1", "k3"));
+		// entries looked up since the clock last passed them are kept
+		assertEquals("v3", cache.get("doc1", "k3"));
+		cache.put("doc1", "k4", "v4");
+		assertNull(cache.get("doc1", "k2"));
+		assertEquals("v3", cache.get("doc1", "k3"));
+		cache.put("doc2", "k1", "v1");
+		cache.put("doc3", "k1", "v1");
+		assertNull(cache.get("doc2", "k1"));
+		assertEquals("v3", cache.get("doc1", "k3"));
+		assertEquals("v1", cache.get("doc3", "k1"));
+	}
+	
+	@Test
+	public void testPropNameToPropDescriptor() {
+		PropertyDescriptor name = CompatibleModelStoreWrapper.propNameToPropDescriptor(SpdxConstantsCompatV2.PROP_NAME.getName());
+		assertEquals(SpdxConstantsCompatV2.PROP_NAME, name);
+		assertSame(name, CompatibleModelStoreWrapper.propNameToPropDescriptor("name"));
+		assertEquals(SpdxConstantsCompatV2.RDFS_PROP_COMMENT, CompatibleModelStoreWrapper.propNameToPropDescriptor("comment"));
+		PropertyDescriptor undeclared = CompatibleModelStoreWrapper.propNameToPropDescriptor("undeclaredProperty");
+		assertEquals(new PropertyDescriptor("undeclaredProperty", CompatibleModelStoreWrapper.SPDX_NAMESPACE), undeclared);
+		assertSame(undeclared, CompatibleModelStoreWrapper.propNameToPropDescriptor("undeclaredProperty"));
+		assertEquals(new PropertyDescriptor("seeAlso", CompatibleModelStoreWrapper.RDFS_NAMESPACE), 
+				CompatibleModelStoreWrapper.propNameToPropDescriptor("seeAlso"));
+		try {
+			name.setName("changed");
+			fail("Shared property descriptor was modified");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		try {
+			undeclared.setNameSpace("http://changed#");
+			fail("Shared property descriptor was modified");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		assertEquals(SpdxConstantsCompatV2.PROP_NAME, CompatibleModelStoreWrapper.propNameToPropDescriptor("name"));
+	}
 }